@@ -0,0 +1,55 @@
+// Нагрузочный тест для сравнения сервлетного (MVC + JPA) и реактивного (WebFlux + R2DBC) пути чтения.
+// Запуск: k6 run -e BASE_URL=http://localhost:8082 -e RATE=400 benchmarks/k6/read-load.js
+// Токен выпускает основное приложение (AUTH_URL), запросы чтения отправляются на BASE_URL:
+// http://localhost:8080 для основного приложения и http://localhost:8082 для модуля reactive-read.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const AUTH_URL = __ENV.AUTH_URL || 'http://localhost:8080';
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const RATE = parseInt(__ENV.RATE || '400');
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    thresholds: {
+        'http_req_duration{type:list}': ['p(95)<500'],
+        'http_req_duration{type:task}': ['p(95)<200'],
+        'http_req_failed': ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${AUTH_URL}/auth/login`,
+        JSON.stringify({ email: 'user1@example.com', password: 'user1' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'login succeeded': (r) => r.status === 200 });
+    return { token: response.body };
+}
+
+export default function (data) {
+    const params = (type) => ({ headers: { Authorization: `Bearer ${data.token}` }, tags: { type } });
+    const id = 1 + Math.floor(Math.random() * 50);
+    const roll = Math.random();
+
+    let response;
+    if (roll < 0.45) {
+        // Страница задач текущего пользователя: запрос страницы и при необходимости подсчет
+        response = http.get(`${BASE_URL}/tasks?page=${Math.floor(Math.random() * 5)}&size=20`, params('list'));
+    } else if (roll < 0.8) {
+        // Задача по ID: сначала выбирается версия, затем задача
+        response = http.get(`${BASE_URL}/tasks/${id}`, params('task'));
+    } else {
+        response = http.get(`${BASE_URL}/comments/task/${id}?size=20`, params('comments'));
+    }
+    check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
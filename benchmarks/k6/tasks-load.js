@@ -0,0 +1,60 @@
+// Нагрузочный тест для сравнения режимов платформенных и виртуальных потоков.
+// Запуск: k6 run -e BASE_URL=http://localhost:8080 -e RATE=400 benchmarks/k6/tasks-load.js
+// Тест выдерживает постоянную интенсивность запросов (RATE в секунду) независимо от времени ответа,
+// поэтому насыщение сервера видно по росту задержек, ошибкам 503 и пропущенным итерациям (dropped_iterations).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '400');
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    thresholds: {
+        'http_req_duration{type:list}': ['p(95)<500'],
+        'http_req_duration{type:task}': ['p(95)<200'],
+        'http_req_failed': ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email: 'admin@example.com', password: 'admin' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'login succeeded': (r) => r.status === 200 });
+    return { token: response.body };
+}
+
+export default function (data) {
+    const params = (type) => ({ headers: { Authorization: `Bearer ${data.token}` }, tags: { type } });
+    const id = 1 + Math.floor(Math.random() * 50);
+    const roll = Math.random();
+
+    let response;
+    if (roll < 0.45) {
+        // Страница задач с фильтром: запрос к базе данных на каждый вызов
+        response = http.get(`${BASE_URL}/tasks/admin?page=${Math.floor(Math.random() * 5)}&size=20&status=PENDING`,
+            params('list'));
+    } else if (roll < 0.8) {
+        // Задача по ID: обслуживается кэшем второго уровня
+        response = http.get(`${BASE_URL}/tasks/admin/${id}`, params('task'));
+    } else if (roll < 0.97) {
+        response = http.get(`${BASE_URL}/comments/admin/task/${id}?size=20`, params('comments'));
+    } else {
+        // Вход пользователя: проверка пароля BCrypt нагружает процессор
+        response = http.post(`${BASE_URL}/auth/login`,
+            JSON.stringify({ email: 'admin@example.com', password: 'admin' }),
+            { headers: { 'Content-Type': 'application/json' }, tags: { type: 'login' } });
+    }
+    check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
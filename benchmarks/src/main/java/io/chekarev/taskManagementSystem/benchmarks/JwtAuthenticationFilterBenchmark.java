@@ -0,0 +1,78 @@
+package io.chekarev.taskManagementSystem.benchmarks;
+
+import io.chekarev.taskManagementSystem.auth.JwtAuthenticationFilter;
+import io.chekarev.taskManagementSystem.auth.JwtUtil;
+import io.chekarev.taskManagementSystem.auth.UserPrincipalCache;
+import io.chekarev.taskManagementSystem.domain.entities.User;
+import io.chekarev.taskManagementSystem.models.Role;
+import io.chekarev.taskManagementSystem.services.impl.UserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость аутентификации одного запроса фильтром JwtAuthenticationFilter без базы данных:
+ * проверка токена, получение пользователя и заполнение контекста безопасности.
+ * Сервис пользователей заменен заглушкой, которая возвращает заранее созданного пользователя.
+ * verifiedTokenCacheSize = 0 отключает кэш проверенных токенов.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "MySuperSecretKeyThatIsAtLeast32Characters!";
+    private static final String EMAIL = "user1@example.com";
+
+    @Param({"0", "10000"})
+    private long verifiedTokenCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() throws Exception {
+        User user = new User();
+        user.setId(2L);
+        user.setEmail(EMAIL);
+        user.setName("User One");
+        user.setPassword("user1");
+        user.setRole(Role.USER);
+
+        UserDetailsService userDetailsService = new UserDetailsService(null) {
+            @Override
+            public UserDetails loadUserByUsername(String email) {
+                return user;
+            }
+        };
+
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 600_000, verifiedTokenCacheSize);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService,
+                new UserPrincipalCache(10_000, Duration.ofMinutes(1)), new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest("GET", "/tasks/my");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generate(EMAIL));
+        response = new MockHttpServletResponse();
+        filterChain = (servletRequest, servletResponse) -> { };
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        filter.doFilter(request, response, filterChain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,44 @@
+package io.chekarev.taskManagementSystem.benchmarks;
+
+import io.chekarev.taskManagementSystem.auth.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость выпуска и проверки JWT-токена на один запрос.
+ * verifiedTokenCacheSize = 0 соответствует проверке без кэша (подпись и claims разбираются на каждый запрос),
+ * ненулевое значение - повторной проверке того же токена с кэшем проверенных токенов.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "MySuperSecretKeyThatIsAtLeast32Characters!";
+
+    @Param({"0", "10000"})
+    private long verifiedTokenCacheSize;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil(SECRET, 600_000, verifiedTokenCacheSize);
+        token = jwtUtil.generate("user1@example.com");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generate("user1@example.com");
+    }
+
+    @Benchmark
+    public String verifyAndGetEmail() {
+        return jwtUtil.verifyAndGetEmail(token);
+    }
+}
@@ -0,0 +1,113 @@
+package io.chekarev.taskManagementSystem.benchmarks;
+
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.UserDto;
+import io.chekarev.taskManagementSystem.domain.entities.Comment;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import io.chekarev.taskManagementSystem.domain.entities.User;
+import io.chekarev.taskManagementSystem.domain.mappers.CommentMapper;
+import io.chekarev.taskManagementSystem.domain.mappers.TaskMapper;
+import io.chekarev.taskManagementSystem.domain.mappers.UserMapper;
+import io.chekarev.taskManagementSystem.models.Role;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость преобразований MapStruct между сущностями и DTO для задач, комментариев и пользователей.
+ * Используются сгенерированные реализации мапперов, те же, что и в приложении.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+    private final CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    private Task task;
+    private TaskDTO taskDTO;
+    private Comment comment;
+    private CommentDTO commentDTO;
+    private User user;
+    private UserDto userDto;
+
+    @Setup
+    public void setUp() {
+        User author = new User();
+        author.setId(1L);
+        author.setEmail("admin@example.com");
+        author.setPassword("admin");
+        author.setName("Admin User");
+        author.setRole(Role.ADMIN);
+
+        User assignee = new User();
+        assignee.setId(2L);
+        assignee.setEmail("user1@example.com");
+        assignee.setPassword("user1");
+        assignee.setName("User One");
+        assignee.setRole(Role.USER);
+
+        task = new Task();
+        task.setId(42L);
+        task.setTitle("Task 42");
+        task.setDescription("Description for task 42");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setPriority(TaskPriority.HIGH);
+        task.setAuthor(author);
+        task.setAssignee(assignee);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        taskDTO = taskMapper.toDto(task);
+
+        comment = new Comment();
+        comment.setId(7L);
+        comment.setTask(task);
+        comment.setUser(assignee);
+        comment.setText("Comment 7");
+        comment.setCreatedAt(LocalDateTime.now());
+        commentDTO = commentMapper.toDto(comment);
+
+        user = author;
+        userDto = userMapper.userToUserDto(user);
+    }
+
+    @Benchmark
+    public TaskDTO taskToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public Task taskToEntity() {
+        return taskMapper.toEntity(taskDTO);
+    }
+
+    @Benchmark
+    public CommentDTO commentToDto() {
+        return commentMapper.toDto(comment);
+    }
+
+    @Benchmark
+    public Comment commentToEntity() {
+        return commentMapper.toEntity(commentDTO);
+    }
+
+    @Benchmark
+    public UserDto userToDto() {
+        return userMapper.userToUserDto(user);
+    }
+
+    @Benchmark
+    public User userToEntity() {
+        return userMapper.userDtoToUser(userDto);
+    }
+}
@@ -0,0 +1,58 @@
+package io.chekarev.taskManagementSystem.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость сериализации страницы задач {@code Page<TaskDTO>} в JSON, как в ответах TaskController.
+ * ObjectMapper создается с настройками по умолчанию Spring. size - количество задач на странице.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<TaskDTO> tasks = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            TaskDTO task = new TaskDTO();
+            task.setId((long) i);
+            task.setTitle("Task " + i);
+            task.setDescription("Description for task " + i);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setAuthorId((long) (1 + i % 3));
+            task.setAssigneeId(i % 3 == 0 ? null : (long) (1 + (i + 1) % 3));
+            tasks.add(task);
+        }
+        page = new PageImpl<>(tasks, PageRequest.of(0, size), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,63 @@
+package io.chekarev.taskManagementSystem.benchmarks;
+
+import io.chekarev.taskManagementSystem.ratelimit.RateLimitProperties;
+import io.chekarev.taskManagementSystem.ratelimit.RateLimiter;
+import io.chekarev.taskManagementSystem.ratelimit.RouteGroup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость проверки ограничения частоты запросов: определение группы маршрутов и получение токена.
+ * Ограничения заданы заведомо большими, чтобы запросы не отклонялись и измерялся обычный путь.
+ * keys = 1 — все потоки обращаются к одной корзине (конкуренция за compareAndSet),
+ * keys = 100000 — запросы распределены по многим клиентам (промахи кэша процессора при чтении карты корзин).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final String REQUEST_URI = "/tasks/admin";
+
+    @Param({"1", "100000"})
+    private int keys;
+
+    private RateLimiter rateLimiter;
+    private String[] clientKeys;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(2L * keys);
+        properties.setAdmin(new RateLimitProperties.Limit(Integer.MAX_VALUE / 2, 1e9));
+        rateLimiter = new RateLimiter(properties, System::nanoTime, new SimpleMeterRegistry());
+        clientKeys = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            clientKeys[i] = "user" + i + "@example.com";
+            rateLimiter.tryAcquire(RouteGroup.ADMIN, clientKeys[i]);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long tryAcquire() {
+        return acquire();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long tryAcquireConcurrently() {
+        return acquire();
+    }
+
+    private long acquire() {
+        String key = clientKeys[ThreadLocalRandom.current().nextInt(keys)];
+        return rateLimiter.tryAcquire(RouteGroup.of(REQUEST_URI, 0), key);
+    }
+}
@@ -0,0 +1,88 @@
+package io.chekarev.taskManagementSystem.benchmarks;
+
+import io.chekarev.taskManagementSystem.TaskManagementSystemApplication;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.services.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность создания задач: по одной через TaskService.createTask (как POST /tasks/admin)
+ * и пакетом через TaskService.saveTasksInBulk (как POST /tasks/admin/bulk). Результат - задач в секунду.
+ * <p>
+ * В отличие от остальных бенчмарков, требует PostgreSQL (по умолчанию контейнер из docker-compose.yml):
+ * приложение запускается целиком с настройками из application.yml. Параметры подключения переопределяются
+ * системными свойствами spring.datasource.url, spring.datasource.username и spring.datasource.password.
+ * Созданные задачи удаляются после каждой итерации.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskBulkSaveBenchmark {
+
+    private static final int TASKS_PER_OPERATION = 100;
+    private static final String TITLE_PREFIX = "benchmark-bulk-";
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbcTemplate;
+    private List<TaskDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .properties("server.port=0", "management.server.port=0", "logging.aspect.mode=off", "logging.level.root=warn")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        tasks = new ArrayList<>(TASKS_PER_OPERATION);
+        for (int i = 0; i < TASKS_PER_OPERATION; i++) {
+            TaskDTO task = new TaskDTO();
+            task.setTitle(TITLE_PREFIX + i);
+            task.setDescription("Description for benchmark task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setAuthorId(1L);
+            task.setAssigneeId(2L);
+            tasks.add(task);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreatedTasks() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_OPERATION)
+    public Object singleItem() {
+        Object last = null;
+        for (TaskDTO task : tasks) {
+            last = taskService.createTask(task);
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_OPERATION)
+    public Object bulk() {
+        return taskService.saveTasksInBulk(tasks);
+    }
+}
@@ -0,0 +1,79 @@
+package io.chekarev.taskManagementSystem.benchmarks;
+
+import io.chekarev.taskManagementSystem.domain.entities.Comment;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import io.chekarev.taskManagementSystem.domain.entities.User;
+import io.chekarev.taskManagementSystem.specifications.TaskSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость построения предикатов TaskSpecification.withFilters через Criteria API Hibernate.
+ * SessionFactory создается без подключения к базе данных: метаданные JDBC не запрашиваются,
+ * а диалект задан явно. filters - набор заполненных фильтров (без фильтров, только статус, все четыре).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+
+    @Param({"none", "status", "all"})
+    private String filters;
+
+    private StandardServiceRegistry serviceRegistry;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private String status;
+    private String priority;
+    private String author;
+    private String assignee;
+
+    @Setup
+    public void setUp() {
+        serviceRegistry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", PostgreSQLDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.hbm2ddl.auto", "none")
+                .build();
+        sessionFactory = new MetadataSources(serviceRegistry)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Task.class)
+                .addAnnotatedClass(Comment.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        status = "none".equals(filters) ? null : "PENDING";
+        priority = "all".equals(filters) ? "HIGH" : null;
+        author = "all".equals(filters) ? "1" : null;
+        assignee = "all".equals(filters) ? "2" : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(serviceRegistry);
+    }
+
+    @Benchmark
+    public Predicate withFilters() {
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        Specification<Task> specification = TaskSpecification.withFilters(status, priority, author, assignee);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,17 @@
+package io.chekarev.taskManagementSystem.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Реактивный сервис чтения задач и комментариев (WebFlux и R2DBC).
+ * Работает с той же схемой базы данных, что и основное приложение, и обслуживает только запросы чтения;
+ * изменения выполняются основным приложением через JPA.
+ */
+@SpringBootApplication
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveReadApplication.class, args);
+    }
+}
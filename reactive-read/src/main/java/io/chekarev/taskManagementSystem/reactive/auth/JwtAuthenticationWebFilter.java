@@ -0,0 +1,118 @@
+package io.chekarev.taskManagementSystem.reactive.auth;
+
+import io.chekarev.taskManagementSystem.auth.JwtUtil;
+import io.chekarev.taskManagementSystem.reactive.repositories.UserReadRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реактивный фильтр аутентификации с использованием JWT.
+ * Повторяет поведение фильтра основного приложения: извлекает токен из заголовка Authorization,
+ * проверяет его и загружает пользователя из кэша или из базы данных. При ошибке проверки запрос
+ * продолжается без аутентификации, и доступ к защищенным эндпоинтам запрещается обработчиком безопасности.
+ * Время проверки токена записывается в таймер jwt.verification с тегом outcome (success или failure).
+ * Фильтр создается конфигурацией безопасности, а не как отдельный бин: WebFlux добавляет бины WebFilter
+ * в цепочку обработки всех запросов, и токен проверялся бы дважды.
+ */
+@Slf4j
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String VERIFICATION_TIMER = "jwt.verification";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserReadRepository userReadRepository;
+    private final UserPrincipalCache principalCache;
+    private final Timer verificationSuccessTimer;
+    private final Timer verificationFailureTimer;
+
+    public JwtAuthenticationWebFilter(JwtUtil jwtUtil, UserReadRepository userReadRepository,
+                                      UserPrincipalCache principalCache, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userReadRepository = userReadRepository;
+        this.principalCache = principalCache;
+        this.verificationSuccessTimer = verificationTimer(meterRegistry, "success");
+        this.verificationFailureTimer = verificationTimer(meterRegistry, "failure");
+    }
+
+    /**
+     * Обработка запроса. Проверка подписи токена выполняется в потоке обработки запроса: она не блокирует
+     * и в большинстве случаев обслуживается кэшем проверенных токенов. Пользователь загружается без блокировки.
+     *
+     * @param exchange Текущий запрос и ответ.
+     * @param chain Цепочка фильтров.
+     * @return Завершение обработки запроса.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+        String token = authHeader.substring(BEARER_PREFIX.length());
+
+        return authenticate(token)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(value -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(value)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+
+    /**
+     * Проверка токена и загрузка пользователя.
+     *
+     * @param token JWT-токен.
+     * @return Аутентификация пользователя или пустой результат, если токен или пользователь недействительны.
+     */
+    private Mono<Authentication> authenticate(String token) {
+        return Mono.fromCallable(() -> verifyAndGetEmail(token))
+                .flatMap(email -> principalCache.get(email, userReadRepository::findPrincipalByEmail)
+                        .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException("User not found with email: " + email))))
+                .<Authentication>map(principal ->
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()))
+                .onErrorResume(e -> {
+                    log.error("JWT authentication failed: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Проверка токена с замером времени выполнения.
+     *
+     * @param token JWT-токен.
+     * @return Адрес электронной почты пользователя.
+     */
+    private String verifyAndGetEmail(String token) {
+        long startTime = System.nanoTime();
+        try {
+            String email = jwtUtil.verifyAndGetEmail(token);
+            verificationSuccessTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            return email;
+        } catch (RuntimeException e) {
+            verificationFailureTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(VERIFICATION_TIMER)
+                .description("Время проверки подписи и срока действия JWT")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
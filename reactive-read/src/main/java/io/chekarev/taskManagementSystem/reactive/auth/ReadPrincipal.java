@@ -0,0 +1,26 @@
+package io.chekarev.taskManagementSystem.reactive.auth;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Пользователь, аутентифицированный по JWT. Содержит только поля, нужные для чтения задач и комментариев.
+ * Права совпадают с основным приложением: роль пользователя без префикса ROLE_.
+ *
+ * @param id ID пользователя.
+ * @param email email пользователя.
+ * @param role роль пользователя (ADMIN или USER).
+ */
+public record ReadPrincipal(Long id, String email, String role) {
+
+    /**
+     * Права пользователя.
+     *
+     * @return список из одной роли пользователя.
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+}
@@ -0,0 +1,66 @@
+package io.chekarev.taskManagementSystem.reactive.auth;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Ограниченный по размеру и времени жизни кэш пользователей, аутентифицированных по JWT.
+ * Использует те же настройки, что и кэш основного приложения, но хранит незавершенные загрузки:
+ * одновременные промахи по одному email выполняют один запрос к базе данных, и ни один поток не ждет его результата.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final AsyncCache<String, ReadPrincipal> cache;
+
+    /**
+     * Конструктор для инициализации кэша.
+     *
+     * @param maximumSize Максимальное количество пользователей в кэше.
+     * @param timeToLive Время жизни записи с момента загрузки.
+     */
+    public UserPrincipalCache(@Value("${spring.security.principal-cache.maximum-size}") long maximumSize,
+                              @Value("${spring.security.principal-cache.time-to-live}") Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Получение пользователя из кэша по email. При отсутствии записи пользователь загружается
+     * переданной функцией. Ошибки загрузки и пустой результат не кэшируются.
+     *
+     * @param email email пользователя.
+     * @param loader функция загрузки пользователя из базы данных.
+     * @return данные пользователя или пустой результат, если пользователь не найден.
+     */
+    public Mono<ReadPrincipal> get(String email, Function<String, Mono<ReadPrincipal>> loader) {
+        return Mono.fromFuture(() -> cache.get(email, (key, executor) -> loader.apply(key).toFuture()));
+    }
+
+    /**
+     * Количество обращений, обслуженных из кэша.
+     *
+     * @return количество попаданий.
+     */
+    public long getHitCount() {
+        return cache.synchronous().stats().hitCount();
+    }
+
+    /**
+     * Количество обращений, потребовавших загрузки пользователя из базы данных.
+     *
+     * @return количество промахов.
+     */
+    public long getMissCount() {
+        return cache.synchronous().stats().missCount();
+    }
+}
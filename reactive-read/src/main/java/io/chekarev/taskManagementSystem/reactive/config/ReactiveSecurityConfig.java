@@ -0,0 +1,77 @@
+package io.chekarev.taskManagementSystem.reactive.config;
+
+import com.nimbusds.jose.JOSEException;
+import io.chekarev.taskManagementSystem.auth.JwtUtil;
+import io.chekarev.taskManagementSystem.reactive.auth.JwtAuthenticationWebFilter;
+import io.chekarev.taskManagementSystem.reactive.auth.UserPrincipalCache;
+import io.chekarev.taskManagementSystem.reactive.repositories.UserReadRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Конфигурация безопасности реактивного сервиса чтения.
+ * Токены выпускает основное приложение; здесь они только проверяются с тем же секретом.
+ * Сессии не создаются, а отказ в доступе возвращается в том же формате, что и в основном приложении.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public JwtUtil jwtUtil(@Value("${spring.security.jwt.secret}") String jwtSecret,
+                           @Value("${spring.security.jwt.expirationTimeInMilliseconds}") int expirationTimeInMilliseconds,
+                           @Value("${spring.security.jwt.verified-token-cache-size}") long verifiedTokenCacheSize)
+            throws JOSEException {
+        return new JwtUtil(jwtSecret, expirationTimeInMilliseconds, verifiedTokenCacheSize);
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtil jwtUtil,
+                                                         UserReadRepository userReadRepository,
+                                                         UserPrincipalCache principalCache,
+                                                         MeterRegistry meterRegistry) {
+        JwtAuthenticationWebFilter jwtAuthenticationWebFilter =
+                new JwtAuthenticationWebFilter(jwtUtil, userReadRepository, principalCache, meterRegistry);
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges
+                        .matchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll() // Метрики для Prometheus (отдельный порт управления)
+                        .anyExchange().authenticated() // Для остальных запросов требуется аутентификация
+                )
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(authenticationEntryPoint()))
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private static ServerAuthenticationEntryPoint authenticationEntryPoint() {
+        return (exchange, authException) -> {
+            exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = ("{\"error\": \"Access Denied, Unauthorized.\", \"message\": \""
+                    + authException.getMessage() + "\"}").getBytes(StandardCharsets.UTF_8);
+            DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(body);
+            return exchange.getResponse().writeWith(Mono.just(buffer));
+        };
+    }
+}
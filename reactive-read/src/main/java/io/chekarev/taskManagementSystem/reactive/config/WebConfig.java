@@ -0,0 +1,22 @@
+package io.chekarev.taskManagementSystem.reactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Конфигурация WebFlux. Регистрирует разбор параметров page, size и sort в Pageable и Sort
+ * с теми же значениями по умолчанию, что и в основном приложении (страница 0, размер 20).
+ */
+@Configuration
+public class WebConfig implements WebFluxConfigurer {
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        ReactiveSortHandlerMethodArgumentResolver sortResolver = new ReactiveSortHandlerMethodArgumentResolver();
+        configurer.addCustomResolver(sortResolver,
+                new ReactivePageableHandlerMethodArgumentResolver(sortResolver));
+    }
+}
@@ -0,0 +1,31 @@
+package io.chekarev.taskManagementSystem.reactive.config.handlers;
+
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Преобразование ошибок чтения в ответы с текстом ошибки, как в ответах PATCH основного приложения:
+ * 404 для отсутствующей задачи и 400 для неверного курсора или свойства сортировки.
+ */
+@RestControllerAdvice
+public class ReadExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<String> handleNotFound(ResourceNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
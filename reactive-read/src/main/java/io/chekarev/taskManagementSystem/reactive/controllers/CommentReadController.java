@@ -0,0 +1,63 @@
+package io.chekarev.taskManagementSystem.reactive.controllers;
+
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.reactive.services.CommentReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Реактивный контроллер чтения комментариев. Пути, параметры и формат ответов совпадают с основным приложением;
+ * дополнительно комментарии задачи можно получить потоком в формате application/x-ndjson.
+ */
+@RestController
+@RequestMapping("/comments")
+@RequiredArgsConstructor
+public class CommentReadController {
+
+    private final CommentReadService commentReadService;
+
+    /**
+     * Получить комментарии по ID задачи для текущего пользователя с курсорной пагинацией.
+     *
+     * @param taskId ID задачи.
+     * @param cursor Курсор из предыдущего ответа (не передается для первой страницы).
+     * @param size Размер страницы.
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Страница комментариев для указанной задачи и курсор следующей страницы.
+     */
+    @GetMapping(value = "/task/{taskId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<CursorPage<CommentDTO>> getCommentsByTaskIdForCurrentUser(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction
+    ) {
+        return commentReadService.getCommentsByTaskId(taskId, cursor, size, direction);
+    }
+
+    /**
+     * Получить все комментарии задачи после позиции курсора потоком NDJSON: по одному объекту JSON в строке.
+     *
+     * @param taskId ID задачи.
+     * @param cursor Курсор из ответа основного режима (не передается для начала выборки).
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Поток комментариев задачи.
+     */
+    @GetMapping(value = "/task/{taskId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CommentDTO> streamCommentsByTaskIdForCurrentUser(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction
+    ) {
+        return commentReadService.streamCommentsByTaskId(taskId, cursor, direction);
+    }
+}
@@ -0,0 +1,92 @@
+package io.chekarev.taskManagementSystem.reactive.controllers;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.reactive.auth.ReadPrincipal;
+import io.chekarev.taskManagementSystem.reactive.services.TaskReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Реактивный контроллер чтения задач текущего пользователя.
+ * Пути, параметры и формат ответов совпадают с основным приложением; дополнительно список задач
+ * можно получить потоком в формате application/x-ndjson.
+ */
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskReadController {
+
+    private final TaskReadService taskReadService;
+
+    /**
+     * Получить задачи текущего пользователя с пагинацией.
+     *
+     * @param currentUser Текущий аутентифицированный пользователь.
+     * @param pageable Параметры пагинации.
+     * @return Страница задач текущего пользователя.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Page<TaskDTO>> getTasksForCurrentUser(
+            @AuthenticationPrincipal ReadPrincipal currentUser,
+            Pageable pageable
+    ) {
+        return taskReadService.getTasksForCurrentUser(currentUser.id(), pageable);
+    }
+
+    /**
+     * Получить все задачи текущего пользователя потоком NDJSON: по одному объекту JSON в строке.
+     * Параметры page и size не применяются, сортировка задается параметром sort.
+     *
+     * @param currentUser Текущий аутентифицированный пользователь.
+     * @param pageable Параметры сортировки.
+     * @return Поток задач текущего пользователя.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDTO> streamTasksForCurrentUser(
+            @AuthenticationPrincipal ReadPrincipal currentUser,
+            Pageable pageable
+    ) {
+        return taskReadService.streamTasksForCurrentUser(currentUser.id(), pageable.getSort());
+    }
+
+    /**
+     * Получить задачу текущего пользователя по ID.
+     * Поддерживает условные запросы с заголовками If-None-Match и If-Modified-Since: сначала выбираются
+     * только версия и время изменения задачи, и если они совпадают с заголовками запроса, задача не загружается.
+     *
+     * @param id ID задачи.
+     * @param exchange Текущий запрос.
+     * @return Детали задачи текущего пользователя или ответ 304 без тела, если задача не изменилась.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskDTO>> getTaskByIdForCurrentUser(@PathVariable Long id, ServerWebExchange exchange) {
+        return taskReadService.getTaskVersion(id).flatMap(version -> {
+            Instant lastModified = version.getUpdatedAt() != null
+                    ? version.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                    : Instant.MIN;
+            if (exchange.checkNotModified("\"" + version.getVersion() + "\"", lastModified)) {
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).<TaskDTO>build());
+            }
+            // Клиент может хранить задачу, но должен проверять ее актуальность при каждом обращении
+            return taskReadService.getTaskById(id).map(task -> ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(task));
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package io.chekarev.taskManagementSystem.reactive.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Репозиторий для чтения комментариев через R2DBC.
+ * Комментарии задания выбираются keyset-пагинацией по паре (created_at, id), как в основном приложении,
+ * и используют индекс по (task_id, created_at).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentReadRepository {
+
+    private static final String COMMENT_COLUMNS = "id, text, task_id, user_id, created_at";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Получение комментариев задания, расположенных после позиции курсора в заданном направлении:
+     * {@code (created_at, id) > (createdAt, id)} по возрастанию и {@code (created_at, id) < (createdAt, id)} по убыванию.
+     *
+     * @param taskId    идентификатор задания.
+     * @param direction направление сортировки по времени создания и ID.
+     * @param createdAt время создания последнего полученного комментария или null для начала выборки.
+     * @param id        идентификатор последнего полученного комментария или null для начала выборки.
+     * @param limit     максимальное количество комментариев или null, чтобы выбрать все оставшиеся комментарии.
+     * @return комментарии задания в порядке сортировки.
+     */
+    public Flux<CommentDTO> findByTaskId(Long taskId, Sort.Direction direction, LocalDateTime createdAt, Long id,
+                                         Integer limit) {
+        String order = direction.isAscending() ? "ASC" : "DESC";
+        String comparison = direction.isAscending() ? ">" : "<";
+        StringBuilder sql = new StringBuilder("SELECT " + COMMENT_COLUMNS + " FROM comments WHERE task_id = $1");
+        int parameter = 2;
+        if (createdAt != null) {
+            sql.append(" AND (created_at, id) ").append(comparison).append(" ($2, $3)");
+            parameter = 4;
+        }
+        sql.append(" ORDER BY created_at ").append(order).append(", id ").append(order);
+        if (limit != null) {
+            sql.append(" LIMIT $").append(parameter);
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind(0, taskId);
+        if (createdAt != null) {
+            spec = spec.bind(1, createdAt).bind(2, id);
+        }
+        if (limit != null) {
+            spec = spec.bind(parameter - 1, limit);
+        }
+        return spec.map(CommentReadRepository::toComment).all();
+    }
+
+    private static CommentDTO toComment(Readable row) {
+        CommentDTO comment = new CommentDTO();
+        comment.setId(row.get("id", Long.class));
+        comment.setText(row.get("text", String.class));
+        comment.setTaskId(row.get("task_id", Long.class));
+        comment.setUserId(row.get("user_id", Long.class));
+        comment.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        return comment;
+    }
+}
@@ -0,0 +1,144 @@
+package io.chekarev.taskManagementSystem.reactive.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Репозиторий для чтения заданий через R2DBC.
+ * Запросы совпадают с запросами основного приложения: выбираются только поля DTO из таблицы tasks,
+ * пользователи не загружаются.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskReadRepository {
+
+    private static final String TASK_COLUMNS =
+            "id, title, description, status, priority, author_id, assignee_id, version";
+
+    /**
+     * Свойства DTO, по которым разрешена сортировка, и соответствующие им столбцы таблицы tasks.
+     * Имена столбцов подставляются в текст запроса, поэтому другие значения не принимаются.
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "status", "status",
+            "priority", "priority",
+            "authorId", "author_id",
+            "assigneeId", "assignee_id",
+            "version", "version",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Получение заданий, в которых пользователь является автором или исполнителем.
+     * Для постраничного запроса LIMIT и OFFSET применяются на стороне базы данных; без пагинации
+     * выбираются все задания пользователя, и строки передаются подписчику по мере чтения.
+     *
+     * @param userId   идентификатор пользователя.
+     * @param pageable параметры пагинации и сортировки.
+     * @return задания пользователя в порядке сортировки.
+     * @throws IllegalArgumentException Если сортировка задана по неизвестному свойству.
+     */
+    public Flux<TaskDTO> findByParticipantId(Long userId, Pageable pageable) {
+        String sql = "SELECT " + TASK_COLUMNS + " FROM tasks WHERE author_id = $1 OR assignee_id = $1"
+                + orderBy(pageable.getSort())
+                + (pageable.isPaged() ? " LIMIT $2 OFFSET $3" : "");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind(0, userId);
+        if (pageable.isPaged()) {
+            spec = spec.bind(1, pageable.getPageSize()).bind(2, pageable.getOffset());
+        }
+        return spec.map(TaskReadRepository::toTask).all();
+    }
+
+    /**
+     * Количество заданий, в которых пользователь является автором или исполнителем.
+     *
+     * @param userId идентификатор пользователя.
+     * @return количество заданий.
+     */
+    public Mono<Long> countByParticipantId(Long userId) {
+        return databaseClient.sql("SELECT count(*) FROM tasks WHERE author_id = $1 OR assignee_id = $1")
+                .bind(0, userId)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Получение задания по ID.
+     *
+     * @param id идентификатор задания.
+     * @return задание или пустой результат, если задание не найдено.
+     */
+    public Mono<TaskDTO> findById(Long id) {
+        return databaseClient.sql("SELECT " + TASK_COLUMNS + " FROM tasks WHERE id = $1")
+                .bind(0, id)
+                .map(TaskReadRepository::toTask)
+                .one();
+    }
+
+    /**
+     * Получение версии и времени последнего изменения задания без загрузки самого задания.
+     *
+     * @param id идентификатор задания.
+     * @return версия задания или пустой результат, если задание не найдено.
+     */
+    public Mono<TaskVersionDTO> findVersionById(Long id) {
+        return databaseClient.sql("SELECT version, updated_at FROM tasks WHERE id = $1")
+                .bind(0, id)
+                .map(row -> new TaskVersionDTO(row.get("version", Long.class), row.get("updated_at", LocalDateTime.class)))
+                .one();
+    }
+
+    /**
+     * Построение ORDER BY по сортировке запроса. Для однозначного порядка строк при OFFSET
+     * в конец добавляется сортировка по ID, если ее нет в запросе; без сортировки задания упорядочиваются по ID.
+     *
+     * @param sort сортировка запроса.
+     * @return выражение ORDER BY.
+     */
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            hasId |= column.equals("id");
+        }
+        if (!hasId) {
+            orderBy.add("id ASC");
+        }
+        return orderBy.toString();
+    }
+
+    private static TaskDTO toTask(Readable row) {
+        return new TaskDTO(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                TaskPriority.valueOf(row.get("priority", String.class)),
+                row.get("author_id", Long.class),
+                row.get("assignee_id", Long.class),
+                row.get("version", Long.class));
+    }
+}
@@ -0,0 +1,33 @@
+package io.chekarev.taskManagementSystem.reactive.repositories;
+
+import io.chekarev.taskManagementSystem.reactive.auth.ReadPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Репозиторий для чтения пользователей через R2DBC.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserReadRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Поиск пользователя по email. Выбираются только ID, email и роль, пароль не загружается.
+     *
+     * @param email email пользователя.
+     * @return пользователь или пустой результат, если пользователь не найден.
+     */
+    public Mono<ReadPrincipal> findPrincipalByEmail(String email) {
+        return databaseClient.sql("SELECT id, email, role FROM users WHERE email = $1")
+                .bind(0, email)
+                .map((row, metadata) -> new ReadPrincipal(
+                        row.get("id", Long.class),
+                        row.get("email", String.class),
+                        row.get("role", String.class)))
+                .one();
+    }
+}
@@ -0,0 +1,35 @@
+package io.chekarev.taskManagementSystem.reactive.services;
+
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Интерфейс реактивного сервиса чтения комментариев.
+ */
+public interface CommentReadService {
+
+    /**
+     * Получить страницу комментариев для задачи по ID в порядке времени создания, используя keyset-пагинацию.
+     * Если курсор передан, направление берется из курсора, а параметр direction игнорируется.
+     *
+     * @param taskId ID задачи.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Страница комментариев и курсор для получения следующей страницы.
+     */
+    Mono<CursorPage<CommentDTO>> getCommentsByTaskId(Long taskId, String cursor, int size, Sort.Direction direction);
+
+    /**
+     * Получить все комментарии задачи после позиции курсора в виде потока.
+     *
+     * @param taskId ID задачи.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для начала выборки).
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Поток комментариев задачи.
+     */
+    Flux<CommentDTO> streamCommentsByTaskId(Long taskId, String cursor, Sort.Direction direction);
+}
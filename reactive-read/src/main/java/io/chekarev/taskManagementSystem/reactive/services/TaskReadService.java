@@ -0,0 +1,49 @@
+package io.chekarev.taskManagementSystem.reactive.services;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Интерфейс реактивного сервиса чтения задач.
+ */
+public interface TaskReadService {
+
+    /**
+     * Получить страницу задач, в которых пользователь является автором или исполнителем.
+     *
+     * @param userId ID пользователя.
+     * @param pageable Параметры пагинации.
+     * @return Страница задач пользователя с общим количеством элементов.
+     */
+    Mono<Page<TaskDTO>> getTasksForCurrentUser(Long userId, Pageable pageable);
+
+    /**
+     * Получить все задачи, в которых пользователь является автором или исполнителем, в виде потока.
+     *
+     * @param userId ID пользователя.
+     * @param sort Сортировка задач.
+     * @return Поток задач пользователя.
+     */
+    Flux<TaskDTO> streamTasksForCurrentUser(Long userId, Sort sort);
+
+    /**
+     * Получить задачу по ID.
+     *
+     * @param id ID задачи.
+     * @return Задача с заданным ID или ошибка ResourceNotFoundException, если задача не найдена.
+     */
+    Mono<TaskDTO> getTaskById(Long id);
+
+    /**
+     * Получить версию и время последнего изменения задачи.
+     *
+     * @param id ID задачи.
+     * @return Версия задачи или ошибка ResourceNotFoundException, если задача не найдена.
+     */
+    Mono<TaskVersionDTO> getTaskVersion(Long id);
+}
@@ -0,0 +1,138 @@
+package io.chekarev.taskManagementSystem.reactive.services.impl;
+
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+import io.chekarev.taskManagementSystem.pagination.KeysetCursor;
+import io.chekarev.taskManagementSystem.reactive.repositories.CommentReadRepository;
+import io.chekarev.taskManagementSystem.reactive.services.CommentReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Реализация реактивного сервиса чтения комментариев. Курсоры совместимы с основным приложением:
+ * курсор, полученный от одного сервиса, можно передать другому.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentReadServiceImpl implements CommentReadService {
+
+    private static final String CURSOR_SORT = "createdAt";
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final CommentReadRepository commentReadRepository;
+
+    /**
+     * Получить страницу комментариев для задачи по ее ID, упорядоченных по (created_at, id).
+     * Из базы запрашивается на одну запись больше размера страницы, чтобы определить наличие следующей страницы
+     * без подсчета. Курсор предыдущей страницы строится по первому комментарию страницы, как в основном приложении.
+     *
+     * @param taskId ID задачи.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Страница комментариев и курсоры следующей и предыдущей страниц
+     * или ошибка InvalidCursorException, если курсор имеет неверный формат.
+     */
+    @Override
+    public Mono<CursorPage<CommentDTO>> getCommentsByTaskId(Long taskId, String cursor, int size, Sort.Direction direction) {
+        return Mono.fromCallable(() -> decode(cursor))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(position -> {
+                    Sort.Direction sortDirection = position.map(KeysetCursor::getDirection).orElse(direction);
+                    boolean backward = position.map(KeysetCursor::isBackward).orElse(false);
+                    Sort.Direction fetchDirection = backward
+                            ? (sortDirection.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC)
+                            : sortDirection;
+                    int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+                    return find(taskId, fetchDirection, position.orElse(null), limit + 1)
+                            .collectList()
+                            .map(comments -> toPage(comments, limit, sortDirection, position.isPresent(), backward));
+                });
+    }
+
+    /**
+     * Получить все комментарии задачи после позиции курсора. Комментарии передаются клиенту по мере чтения
+     * из базы данных с учетом скорости клиента.
+     *
+     * @param taskId ID задачи.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для начала выборки).
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Поток комментариев задачи или ошибка InvalidCursorException, если курсор имеет неверный формат
+     * или указывает на предыдущую страницу.
+     */
+    @Override
+    public Flux<CommentDTO> streamCommentsByTaskId(Long taskId, String cursor, Sort.Direction direction) {
+        return Mono.fromCallable(() -> decode(cursor))
+                .doOnNext(position -> {
+                    if (position.isBackward()) {
+                        throw new InvalidCursorException("Invalid cursor format: " + cursor);
+                    }
+                })
+                .flatMapMany(position -> find(taskId, position.getDirection(), position, null))
+                .switchIfEmpty(Flux.defer(() -> find(taskId, direction, null, null)));
+    }
+
+    private Flux<CommentDTO> find(Long taskId, Sort.Direction direction, KeysetCursor position, Integer limit) {
+        if (position == null) {
+            return commentReadRepository.findByTaskId(taskId, direction, null, null, limit);
+        }
+        return commentReadRepository.findByTaskId(taskId, direction, parseCreatedAt(position), position.getId(), limit);
+    }
+
+    private static CursorPage<CommentDTO> toPage(List<CommentDTO> comments, int limit, Sort.Direction direction,
+                                                 boolean fromCursor, boolean backward) {
+        boolean hasMore = comments.size() > limit;
+        List<CommentDTO> pageComments = new ArrayList<>(hasMore ? comments.subList(0, limit) : comments);
+        if (backward) {
+            Collections.reverse(pageComments);
+        }
+        boolean hasNext = backward ? !pageComments.isEmpty() : hasMore;
+        boolean hasPrev = backward ? hasMore : fromCursor && !pageComments.isEmpty();
+        String nextCursor = hasNext ? cursorOf(pageComments.get(pageComments.size() - 1), direction, false) : null;
+        String prevCursor = hasPrev ? cursorOf(pageComments.get(0), direction, true) : null;
+        return new CursorPage<>(pageComments, pageComments.size(), hasNext, nextCursor, prevCursor);
+    }
+
+    private static String cursorOf(CommentDTO comment, Sort.Direction direction, boolean backward) {
+        return new KeysetCursor(CURSOR_SORT, direction, String.valueOf(comment.getCreatedAt()), comment.getId(), backward)
+                .encode();
+    }
+
+    /**
+     * Декодирование курсора комментариев.
+     *
+     * @param cursor Закодированный курсор.
+     * @return Позиция курсора или null, если курсор не передан.
+     * @throws InvalidCursorException Если курсор имеет неверный формат.
+     */
+    private static KeysetCursor decode(String cursor) {
+        KeysetCursor position = cursor != null && !cursor.isEmpty() ? KeysetCursor.decode(cursor) : null;
+        if (position != null && !CURSOR_SORT.equals(position.getSort())) {
+            throw new InvalidCursorException("Invalid cursor format: " + cursor);
+        }
+        return position;
+    }
+
+    private static LocalDateTime parseCreatedAt(KeysetCursor position) {
+        if (position.getValue() == null) {
+            throw new InvalidCursorException("Missing cursor value for createdAt");
+        }
+        try {
+            return LocalDateTime.parse(position.getValue());
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor value for createdAt: " + position.getValue(), e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.chekarev.taskManagementSystem.reactive.services.impl;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
+import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import io.chekarev.taskManagementSystem.reactive.repositories.TaskReadRepository;
+import io.chekarev.taskManagementSystem.reactive.services.TaskReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Реализация реактивного сервиса чтения задач. Повторяет контракт чтения основного приложения:
+ * сортировка по умолчанию по ID, общее количество задач считается только для неполной страницы.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskReadServiceImpl implements TaskReadService {
+
+    private static final Sort DEFAULT_SORT = Sort.by("id");
+
+    private final TaskReadRepository taskReadRepository;
+
+    /**
+     * Получить страницу задач пользователя. Как и в Spring Data JPA, запрос количества не выполняется,
+     * если страница первая и неполная или последняя: количество вычисляется по размеру страницы.
+     *
+     * @param userId ID пользователя.
+     * @param pageable Параметры пагинации.
+     * @return Страница задач пользователя с общим количеством элементов.
+     */
+    @Override
+    public Mono<Page<TaskDTO>> getTasksForCurrentUser(Long userId, Pageable pageable) {
+        Pageable sortedPageable = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSortOr(DEFAULT_SORT))
+                : pageable;
+        return taskReadRepository.findByParticipantId(userId, sortedPageable)
+                .collectList()
+                .flatMap(tasks -> total(userId, sortedPageable, tasks)
+                        .map(total -> new PageImpl<>(tasks, sortedPageable, total)));
+    }
+
+    /**
+     * Получить все задачи пользователя в виде потока. Задачи передаются клиенту по мере чтения из базы данных
+     * с учетом скорости клиента, количество не считается.
+     *
+     * @param userId ID пользователя.
+     * @param sort Сортировка задач.
+     * @return Поток задач пользователя.
+     */
+    @Override
+    public Flux<TaskDTO> streamTasksForCurrentUser(Long userId, Sort sort) {
+        return taskReadRepository.findByParticipantId(userId, Pageable.unpaged(sort.isSorted() ? sort : DEFAULT_SORT));
+    }
+
+    @Override
+    public Mono<TaskDTO> getTaskById(Long id) {
+        return taskReadRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id: " + id)));
+    }
+
+    @Override
+    public Mono<TaskVersionDTO> getTaskVersion(Long id) {
+        return taskReadRepository.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id: " + id)));
+    }
+
+    private Mono<Long> total(Long userId, Pageable pageable, List<TaskDTO> tasks) {
+        if (pageable.isUnpaged()) {
+            return Mono.just((long) tasks.size());
+        }
+        if (tasks.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !tasks.isEmpty())) {
+            return Mono.just(pageable.getOffset() + tasks.size());
+        }
+        return taskReadRepository.countByParticipantId(userId);
+    }
+}
@@ -0,0 +1,170 @@
+package io.chekarev.taskManagementSystem.reactive.controllers;
+
+import io.chekarev.taskManagementSystem.auth.JwtUtil;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
+import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.reactive.auth.ReadPrincipal;
+import io.chekarev.taskManagementSystem.reactive.auth.UserPrincipalCache;
+import io.chekarev.taskManagementSystem.reactive.config.ReactiveSecurityConfig;
+import io.chekarev.taskManagementSystem.reactive.repositories.UserReadRepository;
+import io.chekarev.taskManagementSystem.reactive.services.TaskReadService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@WebFluxTest(TaskReadController.class)
+@Import({ReactiveSecurityConfig.class, UserPrincipalCache.class, TaskReadControllerTest.MetricsConfig.class})
+@DisplayName("Реактивный контроллер чтения задач")
+class TaskReadControllerTest {
+
+    private static final String EMAIL = "user1@example.com";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TaskReadService taskReadService;
+
+    @MockBean
+    private UserReadRepository userReadRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = jwtUtil.generate(EMAIL);
+        Mockito.when(userReadRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Mono.just(new ReadPrincipal(2L, EMAIL, "USER")));
+    }
+
+    @Test
+    @DisplayName("Без токена доступ запрещается ответом 403 в формате основного приложения")
+    void shouldRejectRequestWithoutToken() {
+        webTestClient.get().uri("/tasks")
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Access Denied, Unauthorized.");
+    }
+
+    @Test
+    @DisplayName("С недействительным токеном запрос продолжается без аутентификации и получает 403")
+    void shouldRejectRequestWithInvalidToken() {
+        webTestClient.get().uri("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer invalid")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        Mockito.verifyNoInteractions(taskReadService);
+    }
+
+    @Test
+    @DisplayName("Страница задач текущего пользователя возвращается в формате JSON")
+    void shouldGetTasksForCurrentUser() {
+        Mockito.when(taskReadService.getTasksForCurrentUser(eq(2L), any(Pageable.class)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(task(1L)), PageRequest.of(0, 20), 1)));
+
+        webTestClient.get().uri("/tasks?page=0&size=20")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Задачи текущего пользователя передаются потоком NDJSON с сортировкой из запроса")
+    void shouldStreamTasksForCurrentUser() {
+        Mockito.when(taskReadService.streamTasksForCurrentUser(2L, Sort.by(Sort.Direction.DESC, "updatedAt")))
+                .thenReturn(Flux.just(task(1L), task(2L)));
+
+        webTestClient.get().uri("/tasks?sort=updatedAt,desc")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(TaskDTO.class).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Задача по ID возвращается с ETag, а повторный запрос с If-None-Match получает 304 без загрузки задачи")
+    void shouldGetTaskByIdWithETag() {
+        Mockito.when(taskReadService.getTaskVersion(1L))
+                .thenReturn(Mono.just(new TaskVersionDTO(3L, LocalDateTime.of(2024, 1, 1, 12, 0))));
+        Mockito.when(taskReadService.getTaskById(1L)).thenReturn(Mono.just(task(1L)));
+
+        webTestClient.get().uri("/tasks/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1);
+
+        webTestClient.get().uri("/tasks/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        Mockito.verify(taskReadService, Mockito.times(1)).getTaskById(1L);
+    }
+
+    @Test
+    @DisplayName("Для отсутствующей задачи возвращается 404")
+    void shouldReturnNotFoundForMissingTask() {
+        Mockito.when(taskReadService.getTaskVersion(99L))
+                .thenReturn(Mono.error(new ResourceNotFoundException("Task not found with id: 99")));
+
+        webTestClient.get().uri("/tasks/99")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static TaskDTO task(Long id) {
+        return new TaskDTO(id, "Task " + id, null, TaskStatus.PENDING, TaskPriority.HIGH, 2L, null, 0L);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.chekarev.taskManagementSystem.reactive.services.impl;
+
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+import io.chekarev.taskManagementSystem.pagination.KeysetCursor;
+import io.chekarev.taskManagementSystem.reactive.repositories.CommentReadRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentReadServiceImplTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private CommentReadRepository commentReadRepository;
+
+    @InjectMocks
+    private CommentReadServiceImpl commentReadService;
+
+    @Test
+    void getCommentsByTaskIdReturnsNextCursorWhenMoreCommentsExist() {
+        when(commentReadRepository.findByTaskId(1L, Sort.Direction.DESC, null, null, 3))
+                .thenReturn(Flux.just(comment(30L), comment(20L), comment(10L)));
+
+        StepVerifier.create(commentReadService.getCommentsByTaskId(1L, null, 2, Sort.Direction.DESC))
+                .assertNext(page -> {
+                    assertEquals(2, page.getSize());
+                    assertTrue(page.isHasNext());
+                    KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+                    assertEquals(20L, cursor.getId());
+                    assertEquals(Sort.Direction.DESC, cursor.getDirection());
+                    assertEquals(CREATED_AT.toString(), cursor.getValue());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getCommentsByTaskIdContinuesFromCursorInCursorDirection() {
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.ASC, CREATED_AT.toString(), 20L).encode();
+        when(commentReadRepository.findByTaskId(1L, Sort.Direction.ASC, CREATED_AT, 20L, 21))
+                .thenReturn(Flux.just(comment(30L)));
+
+        StepVerifier.create(commentReadService.getCommentsByTaskId(1L, cursor, 20, Sort.Direction.DESC))
+                .assertNext(page -> {
+                    assertEquals(1, page.getSize());
+                    assertFalse(page.isHasNext());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getCommentsByTaskIdRejectsCursorOfAnotherSort() {
+        String cursor = new KeysetCursor("id", Sort.Direction.ASC, "1", 1L).encode();
+
+        StepVerifier.create(commentReadService.getCommentsByTaskId(1L, cursor, 20, Sort.Direction.DESC))
+                .expectError(InvalidCursorException.class)
+                .verify();
+        verifyNoInteractions(commentReadRepository);
+    }
+
+    @Test
+    void streamCommentsByTaskIdSelectsAllCommentsWithoutLimit() {
+        when(commentReadRepository.findByTaskId(1L, Sort.Direction.ASC, null, null, null))
+                .thenReturn(Flux.just(comment(10L), comment(20L)));
+
+        StepVerifier.create(commentReadService.streamCommentsByTaskId(1L, null, Sort.Direction.ASC))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void getCommentsByTaskIdReturnsPreviousPageInPageOrder() {
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, CREATED_AT.toString(), 20L, true).encode();
+        when(commentReadRepository.findByTaskId(1L, Sort.Direction.ASC, CREATED_AT, 20L, 3))
+                .thenReturn(Flux.just(comment(30L), comment(40L), comment(50L)));
+
+        StepVerifier.create(commentReadService.getCommentsByTaskId(1L, cursor, 2, Sort.Direction.ASC))
+                .assertNext(page -> {
+                    assertEquals(40L, page.getContent().get(0).getId());
+                    assertEquals(30L, page.getContent().get(1).getId());
+                    assertTrue(page.isHasNext());
+                    assertEquals(30L, KeysetCursor.decode(page.getNextCursor()).getId());
+                    KeysetCursor prev = KeysetCursor.decode(page.getPrevCursor());
+                    assertTrue(prev.isBackward());
+                    assertEquals(Sort.Direction.DESC, prev.getDirection());
+                    assertEquals(40L, prev.getId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamCommentsByTaskIdRejectsPreviousPageCursor() {
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, CREATED_AT.toString(), 20L, true).encode();
+
+        StepVerifier.create(commentReadService.streamCommentsByTaskId(1L, cursor, Sort.Direction.DESC))
+                .expectError(InvalidCursorException.class)
+                .verify();
+        verifyNoInteractions(commentReadRepository);
+    }
+
+    private static CommentDTO comment(Long id) {
+        CommentDTO comment = new CommentDTO();
+        comment.setId(id);
+        comment.setTaskId(1L);
+        comment.setCreatedAt(CREATED_AT);
+        return comment;
+    }
+}
@@ -0,0 +1,98 @@
+package io.chekarev.taskManagementSystem.aspects;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гистограмма времени выполнения метода с экспоненциальными корзинами (степени двойки в наносекундах).
+ * Запись значения не блокирует потоки и не выделяет память, поэтому гистограмму можно обновлять на каждый вызов.
+ */
+public class LatencyHistogram {
+
+    private static final int MIN_EXPONENT = 10; // 1024 нс ~ 1 мкс
+    private static final int BUCKETS = 28;      // до 2^37 нс ~ 137 с
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Запись времени выполнения одного вызова.
+     *
+     * @param nanos время выполнения в наносекундах.
+     */
+    public void record(long nanos) {
+        buckets[bucketIndex(nanos)].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Оценка перцентиля по верхней границе корзины, в которую он попадает.
+     *
+     * @param percentile перцентиль от 0 до 1.
+     * @return оценка времени выполнения в наносекундах.
+     */
+    public long percentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundNanos(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Сброс накопленной статистики.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    private static int bucketIndex(long nanos) {
+        int exponent = 64 - Long.numberOfLeadingZeros(Math.max(nanos, 1) - 1);
+        return Math.min(Math.max(exponent - MIN_EXPONENT, 0), BUCKETS - 1);
+    }
+
+    private static long upperBoundNanos(int bucketIndex) {
+        return 1L << (bucketIndex + MIN_EXPONENT);
+    }
+}
@@ -1,44 +1,147 @@
 package io.chekarev.taskManagementSystem.aspects;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.stereotype.Component;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Aspect
-@Component
 @Slf4j
+@RequiredArgsConstructor
 public class LoggingAspect {
 
+    private final LoggingAspectProperties properties;
+    private final MethodLatencyRegistry latencyRegistry;
+
+    /**
+     * Логирование и замер времени выполнения методов контроллеров.
+     * @param joinPoint joinPoint
+     * @return result
+     * @throws Throwable Throwable
+     */
+    @Around("execution(* io.chekarev.taskManagementSystem.controllers..*(..))")
+    public Object logControllers(ProceedingJoinPoint joinPoint) throws Throwable {
+        return logAround(joinPoint, MethodLatencyRegistry.Layer.CONTROLLERS, properties.getSamplingRate().getControllers());
+    }
+
+    /**
+     * Логирование и замер времени выполнения методов сервисов.
+     * @param joinPoint joinPoint
+     * @return result
+     * @throws Throwable Throwable
+     */
+    @Around("execution(* io.chekarev.taskManagementSystem.services..*(..))")
+    public Object logServices(ProceedingJoinPoint joinPoint) throws Throwable {
+        return logAround(joinPoint, MethodLatencyRegistry.Layer.SERVICES, properties.getSamplingRate().getServices());
+    }
+
+    /**
+     * Логирование и замер времени выполнения методов репозиториев.
+     * @param joinPoint joinPoint
+     * @return result
+     * @throws Throwable Throwable
+     */
+    @Around("execution(* io.chekarev.taskManagementSystem.repositories..*(..))")
+    public Object logRepositories(ProceedingJoinPoint joinPoint) throws Throwable {
+        return logAround(joinPoint, MethodLatencyRegistry.Layer.REPOSITORIES, properties.getSamplingRate().getRepositories());
+    }
+
     /**
-     * Логирование выполнения метода и возврата результата.
+     * Замер времени выполнения метода и логирование выборки вызовов.
+     * Время каждого вызова записывается в гистограмму метода, а в лог попадает только доля вызовов,
+     * заданная для слоя. В режиме SUMMARY аргументы и результат описываются только типом и размером.
      * @param joinPoint joinPoint
+     * @param layer слой приложения
+     * @param samplingRate доля логируемых вызовов
      * @return result
      * @throws Throwable Throwable
      */
-    @Around("execution(* io.chekarev.taskManagementSystem.controllers..*(..)) || execution(* io.chekarev.taskManagementSystem.services..*(..)) || execution(* io.chekarev.taskManagementSystem.repositories..*(..))")
-    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        log.info("Method {} is about to execute with arguments: {}",
-                joinPoint.getSignature(),
-                joinPoint.getArgs());
+    private Object logAround(ProceedingJoinPoint joinPoint, MethodLatencyRegistry.Layer layer, double samplingRate) throws Throwable {
+        MethodLatencyRegistry.MethodStats stats = latencyRegistry.stats(
+                layer, joinPoint.getTarget().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+        LoggingAspectProperties.Mode mode = properties.getMode();
+        boolean sampled = mode != LoggingAspectProperties.Mode.OFF && log.isInfoEnabled()
+                && (samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate);
 
+        if (sampled && mode == LoggingAspectProperties.Mode.FULL) {
+            log.info("Method {} is about to execute with arguments: {}", stats.getName(), joinPoint.getArgs());
+        }
+
+        long startTime = System.nanoTime();
         Object result;
         try {
             result = joinPoint.proceed();
-
-            long endTime = System.currentTimeMillis();
-            log.info("Method {} executed successfully, returned: {}, execution time: {} ms",
-                    joinPoint.getSignature(),
-                    result,
-                    endTime - startTime);
         } catch (Throwable throwable) {
-            log.error("Exception in method {}: {}",
-                    joinPoint.getSignature(),
-                    throwable.getMessage());
+            stats.getHistogram().record(System.nanoTime() - startTime);
+            log.error("Exception in method {}: {}", stats.getName(), throwable.getMessage());
             throw throwable;
         }
+        long elapsedNanos = System.nanoTime() - startTime;
+        stats.getHistogram().record(elapsedNanos);
+
+        if (sampled) {
+            if (mode == LoggingAspectProperties.Mode.FULL) {
+                log.info("Method {} executed successfully, returned: {}, execution time: {} us",
+                        stats.getName(), result, elapsedNanos / 1_000);
+            } else {
+                log.info("Method {} executed successfully, arguments: {}, returned: {}, execution time: {} us",
+                        stats.getName(), summarizeArguments(joinPoint.getArgs()), summarize(result), elapsedNanos / 1_000);
+            }
+        }
         return result;
     }
+
+    /**
+     * Краткое описание аргументов метода: только тип и размер каждого аргумента.
+     */
+    private static String summarizeArguments(Object[] args) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object arg : args) {
+            joiner.add(summarize(arg));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Краткое описание значения без вызова toString: тип и, для коллекций, страниц, строк и массивов, размер.
+     */
+    private static String summarize(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        String type = value.getClass().getSimpleName();
+        if (value instanceof Page<?> page) {
+            return type + "(elements=" + page.getNumberOfElements() + ", total=" + page.getTotalElements() + ")";
+        }
+        if (value instanceof Slice<?> slice) {
+            return type + "(elements=" + slice.getNumberOfElements() + ")";
+        }
+        if (value instanceof Collection<?> collection) {
+            return type + "(size=" + collection.size() + ")";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return type + "(size=" + map.size() + ")";
+        }
+        if (value instanceof CharSequence charSequence) {
+            return type + "(length=" + charSequence.length() + ")";
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.map(content -> "Optional(" + summarize(content) + ")").orElse("Optional.empty");
+        }
+        if (value.getClass().isArray()) {
+            return type + "(length=" + Array.getLength(value) + ")";
+        }
+        return type;
+    }
 }
@@ -0,0 +1,50 @@
+package io.chekarev.taskManagementSystem.aspects;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки аспекта логирования.
+ */
+@Data
+@ConfigurationProperties(prefix = "logging.aspect")
+public class LoggingAspectProperties {
+
+    /**
+     * Режим логирования вызовов.
+     */
+    private Mode mode = Mode.SUMMARY;
+
+    /**
+     * Доля вызовов (от 0 до 1), которые попадают в лог, для каждого слоя приложения.
+     */
+    private SamplingRate samplingRate = new SamplingRate();
+
+    /**
+     * Режимы логирования.
+     */
+    public enum Mode {
+        /**
+         * Аргументы и результат логируются целиком через toString. Только для локальной отладки.
+         */
+        FULL,
+        /**
+         * Логируются только тип и размер аргументов и результата.
+         */
+        SUMMARY,
+        /**
+         * Вызовы не логируются, собирается только статистика времени выполнения.
+         */
+        OFF
+    }
+
+    /**
+     * Доля логируемых вызовов для контроллеров, сервисов и репозиториев.
+     */
+    @Data
+    public static class SamplingRate {
+        private double controllers = 1.0;
+        private double services = 1.0;
+        private double repositories = 1.0;
+    }
+}
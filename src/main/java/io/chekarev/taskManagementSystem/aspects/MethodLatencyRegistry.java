@@ -0,0 +1,122 @@
+package io.chekarev.taskManagementSystem.aspects;
+
+import io.chekarev.taskManagementSystem.domain.dto.MethodLatencyDTO;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Хранилище гистограмм времени выполнения методов контроллеров, сервисов и репозиториев.
+ * Гистограммы создаются при первом вызове метода и хранятся в памяти до сброса.
+ */
+public class MethodLatencyRegistry {
+
+    private static final String APPLICATION_PACKAGE =
+            LoggingAspect.class.getPackageName().substring(0, LoggingAspect.class.getPackageName().lastIndexOf('.'));
+
+    private final Map<Class<?>, Map<Method, MethodStats>> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Слои приложения, вызовы которых отслеживает аспект.
+     */
+    public enum Layer {
+        CONTROLLERS, SERVICES, REPOSITORIES
+    }
+
+    /**
+     * Получение статистики метода. Имя метода вычисляется один раз при первом вызове.
+     *
+     * @param layer слой приложения.
+     * @param targetClass класс объекта, у которого вызывается метод.
+     * @param method вызываемый метод.
+     * @return статистика метода.
+     */
+    public MethodStats stats(Layer layer, Class<?> targetClass, Method method) {
+        return stats.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new MethodStats(layer, displayName(targetClass, method)));
+    }
+
+    /**
+     * Снимок статистики по всем методам, отсортированный по суммарному времени выполнения.
+     *
+     * @return статистика методов.
+     */
+    public List<MethodLatencyDTO> snapshot() {
+        return stats.values().stream()
+                .flatMap(methods -> methods.values().stream())
+                .filter(methodStats -> methodStats.getHistogram().getCount() > 0)
+                .sorted(Comparator.comparingLong((MethodStats methodStats) -> methodStats.getHistogram().getTotalNanos()).reversed())
+                .map(MethodStats::toDto)
+                .toList();
+    }
+
+    /**
+     * Сброс накопленной статистики по всем методам.
+     */
+    public void reset() {
+        stats.values().forEach(methods -> methods.values().forEach(methodStats -> methodStats.getHistogram().reset()));
+    }
+
+    /**
+     * Имя метода для логов и статистики. Для репозиториев Spring Data, реализованных через JDK-прокси,
+     * используется интерфейс репозитория приложения, а не класс прокси.
+     */
+    private static String displayName(Class<?> targetClass, Method method) {
+        Class<?> type = ClassUtils.getUserClass(targetClass);
+        if (Proxy.isProxyClass(targetClass)) {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClass(targetClass)) {
+                if (candidate.getName().startsWith(APPLICATION_PACKAGE)) {
+                    type = candidate;
+                    break;
+                }
+            }
+        }
+        return type.getSimpleName() + "." + method.getName();
+    }
+
+    /**
+     * Статистика одного метода: имя, слой и гистограмма времени выполнения.
+     */
+    public static class MethodStats {
+
+        private final Layer layer;
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        MethodStats(Layer layer, String name) {
+            this.layer = layer;
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        MethodLatencyDTO toDto() {
+            long count = histogram.getCount();
+            return new MethodLatencyDTO(
+                    name,
+                    layer.name(),
+                    count,
+                    toMicros(count == 0 ? 0 : histogram.getTotalNanos() / count),
+                    toMicros(histogram.percentileNanos(0.50)),
+                    toMicros(histogram.percentileNanos(0.95)),
+                    toMicros(histogram.percentileNanos(0.99)),
+                    toMicros(histogram.getMaxNanos())
+            );
+        }
+
+        private static double toMicros(long nanos) {
+            return nanos / 1_000.0;
+        }
+    }
+}
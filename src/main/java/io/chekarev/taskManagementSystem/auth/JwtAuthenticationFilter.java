@@ -1,11 +1,12 @@
 package io.chekarev.taskManagementSystem.auth;
 
 import io.chekarev.taskManagementSystem.services.impl.UserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,24 +15,39 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Фильтр для аутентификации с использованием JWT.
  * Этот фильтр извлекает токен из заголовка Authorization, проверяет его валидность
  * и загружает пользователя, если токен действителен, устанавливая аутентификацию в контексте безопасности.
+ * Время проверки токена записывается в таймер jwt.verification с тегом outcome (success или failure).
  */
 @Component
 @Slf4j
-@AllArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String VERIFICATION_TIMER = "jwt.verification";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache principalCache;
+    private final Timer verificationSuccessTimer;
+    private final Timer verificationFailureTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   UserPrincipalCache principalCache, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.verificationSuccessTimer = verificationTimer(meterRegistry, "success");
+        this.verificationFailureTimer = verificationTimer(meterRegistry, "failure");
+    }
 
     /**
      * Метод для обработки каждого HTTP-запроса.
      * Проверяет наличие и валидность JWT в заголовке Authorization.
-     * Если токен действителен, загружает данные пользователя и устанавливает аутентификацию.
+     * Если токен действителен, загружает данные пользователя (из кэша или из базы данных) и устанавливает аутентификацию.
      *
      * @param request  HTTP-запрос.
      * @param response HTTP-ответ.
@@ -48,11 +64,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
             try {
                 // Верификация токена и извлечение email
-                String email = jwtUtil.verifyAndGetEmail(token);
+                String email = verifyAndGetEmail(token);
 
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // Загрузка данных пользователя
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                    // Загрузка данных пользователя из кэша, при промахе - из базы данных
+                    UserDetails userDetails = principalCache.get(email, userDetailsService::loadUserByUsername);
 
                     // Проверка дополнительных данных безопасности (при необходимости)
                     UsernamePasswordAuthenticationToken authentication =
@@ -68,4 +84,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Проверка токена с замером времени выполнения.
+     *
+     * @param token JWT-токен.
+     * @return Адрес электронной почты пользователя.
+     */
+    private String verifyAndGetEmail(String token) {
+        long startTime = System.nanoTime();
+        try {
+            String email = jwtUtil.verifyAndGetEmail(token);
+            verificationSuccessTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            return email;
+        } catch (RuntimeException e) {
+            verificationFailureTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(VERIFICATION_TIMER)
+                .description("Время проверки подписи и срока действия JWT")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
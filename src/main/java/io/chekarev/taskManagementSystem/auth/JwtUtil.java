@@ -1,12 +1,22 @@
 package io.chekarev.taskManagementSystem.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.*;
 import com.nimbusds.jwt.*;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
@@ -14,29 +24,73 @@ import java.util.UUID;
  * Утилита для работы с JWT-токенами.
  * Этот компонент генерирует и проверяет JWT-токены с использованием HMAC-шифрования.
  * Также предоставляет методы для извлечения и верификации данных из токенов.
+ * Результаты успешной верификации кэшируются по SHA-256 дайджесту токена не дольше срока действия токена.
  */
 @Component
 public class JwtUtil {
 
+    private static final long DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
     private final JWSAlgorithm algorithm = JWSAlgorithm.HS256;
     private final JWSSigner signer;
     private final JWSVerifier verifier;
     private final int expirationTimeInMilliseconds;
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     /**
      * Конструктор для инициализации JwtUtil с использованием секрета и времени жизни токена.
+     * Кэш проверенных токенов создается с размером по умолчанию.
      *
      * @param jwtSecret Секретный ключ для подписания токенов.
      * @param expirationTimeInMilliseconds Время жизни токена в миллисекундах.
      * @throws JOSEException Если возникла ошибка при настройке криптографических компонентов.
      */
+    public JwtUtil(String jwtSecret, int expirationTimeInMilliseconds) throws JOSEException {
+        this(jwtSecret, expirationTimeInMilliseconds, DEFAULT_VERIFIED_TOKEN_CACHE_SIZE);
+    }
+
+    /**
+     * Конструктор для инициализации JwtUtil с использованием секрета, времени жизни токена
+     * и размера кэша проверенных токенов.
+     *
+     * @param jwtSecret Секретный ключ для подписания токенов.
+     * @param expirationTimeInMilliseconds Время жизни токена в миллисекундах.
+     * @param verifiedTokenCacheSize Максимальное количество проверенных токенов в кэше (0 отключает кэш).
+     * @throws JOSEException Если возникла ошибка при настройке криптографических компонентов.
+     */
+    @Autowired
     public JwtUtil(@Value("${spring.security.jwt.secret}") String jwtSecret,
-                   @Value("${spring.security.jwt.expirationTimeInMilliseconds}") int expirationTimeInMilliseconds) throws JOSEException {
+                   @Value("${spring.security.jwt.expirationTimeInMilliseconds}") int expirationTimeInMilliseconds,
+                   @Value("${spring.security.jwt.verified-token-cache-size}") long verifiedTokenCacheSize) throws JOSEException {
+        this(jwtSecret, expirationTimeInMilliseconds, verifiedTokenCacheSize,
+                new MACVerifier(jwtSecret.getBytes()), Clock.systemUTC());
+    }
+
+    /**
+     * Конструктор с заданными проверяющим подпись компонентом и часами; используется в тестах,
+     * чтобы считать проверки подписи и управлять временем истечения токенов.
+     *
+     * @param jwtSecret Секретный ключ для подписания токенов.
+     * @param expirationTimeInMilliseconds Время жизни токена в миллисекундах.
+     * @param verifiedTokenCacheSize Максимальное количество проверенных токенов в кэше (0 отключает кэш).
+     * @param verifier Компонент проверки подписи токена.
+     * @param clock Часы, по которым выпускаются и проверяются токены.
+     * @throws JOSEException Если возникла ошибка при настройке криптографических компонентов.
+     */
+    JwtUtil(String jwtSecret, int expirationTimeInMilliseconds, long verifiedTokenCacheSize,
+            JWSVerifier verifier, Clock clock) throws JOSEException {
         // Создание HMAC-ключа
-        byte[] secret = jwtSecret.getBytes();
-        this.signer = new MACSigner(secret);
-        this.verifier = new MACVerifier(secret);
+        this.signer = new MACSigner(jwtSecret.getBytes());
+        this.verifier = verifier;
         this.expirationTimeInMilliseconds = expirationTimeInMilliseconds;
+        this.clock = clock;
+        this.verifiedTokens = verifiedTokenCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedTokenCacheSize)
+                        .expireAfter(new UntilTokenExpiration(clock))
+                        .build()
+                : null;
     }
 
     /**
@@ -47,7 +101,7 @@ public class JwtUtil {
      * @return Сгенерированный JWT-токен.
      */
     public String generate(String email) {
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
                 .issuer("Task Management System")
                 .subject(email)
@@ -72,26 +126,84 @@ public class JwtUtil {
      * Проверка JWT-токена и извлечение адреса электронной почты пользователя.
      * <p>
      * Проверяет подпись токена, его срок действия и извлекает информацию о пользователе из токена.
+     * Повторная проверка того же токена обслуживается из кэша, пока не истек срок действия токена.
+     * Токены, не прошедшие проверку, не кэшируются.
      *
      * @param token JWT-токен.
      * @return Адрес электронной почты пользователя, если токен действителен.
      * @throws RuntimeException Если токен невалиден или истек.
      */
     public String verifyAndGetEmail(String token) {
+        String cacheKey = verifiedTokens != null ? digest(token) : null;
+        if (cacheKey != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+            if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+                return cached.subject();
+            }
+        }
+
         try {
             SignedJWT signedJWT = SignedJWT.parse(token);
             if (!signedJWT.verify(verifier)) {
                 throw new RuntimeException("Invalid JWT signature");
             }
 
-            Date expirationTime = signedJWT.getJWTClaimsSet().getExpirationTime();
-            if (expirationTime.before(new Date())) {
+            JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+            Date expirationTime = claimsSet.getExpirationTime();
+            if (expirationTime.toInstant().isBefore(clock.instant())) {
                 throw new RuntimeException("JWT token has expired");
             }
 
-            return signedJWT.getJWTClaimsSet().getSubject();
+            String subject = claimsSet.getSubject();
+            if (cacheKey != null && subject != null) {
+                verifiedTokens.put(cacheKey, new VerifiedToken(subject, expirationTime.toInstant()));
+            }
+            return subject;
         } catch (Exception e) {
             throw new RuntimeException("Failed to verify or parse JWT", e);
         }
     }
+
+    /**
+     * Вычисление SHA-256 дайджеста токена, который используется как ключ кэша,
+     * чтобы не хранить в памяти сами токены.
+     *
+     * @param token JWT-токен.
+     * @return Дайджест токена в Base64.
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Результат успешной проверки токена: email пользователя и момент истечения токена.
+     */
+    private record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
+    /**
+     * Политика устаревания записей кэша: запись живет до истечения срока действия токена.
+     */
+    private record UntilTokenExpiration(Clock clock) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package io.chekarev.taskManagementSystem.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Ограниченный по размеру и времени жизни кэш пользователей, аутентифицированных по JWT.
+ * Позволяет не обращаться к базе данных на каждый запрос для восстановления principal.
+ * Записи удаляются при изменении или удалении пользователя, а также по истечении времени жизни.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    // Счетчик удалений: загруженный пользователь не сохраняется, если во время загрузки было удаление
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Конструктор для инициализации кэша.
+     *
+     * @param maximumSize Максимальное количество пользователей в кэше.
+     * @param timeToLive Время жизни записи с момента загрузки.
+     */
+    public UserPrincipalCache(@Value("${spring.security.principal-cache.maximum-size}") long maximumSize,
+                              @Value("${spring.security.principal-cache.time-to-live}") Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Получение пользователя из кэша по email. При отсутствии записи пользователь загружается
+     * переданной функцией и сохраняется в кэш. Исключения загрузки не кэшируются.
+     * <p>
+     * Загрузка выполняется вне {@code Cache.get(key, loader)}: тот вызывает функцию под блокировкой
+     * synchronized внутри ConcurrentHashMap, и запрос к базе данных закреплял бы виртуальный поток
+     * за потоком-носителем. Одновременные промахи по одному email загружают пользователя независимо.
+     * <p>
+     * Если пользователя удалили из кэша во время загрузки, загруженные данные могут быть старше изменения,
+     * поэтому они возвращаются, но не сохраняются: иначе кэш хранил бы их до истечения времени жизни.
+     * Проверка счетчика удалений и запись выполняются атомарно в {@code compute}, без обращения к базе данных.
+     *
+     * @param email email пользователя.
+     * @param loader функция загрузки пользователя из базы данных.
+     * @return данные пользователя.
+     */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        UserDetails cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+        long evictionsBeforeLoad = evictions.get();
+        UserDetails loaded = loader.apply(email);
+        cache.asMap().compute(email, (key, current) -> evictions.get() == evictionsBeforeLoad ? loaded : current);
+        return loaded;
+    }
+
+    /**
+     * Удаление пользователя из кэша. Вызывается при изменении или удалении пользователя.
+     * Счетчик удалений увеличивается до удаления записи, чтобы загрузки, начатые раньше, не сохранили
+     * старые данные после него.
+     *
+     * @param email email пользователя.
+     */
+    public void evict(String email) {
+        if (email != null) {
+            evictions.incrementAndGet();
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * Количество обращений, обслуженных из кэша.
+     *
+     * @return количество попаданий.
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * Количество обращений, потребовавших загрузки пользователя из базы данных.
+     *
+     * @return количество промахов.
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+}
@@ -0,0 +1,44 @@
+package io.chekarev.taskManagementSystem.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Настройки кэша второго уровня Hibernate.
+ */
+@Data
+@ConfigurationProperties(prefix = "spring.jpa.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Включение кэша второго уровня и кэша запросов.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Регионы кэша по именам. Hibernate не создает регионы сам: каждый регион сущности,
+     * запроса и региона меток времени обновления должен быть описан здесь.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    /**
+     * Ограничения региона кэша.
+     */
+    @Data
+    public static class Region {
+
+        /**
+         * Максимальное количество записей в регионе.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Время жизни записи с момента записи в кэш. Если не задано, записи вытесняются только по размеру.
+         */
+        private Duration timeToLive;
+    }
+}
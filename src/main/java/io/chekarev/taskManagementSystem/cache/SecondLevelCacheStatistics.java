@@ -0,0 +1,75 @@
+package io.chekarev.taskManagementSystem.cache;
+
+import io.chekarev.taskManagementSystem.domain.dto.CacheRegionStatsDTO;
+import lombok.RequiredArgsConstructor;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Статистика регионов кэша второго уровня.
+ * Счетчики читаются из JMX-бинов статистики JCache (javax.cache:type=CacheStatistics), которые
+ * регистрируются для каждого региона, размер региона берется из кэша Caffeine.
+ */
+@RequiredArgsConstructor
+public class SecondLevelCacheStatistics {
+
+    private final CacheManager cacheManager;
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    /**
+     * Получение статистики всех регионов кэша.
+     *
+     * @return Статистика по регионам.
+     */
+    public List<CacheRegionStatsDTO> snapshot() {
+        List<CacheRegionStatsDTO> regions = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = cacheManager.getCache(name);
+            ObjectName statistics = statisticsName(name);
+            try {
+                regions.add(new CacheRegionStatsDTO(
+                        name,
+                        cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize(),
+                        (Long) mBeanServer.getAttribute(statistics, "CacheHits"),
+                        (Long) mBeanServer.getAttribute(statistics, "CacheMisses"),
+                        (Float) mBeanServer.getAttribute(statistics, "CacheHitPercentage"),
+                        (Long) mBeanServer.getAttribute(statistics, "CachePuts"),
+                        (Long) mBeanServer.getAttribute(statistics, "CacheEvictions"),
+                        (Long) mBeanServer.getAttribute(statistics, "CacheRemovals")
+                ));
+            } catch (JMException e) {
+                throw new IllegalStateException("Failed to read statistics of cache region " + name, e);
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Сброс счетчиков всех регионов кэша. Содержимое кэша не удаляется.
+     */
+    public void reset() {
+        for (String name : cacheManager.getCacheNames()) {
+            try {
+                mBeanServer.invoke(statisticsName(name), "clear", null, null);
+            } catch (JMException e) {
+                throw new IllegalStateException("Failed to reset statistics of cache region " + name, e);
+            }
+        }
+    }
+
+    private ObjectName statisticsName(String cacheName) {
+        try {
+            return new ObjectName("javax.cache:type=CacheStatistics,CacheManager=" + cacheManager.getURI()
+                    + ",Cache=" + cacheName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Invalid cache region name " + cacheName, e);
+        }
+    }
+}
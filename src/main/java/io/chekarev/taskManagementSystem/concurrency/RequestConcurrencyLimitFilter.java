@@ -0,0 +1,74 @@
+package io.chekarev.taskManagementSystem.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограничение количества одновременно обрабатываемых запросов.
+ * <p>
+ * С виртуальными потоками Tomcat не ограничивает число запросов размером пула потоков: каждый запрос
+ * получает свой поток, и при перегрузке тысячи запросов ждут соединение в HikariCP до истечения
+ * connection-timeout. Фильтр возвращает это ограничение явно: запрос ждет свободное место не дольше
+ * заданного времени и иначе сразу получает 503 с заголовком Retry-After, не занимая очередь пула соединений.
+ * Место освобождается, когда обработчик возвращает управление, поэтому асинхронные запросы (поток SSE)
+ * не удерживают его на все время соединения.
+ */
+@Slf4j
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final RequestConcurrencyProperties properties;
+    private final Semaphore permits;
+    private final Counter rejectedRequests;
+
+    public RequestConcurrencyLimitFilter(RequestConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConcurrentRequests());
+        Gauge.builder("requests.concurrency.active", permits,
+                        semaphore -> properties.getMaxConcurrentRequests() - semaphore.availablePermits())
+                .description("Количество одновременно обрабатываемых запросов")
+                .register(meterRegistry);
+        Gauge.builder("requests.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("Количество запросов, ожидающих начала обработки")
+                .register(meterRegistry);
+        this.rejectedRequests = Counter.builder("requests.concurrency.rejected")
+                .description("Количество запросов, отклоненных из-за превышения числа одновременных запросов")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedRequests.increment();
+            log.debug("Request {} {} rejected: concurrency limit reached", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Integer.toString(properties.getRetryAfterSeconds()));
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
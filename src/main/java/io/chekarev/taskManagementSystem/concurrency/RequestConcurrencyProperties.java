@@ -0,0 +1,30 @@
+package io.chekarev.taskManagementSystem.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки ограничения количества одновременно обрабатываемых запросов в режиме виртуальных потоков.
+ */
+@Data
+@ConfigurationProperties(prefix = "server.request-concurrency")
+public class RequestConcurrencyProperties {
+
+    /**
+     * Максимальное количество одновременно обрабатываемых запросов. Запросы сверх пула соединений
+     * ждут соединение в HikariCP, поэтому значение задает длину этой очереди: несколько размеров пула.
+     */
+    private int maxConcurrentRequests = 200;
+
+    /**
+     * Время ожидания свободного места, после которого запрос отклоняется с кодом 503.
+     */
+    private Duration acquireTimeout = Duration.ofMillis(500);
+
+    /**
+     * Значение заголовка Retry-After в секундах для отклоненных запросов.
+     */
+    private int retryAfterSeconds = 1;
+}
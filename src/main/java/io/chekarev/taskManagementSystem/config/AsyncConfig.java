@@ -0,0 +1,37 @@
+package io.chekarev.taskManagementSystem.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Исполнитель задач @Async и асинхронных запросов Spring MVC.
+ * <p>
+ * Spring Boot не создает applicationTaskExecutor, если в контексте уже есть бин Executor, а пулы потоков
+ * рассылки событий и ретранслятора outbox являются такими бинами. Без этой конфигурации @Async выполнялся бы
+ * в неограниченном SimpleAsyncTaskExecutor на платформенных потоках. Исполнитель строится билдерами Spring Boot,
+ * поэтому действуют настройки spring.task.execution: в режиме виртуальных потоков каждая задача получает
+ * виртуальный поток с ограничением spring.task.execution.simple.concurrency-limit, иначе используется пул потоков.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,24 @@
+package io.chekarev.taskManagementSystem.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Конфигурация условных запросов для списков задач и комментариев.
+ * У списков нет собственной версии, поэтому ETag вычисляется по хэшу тела ответа: страница все равно
+ * выбирается и сериализуется, но неизменившийся список возвращается клиенту ответом 304 без тела.
+ * Отдельные задачи сюда не входят, их ETag строится по версии задачи в TaskController.
+ */
+@Configuration
+public class HttpCachingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listingEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/tasks", "/tasks/admin", "/tasks/admin/cursor", "/tasks/admin/search",
+                "/comments/task/*", "/comments/admin/task/*");
+        return registration;
+    }
+}
@@ -0,0 +1,20 @@
+package io.chekarev.taskManagementSystem.config;
+
+import io.chekarev.taskManagementSystem.imports.ImportJobRegistry;
+import io.chekarev.taskManagementSystem.imports.ImportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация массового импорта задач и комментариев.
+ */
+@Configuration
+@EnableConfigurationProperties(ImportProperties.class)
+public class ImportConfig {
+
+    @Bean
+    public ImportJobRegistry importJobRegistry(ImportProperties properties) {
+        return new ImportJobRegistry(properties);
+    }
+}
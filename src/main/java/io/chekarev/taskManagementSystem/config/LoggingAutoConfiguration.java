@@ -1,14 +1,23 @@
 package io.chekarev.taskManagementSystem.config;
 
 import io.chekarev.taskManagementSystem.aspects.LoggingAspect;
+import io.chekarev.taskManagementSystem.aspects.LoggingAspectProperties;
+import io.chekarev.taskManagementSystem.aspects.MethodLatencyRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(LoggingAspectProperties.class)
 public class LoggingAutoConfiguration {
 
     @Bean
-    public LoggingAspect loggingAspect() {
-        return new LoggingAspect();
+    public MethodLatencyRegistry methodLatencyRegistry() {
+        return new MethodLatencyRegistry();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public LoggingAspect loggingAspect(LoggingAspectProperties properties, MethodLatencyRegistry methodLatencyRegistry) {
+        return new LoggingAspect(properties, methodLatencyRegistry);
+    }
+}
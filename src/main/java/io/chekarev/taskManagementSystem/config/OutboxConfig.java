@@ -0,0 +1,53 @@
+package io.chekarev.taskManagementSystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.outbox.LoggingOutboxPublisher;
+import io.chekarev.taskManagementSystem.outbox.OutboxPublisher;
+import io.chekarev.taskManagementSystem.outbox.OutboxRelay;
+import io.chekarev.taskManagementSystem.outbox.OutboxRelayProperties;
+import io.chekarev.taskManagementSystem.outbox.OutboxWriter;
+import io.chekarev.taskManagementSystem.repositories.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Конфигурация outbox изменений задач и комментариев.
+ * Ретранслятор работает в отдельном потоке; получатель событий по умолчанию только записывает их в журнал.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        return new OutboxWriter(outboxRepository, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxPublisher outboxPublisher() {
+        return new LoggingOutboxPublisher();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService outboxRelayExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-"));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository, OutboxPublisher outboxPublisher,
+                                   PlatformTransactionManager transactionManager, OutboxRelayProperties properties,
+                                   ScheduledExecutorService outboxRelayExecutor, MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxRepository, outboxPublisher, new TransactionTemplate(transactionManager),
+                properties, outboxRelayExecutor, meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package io.chekarev.taskManagementSystem.config;
+
+import io.chekarev.taskManagementSystem.ratelimit.RateLimitFilter;
+import io.chekarev.taskManagementSystem.ratelimit.RateLimitProperties;
+import io.chekarev.taskManagementSystem.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация ограничения частоты запросов клиентов.
+ * Фильтр добавляется в цепочку Spring Security в {@link SecurityConfig}, поэтому регистрация
+ * в контейнере сервлетов отключена: иначе Spring Boot выполнял бы его второй раз вне цепочки.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimiter(properties, System::nanoTime, meterRegistry);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter,
+                                           MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, rateLimiter, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
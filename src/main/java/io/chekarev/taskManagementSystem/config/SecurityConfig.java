@@ -3,8 +3,13 @@ package io.chekarev.taskManagementSystem.config;
 import io.chekarev.taskManagementSystem.auth.JwtAuthenticationFilter;
 import io.chekarev.taskManagementSystem.config.handlers.CustomAccessDeniedHandler;
 import io.chekarev.taskManagementSystem.config.handlers.CustomAuthenticationEntryPoint;
+import io.chekarev.taskManagementSystem.ratelimit.RateLimitFilter;
 import io.chekarev.taskManagementSystem.services.impl.UserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,12 +33,14 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
     /**
      * Конфигурация фильтра безопасности, которая настраивает доступ к различным эндпоинтам
-     * в зависимости от роли пользователя и регистрирует фильтр JWT для аутентификации.
+     * в зависимости от роли пользователя, регистрирует фильтр JWT для аутентификации
+     * и следующий за ним фильтр ограничения частоты запросов.
      *
      * @param http объект конфигурации HTTP-безопасности.
      * @return настроенный объект SecurityFilterChain.
@@ -44,17 +51,20 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)  // Отключаем CSRF-защиту
                 .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("users/admin/**", "comments/admin/**", "tasks/admin/**", "auth/admin/**").hasAuthority("ADMIN") // Доступ для администраторов
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // Завершение потоков SSE: запрос уже авторизован при подключении
+                        .requestMatchers("users/admin/**", "comments/admin/**", "tasks/admin/**", "auth/admin/**", "monitoring/admin/**", "imports/admin/**").hasAuthority("ADMIN") // Доступ для администраторов
                         .requestMatchers("/auth/**").permitAll() // Открытый доступ к эндпоинтам аутентификации
                         .requestMatchers("/users/**").permitAll() // Открытый доступ к пользователям
                         .requestMatchers("/swagger-ui/**", "/swagger-resources/*", "/v3/api-docs/**").permitAll() // Открытый доступ к Swagger UI
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll() // Метрики для Prometheus (отдельный порт управления)
                         .anyRequest().authenticated()  // Для остальных запросов требуется аутентификация
                 )
                 .exceptionHandling(ex -> ex
                         .accessDeniedHandler(customAccessDeniedHandler) // Обработчик доступа
                         .authenticationEntryPoint(customAuthenticationEntryPoint) // Обработчик ошибок аутентификации
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);  // Добавление фильтра для аутентификации через JWT
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)  // Добавление фильтра для аутентификации через JWT
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);  // Ограничение частоты запросов по пользователю из JWT
 
         return http.build();
     }
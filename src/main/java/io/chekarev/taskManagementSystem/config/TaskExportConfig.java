@@ -0,0 +1,13 @@
+package io.chekarev.taskManagementSystem.config;
+
+import io.chekarev.taskManagementSystem.export.TaskExportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация потоковой выгрузки задач.
+ */
+@Configuration
+@EnableConfigurationProperties(TaskExportProperties.class)
+public class TaskExportConfig {
+}
@@ -0,0 +1,46 @@
+package io.chekarev.taskManagementSystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.events.TaskStreamBroadcaster;
+import io.chekarev.taskManagementSystem.events.TaskStreamProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Конфигурация потока событий изменения задач.
+ * Отправка событий выполняется отдельным пулом потоков, не связанным с потоками обработки запросов.
+ * Пульсы и проверка зависших отправок запускаются отдельным потоком, чтобы они выполнялись,
+ * даже если все потоки отправки заняты медленными клиентами.
+ */
+@Configuration
+@EnableConfigurationProperties(TaskStreamProperties.class)
+public class TaskStreamConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor taskStreamExecutor(TaskStreamProperties properties) {
+        return new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), new CustomizableThreadFactory("task-stream-"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService taskStreamScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-stream-scheduler-"));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public TaskStreamBroadcaster taskStreamBroadcaster(TaskStreamProperties properties, ObjectMapper objectMapper,
+                                                       ThreadPoolExecutor taskStreamExecutor,
+                                                       ScheduledExecutorService taskStreamScheduler,
+                                                       MeterRegistry meterRegistry) {
+        return new TaskStreamBroadcaster(properties, objectMapper, taskStreamExecutor, taskStreamScheduler, meterRegistry);
+    }
+}
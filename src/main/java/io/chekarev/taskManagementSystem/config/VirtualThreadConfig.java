@@ -0,0 +1,34 @@
+package io.chekarev.taskManagementSystem.config;
+
+import io.chekarev.taskManagementSystem.concurrency.RequestConcurrencyLimitFilter;
+import io.chekarev.taskManagementSystem.concurrency.RequestConcurrencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация режима виртуальных потоков (профиль virtual-threads, Java 21).
+ * Запросы Tomcat и задачи @Async выполняются в виртуальных потоках средствами Spring Boot
+ * (spring.threads.virtual.enabled); здесь добавляется ограничение одновременных запросов,
+ * которое в режиме платформенных потоков задает размер пула потоков Tomcat.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(RequestConcurrencyProperties.class)
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+            RequestConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new RequestConcurrencyLimitFilter(properties, meterRegistry));
+        // Перед цепочкой Spring Security: запросы сверх ограничения не проверяют JWT и не обращаются к базе
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
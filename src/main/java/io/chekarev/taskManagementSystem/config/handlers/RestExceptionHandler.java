@@ -0,0 +1,85 @@
+package io.chekarev.taskManagementSystem.config.handlers;
+
+import io.chekarev.taskManagementSystem.domain.dto.ErrorResponseDTO;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+import io.chekarev.taskManagementSystem.exceptions.PreconditionRequiredException;
+import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import io.chekarev.taskManagementSystem.exceptions.TaskStreamUnavailableException;
+import io.chekarev.taskManagementSystem.exceptions.TaskVersionConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Преобразование исключений контроллеров в ответы с кодом ошибки и телом ErrorResponseDTO.
+ */
+@Slf4j
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    /**
+     * Запрошенный ресурс не найден.
+     *
+     * @param e Исключение.
+     * @return Ответ 404.
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> handleResourceNotFound(ResourceNotFoundException e) {
+        log.debug("Resource not found: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    /**
+     * Задачу изменили после того, как клиент получил ее версию.
+     *
+     * @param e Исключение.
+     * @return Ответ 409.
+     */
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleTaskVersionConflict(TaskVersionConflictException e) {
+        log.debug("Task version conflict: {}", e.getMessage());
+        return error(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    /**
+     * Поток событий задач не принимает новых подписчиков, пока потоки отправки заняты зависшими записями.
+     *
+     * @param e Исключение.
+     * @return Ответ 503.
+     */
+    @ExceptionHandler(TaskStreamUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleTaskStreamUnavailable(TaskStreamUnavailableException e) {
+        log.warn("Task stream subscription rejected: {}", e.getMessage());
+        return error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
+    /**
+     * Условный запрос без обязательного заголовка If-Match или с заголовком, не содержащим версию задачи.
+     *
+     * @param e Исключение.
+     * @return Ответ 428.
+     */
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ErrorResponseDTO> handlePreconditionRequired(PreconditionRequiredException e) {
+        log.debug("Precondition required: {}", e.getMessage());
+        return error(HttpStatus.PRECONDITION_REQUIRED, e.getMessage());
+    }
+
+    /**
+     * Курсор keyset-пагинации, полученный от клиента, имеет неверный формат.
+     *
+     * @param e Исключение.
+     * @return Ответ 400.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidCursor(InvalidCursorException e) {
+        log.debug("Invalid cursor: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    private static ResponseEntity<ErrorResponseDTO> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ErrorResponseDTO(status.getReasonPhrase(), message));
+    }
+}
@@ -1,19 +1,19 @@
 package io.chekarev.taskManagementSystem.controllers;
 
 import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
 import io.chekarev.taskManagementSystem.domain.entities.User;
 import io.chekarev.taskManagementSystem.services.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Контроллер для управления комментариями. Предоставляет API для администраторов и текущих пользователей
  * для выполнения операций с комментариями, включая создание, удаление и получение комментариев.
@@ -27,15 +27,23 @@ public class CommentController {
     private final CommentService commentService;
 
     /**
-     * Получить комментарии по ID задачи для администратора.
+     * Получить комментарии по ID задачи для администратора с курсорной пагинацией.
      *
      * @param taskId ID задачи.
-     * @return Список комментариев для указанной задачи.
+     * @param cursor Курсор из предыдущего ответа (не передается для первой страницы).
+     * @param size Размер страницы.
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Страница комментариев для указанной задачи и курсоры следующей и предыдущей страниц.
      */
     @Operation(summary = "Получить комментарии по ID задачи", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/admin/task/{taskId}")
-    public ResponseEntity<List<CommentDTO>> getCommentsByTaskIdAdmin(@PathVariable Long taskId) {
-        return ResponseEntity.ok(commentService.getCommentsByTaskId(taskId));
+    public ResponseEntity<CursorPage<CommentDTO>> getCommentsByTaskIdAdmin(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByTaskId(taskId, cursor, size, direction));
     }
 
     /**
@@ -52,15 +60,23 @@ public class CommentController {
     }
 
     /**
-     * Получить комментарии по ID задачи для текущего пользователя.
+     * Получить комментарии по ID задачи для текущего пользователя с курсорной пагинацией.
      *
      * @param taskId ID задачи.
-     * @return Список комментариев для указанной задачи.
+     * @param cursor Курсор из предыдущего ответа (не передается для первой страницы).
+     * @param size Размер страницы.
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Страница комментариев для указанной задачи и курсоры следующей и предыдущей страниц.
      */
     @Operation(summary = "Получить комментарии по ID задачи для текущего пользователя", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<CommentDTO>> getCommentsByTaskIdForCurrentUser(@PathVariable Long taskId) {
-        return ResponseEntity.ok(commentService.getCommentsByTaskId(taskId));
+    public ResponseEntity<CursorPage<CommentDTO>> getCommentsByTaskIdForCurrentUser(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByTaskId(taskId, cursor, size, direction));
     }
 
     /**
@@ -0,0 +1,121 @@
+package io.chekarev.taskManagementSystem.controllers;
+
+import io.chekarev.taskManagementSystem.domain.dto.ImportJobDTO;
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportFormat;
+import io.chekarev.taskManagementSystem.services.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Контроллер массового импорта задач и комментариев. Входные данные передаются в теле запроса в формате
+ * NDJSON или CSV, при заголовке Content-Encoding: gzip тело распаковывается по мере чтения.
+ * Эндпоинты доступны только администраторам.
+ */
+@Tag(name = "ImportController", description = "API для массового импорта задач и комментариев")
+@RestController
+@RequestMapping("/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ImportService importService;
+
+    /**
+     * Импортировать задачи. Поля записи: key (необязательный внешний ключ), title, description, status, priority,
+     * authorEmail и assigneeEmail. Ответ отправляется после завершения импорта.
+     *
+     * @param format Формат входных данных.
+     * @param contentEncoding Кодирование тела запроса.
+     * @param body Тело запроса.
+     * @return Состояние завершенного импорта.
+     * @throws IOException Если тело запроса не удалось распаковать.
+     */
+    @Operation(summary = "Импортировать задачи", security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping("/admin/tasks")
+    public ResponseEntity<ImportJobDTO> importTasks(
+            @RequestParam(defaultValue = "NDJSON") ImportFormat format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(importService.importRecords(ImportEntity.TASKS, format, decode(body, contentEncoding)));
+    }
+
+    /**
+     * Импортировать комментарии. Поля записи: taskKey (внешний ключ импортированной задачи) или taskId,
+     * authorEmail, text и createdAt. Ответ отправляется после завершения импорта.
+     *
+     * @param format Формат входных данных.
+     * @param contentEncoding Кодирование тела запроса.
+     * @param body Тело запроса.
+     * @return Состояние завершенного импорта.
+     * @throws IOException Если тело запроса не удалось распаковать.
+     */
+    @Operation(summary = "Импортировать комментарии", security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping("/admin/comments")
+    public ResponseEntity<ImportJobDTO> importComments(
+            @RequestParam(defaultValue = "NDJSON") ImportFormat format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(importService.importRecords(ImportEntity.COMMENTS, format, decode(body, contentEncoding)));
+    }
+
+    /**
+     * Получить состояние последних импортов.
+     *
+     * @return Состояния импортов, начиная с последнего.
+     */
+    @Operation(summary = "Получить состояние последних импортов", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin")
+    public ResponseEntity<List<ImportJobDTO>> getImports() {
+        return ResponseEntity.ok(importService.getImports());
+    }
+
+    /**
+     * Получить состояние импорта, в том числе выполняющегося: этап, количество прочитанных, отклоненных
+     * и загруженных записей и скорость чтения.
+     *
+     * @param id ID импорта.
+     * @return Состояние импорта или 404, если импорт не найден.
+     */
+    @Operation(summary = "Получить состояние импорта", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/{id}")
+    public ResponseEntity<ImportJobDTO> getImport(@PathVariable String id) {
+        return ResponseEntity.of(importService.getImport(id));
+    }
+
+    /**
+     * Получить файл отклоненных записей импорта в формате NDJSON: номер записи во входных данных и причина.
+     *
+     * @param id ID импорта.
+     * @return Файл отклоненных записей или 404, если импорт не найден.
+     */
+    @Operation(summary = "Получить отклоненные записи импорта", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/{id}/rejects")
+    public ResponseEntity<Resource> getRejects(@PathVariable String id) {
+        return importService.getRejectFile(id)
+                .<ResponseEntity<Resource>>map(file -> ResponseEntity.ok()
+                        .contentType(NDJSON)
+                        .body(new FileSystemResource(file)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        return contentEncoding != null && contentEncoding.contains("gzip") ? new GZIPInputStream(body) : body;
+    }
+}
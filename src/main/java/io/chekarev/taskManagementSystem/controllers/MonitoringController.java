@@ -0,0 +1,74 @@
+package io.chekarev.taskManagementSystem.controllers;
+
+import io.chekarev.taskManagementSystem.aspects.MethodLatencyRegistry;
+import io.chekarev.taskManagementSystem.cache.SecondLevelCacheStatistics;
+import io.chekarev.taskManagementSystem.domain.dto.CacheRegionStatsDTO;
+import io.chekarev.taskManagementSystem.domain.dto.MethodLatencyDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Контроллер для просмотра статистики времени выполнения методов контроллеров, сервисов и репозиториев,
+ * которую собирает LoggingAspect, и статистики регионов кэша второго уровня. Эндпоинты доступны только администраторам.
+ */
+@Tag(name = "MonitoringController", description = "API для просмотра времени выполнения методов и статистики кэша")
+@RestController
+@RequestMapping("/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final MethodLatencyRegistry methodLatencyRegistry;
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    /**
+     * Получить статистику времени выполнения методов, отсортированную по суммарному времени.
+     *
+     * @return Статистика по методам.
+     */
+    @Operation(summary = "Получить статистику времени выполнения методов", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/latency")
+    public ResponseEntity<List<MethodLatencyDTO>> getMethodLatencies() {
+        return ResponseEntity.ok(methodLatencyRegistry.snapshot());
+    }
+
+    /**
+     * Сбросить накопленную статистику времени выполнения методов.
+     *
+     * @return Ответ без содержимого.
+     */
+    @Operation(summary = "Сбросить статистику времени выполнения методов", security = @SecurityRequirement(name = "bearerAuth"))
+    @DeleteMapping("/admin/latency")
+    public ResponseEntity<Void> resetMethodLatencies() {
+        methodLatencyRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Получить статистику регионов кэша второго уровня: размер, попадания, промахи, записи и вытеснения.
+     *
+     * @return Статистика по регионам кэша.
+     */
+    @Operation(summary = "Получить статистику регионов кэша второго уровня", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/cache")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getCacheStatistics() {
+        return ResponseEntity.ok(secondLevelCacheStatistics.snapshot());
+    }
+
+    /**
+     * Сбросить счетчики регионов кэша второго уровня. Содержимое кэша сохраняется.
+     *
+     * @return Ответ без содержимого.
+     */
+    @Operation(summary = "Сбросить статистику регионов кэша второго уровня", security = @SecurityRequirement(name = "bearerAuth"))
+    @DeleteMapping("/admin/cache")
+    public ResponseEntity<Void> resetCacheStatistics() {
+        secondLevelCacheStatistics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
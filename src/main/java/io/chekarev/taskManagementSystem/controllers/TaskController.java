@@ -1,20 +1,46 @@
 package io.chekarev.taskManagementSystem.controllers;
 
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.domain.dto.TaskBulkResultDTO;
 import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskPatchDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
 import io.chekarev.taskManagementSystem.domain.entities.User;
+import io.chekarev.taskManagementSystem.events.TaskStreamBroadcaster;
+import io.chekarev.taskManagementSystem.export.TaskExportFormat;
+import io.chekarev.taskManagementSystem.exceptions.PreconditionRequiredException;
+import io.chekarev.taskManagementSystem.pagination.CountMode;
+import io.chekarev.taskManagementSystem.pagination.EstimatedPage;
+import io.chekarev.taskManagementSystem.services.TaskExportService;
 import io.chekarev.taskManagementSystem.services.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Контроллер для управления задачами. Предоставляет API для администраторов и текущих пользователей
@@ -24,42 +50,162 @@ import java.util.List;
 @RestController
 @RequestMapping("/tasks")
 @RequiredArgsConstructor
+@Slf4j
 public class TaskController {
 
+    static final String TOTAL_COUNT_MODE_HEADER = "X-Total-Count-Mode";
+
     private final TaskService taskService;
+    private final TaskStreamBroadcaster taskStreamBroadcaster;
+    private final TaskExportService taskExportService;
 
     /**
      * Получить список всех задач с фильтрацией и пагинацией. Этот эндпоинт доступен только администраторам.
+     * Способ определения общего количества задач выбирается параметром count, фактически использованный
+     * способ возвращается в заголовке X-Total-Count-Mode (exact, approximate или none).
      *
      * @param status Фильтр по статусу задачи.
      * @param priority Фильтр по приоритету задачи.
      * @param author Фильтр по автору задачи.
      * @param assignee Фильтр по исполнителю задачи.
+     * @param count Способ определения общего количества задач: EXACT, APPROXIMATE или NONE.
      * @param pageable Параметры пагинации.
      * @return Список задач с учетом фильтров и пагинации.
      */
     @Operation(summary = "Получить список всех задач с фильтрацией и пагинацией", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/admin")
-    public ResponseEntity<Page<TaskDTO>> getAllTasks(
+    public ResponseEntity<Slice<TaskDTO>> getAllTasks(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String priority,
             @RequestParam(required = false) String author,
             @RequestParam(required = false) String assignee,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             Pageable pageable
     ) {
-        return ResponseEntity.ok(taskService.getAllTasks(pageable, status, priority, author, assignee));
+        Slice<TaskDTO> tasks = taskService.getAllTasks(pageable, count, status, priority, author, assignee);
+        String countMode = tasks instanceof EstimatedPage ? "approximate" : tasks instanceof Page ? "exact" : "none";
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_MODE_HEADER, countMode)
+                .body(tasks);
+    }
+
+    /**
+     * Получить список задач с фильтрацией и keyset-пагинацией (курсором). Этот эндпоинт доступен только администраторам.
+     * В отличие от постраничного режима, время ответа не растет с глубиной пролистывания.
+     *
+     * @param status Фильтр по статусу задачи.
+     * @param priority Фильтр по приоритету задачи.
+     * @param author Фильтр по автору задачи.
+     * @param assignee Фильтр по исполнителю задачи.
+     * @param cursor Курсор из предыдущего ответа (не передается для первой страницы).
+     * @param size Размер страницы.
+     * @param sort Свойство сортировки: id, createdAt или updatedAt.
+     * @param direction Направление сортировки.
+     * @return Страница задач и курсор следующей страницы.
+     */
+    @Operation(summary = "Получить список всех задач с фильтрацией и курсорной пагинацией", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/cursor")
+    public ResponseEntity<CursorPage<TaskDTO>> getAllTasksByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction
+    ) {
+        return ResponseEntity.ok(taskService.getAllTasksByCursor(cursor, size, sort, direction, status, priority, author, assignee));
+    }
+
+    /**
+     * Полнотекстовый поиск задач по заголовку, описанию и комментариям. Этот эндпоинт доступен только администраторам.
+     * Результаты упорядочены по убыванию релевантности и содержат фрагменты текста в виде HTML:
+     * исходный текст экранирован, найденные слова выделены тегом mark. Ранжируется не больше 1000 совпадений
+     * в задачах и 1000 в комментариях, поэтому очень широкий запрос нужно уточнять словами или фильтрами.
+     *
+     * @param q Поисковый запрос: слова, "фразы", OR и -исключение.
+     * @param status Фильтр по статусу задачи.
+     * @param priority Фильтр по приоритету задачи.
+     * @param author Фильтр по автору задачи.
+     * @param assignee Фильтр по исполнителю задачи.
+     * @param cursor Курсор из предыдущего ответа (не передается для первой страницы).
+     * @param size Размер страницы.
+     * @return Страница найденных задач и курсор следующей страницы.
+     */
+    @Operation(summary = "Полнотекстовый поиск задач с фильтрацией и курсорной пагинацией", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/search")
+    public ResponseEntity<CursorPage<TaskSearchResultDTO>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(taskService.searchTasks(q, cursor, size, status, priority, author, assignee));
+    }
+
+    /**
+     * Выгрузить все задачи, соответствующие фильтрам, в формате NDJSON или CSV. Этот эндпоинт доступен только администраторам.
+     * Задачи записываются в ответ по мере чтения из базы данных в порядке ID, поэтому выгрузка любого размера
+     * выполняется одним запросом и не требует памяти, пропорциональной количеству задач.
+     * Если клиент принимает gzip (заголовок Accept-Encoding), ответ сжимается.
+     *
+     * @param format Формат выгрузки: NDJSON или CSV.
+     * @param status Фильтр по статусу задачи.
+     * @param priority Фильтр по приоритету задачи.
+     * @param author Фильтр по автору задачи.
+     * @param assignee Фильтр по исполнителю задачи.
+     * @param acceptEncoding Значение заголовка Accept-Encoding.
+     * @param response Текущий ответ.
+     * @throws IOException Если не удалось открыть поток ответа.
+     */
+    @Operation(summary = "Выгрузить задачи с фильтрацией в формате NDJSON или CSV", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/export")
+    public void exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskExportFormat format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String assignee,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + format.getFileExtension())
+                .build()
+                .toString());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream outputStream = gzip ? new GZIPOutputStream(response.getOutputStream()) : response.getOutputStream();
+        try {
+            taskExportService.exportTasks(format, outputStream, status, priority, author, assignee);
+        } catch (UncheckedIOException e) {
+            // Клиент закрыл соединение: ответ уже частично отправлен, и сообщить об ошибке некому
+            log.info("Task export aborted: {}", e.getMessage());
+        }
     }
 
     /**
      * Получить задачу по ID. Этот эндпоинт доступен только администраторам.
+     * Поддерживает условные запросы с заголовками If-None-Match и If-Modified-Since.
      *
      * @param id ID задачи.
-     * @return Детали задачи.
+     * @param request Текущий запрос.
+     * @return Детали задачи или ответ 304 без тела, если задача не изменилась.
      */
     @Operation(summary = "Получить задачу по ID (админ)", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/admin/{id}")
-    public ResponseEntity<TaskDTO> getTaskByIdAdmin(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskDTO> getTaskByIdAdmin(@PathVariable Long id, ServletWebRequest request) {
+        return getTaskIfModified(id, request);
     }
 
     /**
@@ -74,6 +220,19 @@ public class TaskController {
         return ResponseEntity.ok(taskService.createTask(taskDTO));
     }
 
+    /**
+     * Создать и обновить набор задач в одной транзакции. Этот эндпоинт доступен только администраторам.
+     * Задачи без ID создаются, задачи с ID обновляются; изменения отправляются в базу данных JDBC-пакетами.
+     *
+     * @param taskDTOs Данные задач.
+     * @return Результат обработки каждой задачи.
+     */
+    @Operation(summary = "Пакетно создать и обновить задачи (админ)", security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping("/admin/bulk")
+    public ResponseEntity<List<TaskBulkResultDTO>> saveTasksInBulk(@RequestBody List<TaskDTO> taskDTOs) {
+        return ResponseEntity.ok(taskService.saveTasksInBulk(taskDTOs));
+    }
+
     /**
      * Обновить задачу по ID. Этот эндпоинт доступен только администраторам.
      *
@@ -87,6 +246,24 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(id, taskDTO));
     }
 
+    /**
+     * Частично обновить задачу по ID. Этот эндпоинт доступен только администраторам.
+     * Версия задачи передается в заголовке If-Match (значение ETag, полученное при чтении задачи).
+     *
+     * @param id ID задачи.
+     * @param ifMatch Версия задачи, которую видел клиент.
+     * @param patch Изменяемые поля задачи.
+     * @return Обновленная задача, 409 при конфликте версий или 428 без заголовка If-Match
+     *         или с заголовком, не содержащим версию задачи.
+     */
+    @Operation(summary = "Частично обновить задачу по ID (админ)", security = @SecurityRequirement(name = "bearerAuth"))
+    @PatchMapping("/admin/{id}")
+    public ResponseEntity<TaskDTO> patchTaskAdmin(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @RequestBody TaskPatchDTO patch) {
+        return patchTaskIfMatch(id, ifMatch, patch);
+    }
+
     /**
      * Удалить задачу по ID. Этот эндпоинт доступен только администраторам.
      *
@@ -105,27 +282,48 @@ public class TaskController {
      *
      * @param currentUser Текущий аутентифицированный пользователь.
      * @param pageable Параметры пагинации.
-     * @return Список задач текущего пользователя.
+     * @return Страница задач текущего пользователя.
      */
     @Operation(summary = "Получить задачи текущего пользователя", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getTasksForCurrentUser(
+    public ResponseEntity<Page<TaskDTO>> getTasksForCurrentUser(
             @AuthenticationPrincipal User currentUser,
             Pageable pageable
     ) {
         return ResponseEntity.ok(taskService.getTasksForCurrentUser(currentUser.getId(), pageable));
     }
 
+    /**
+     * Подписаться на события изменения задач, в которых текущий пользователь является автором или исполнителем.
+     * События created, updated и deleted передаются в формате Server-Sent Events; после переподключения
+     * клиент передает ID последнего полученного события в заголовке Last-Event-ID и получает пропущенные события.
+     * Событие reset означает, что пропущенные события недоступны и список задач нужно загрузить заново.
+     *
+     * @param currentUser Текущий аутентифицированный пользователь.
+     * @param lastEventId ID последнего полученного события (не передается при первом подключении).
+     * @return Поток событий изменения задач или 503, если поток временно не принимает подписчиков.
+     */
+    @Operation(summary = "Поток изменений задач текущего пользователя (SSE)", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasksForCurrentUser(
+            @AuthenticationPrincipal User currentUser,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return taskStreamBroadcaster.subscribe(currentUser.getId(), lastEventId);
+    }
+
     /**
      * Получить задачу текущего пользователя по ID.
+     * Поддерживает условные запросы с заголовками If-None-Match и If-Modified-Since.
      *
      * @param id ID задачи.
-     * @return Детали задачи текущего пользователя.
+     * @param request Текущий запрос.
+     * @return Детали задачи текущего пользователя или ответ 304 без тела, если задача не изменилась.
      */
     @Operation(summary = "Получить задачу текущего пользователя по ID", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> getTaskByIdForCurrentUser(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskDTO> getTaskByIdForCurrentUser(@PathVariable Long id, ServletWebRequest request) {
+        return getTaskIfModified(id, request);
     }
 
     /**
@@ -140,4 +338,82 @@ public class TaskController {
     public ResponseEntity<TaskDTO> updateTaskForCurrentUser(@PathVariable Long id, @RequestBody TaskDTO taskDTO) {
         return ResponseEntity.ok(taskService.updateTask(id, taskDTO));
     }
+
+    /**
+     * Частично обновить задачу текущего пользователя.
+     * Версия задачи передается в заголовке If-Match (значение ETag, полученное при чтении задачи).
+     *
+     * @param id ID задачи.
+     * @param ifMatch Версия задачи, которую видел клиент.
+     * @param patch Изменяемые поля задачи.
+     * @return Обновленная задача, 409 при конфликте версий или 428 без заголовка If-Match
+     *         или с заголовком, не содержащим версию задачи.
+     */
+    @Operation(summary = "Частично обновить задачу текущего пользователя", security = @SecurityRequirement(name = "bearerAuth"))
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskDTO> patchTaskForCurrentUser(@PathVariable Long id,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                           @RequestBody TaskPatchDTO patch) {
+        return patchTaskIfMatch(id, ifMatch, patch);
+    }
+
+    /**
+     * Ответ на запрос задачи с проверкой ETag и Last-Modified.
+     * Сначала выбираются только версия и время изменения задачи: если они совпадают с заголовками запроса,
+     * возвращается 304 без загрузки задачи. Иначе задача загружается полностью, а ETag ответа берется
+     * из версии загруженной задачи, чтобы он всегда соответствовал телу. Если задачу изменили между
+     * двумя запросами, Last-Modified может оказаться старше тела: это приведет лишь к повторной загрузке
+     * задачи при следующем условном запросе, но не к ошибочному ответу 304.
+     *
+     * @param id ID задачи.
+     * @param request Текущий запрос.
+     * @return Детали задачи или null, если ответ 304 уже сформирован.
+     */
+    private ResponseEntity<TaskDTO> getTaskIfModified(Long id, ServletWebRequest request) {
+        TaskVersionDTO version = taskService.getTaskVersion(id);
+        long lastModified = version.getUpdatedAt() != null
+                ? version.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        if (request.checkNotModified("\"" + version.getVersion() + "\"", lastModified)) {
+            return null;
+        }
+        TaskDTO task = taskService.getTaskById(id);
+        // checkNotModified уже записал в ответ ETag проверенной версии, заменяем его версией тела
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.ETAG, "\"" + task.getVersion() + "\"");
+        }
+        // Клиент может хранить задачу, но должен проверять ее актуальность при каждом обращении
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(task);
+    }
+
+    /**
+     * Частичное обновление задачи с версией из заголовка If-Match.
+     * В ответе возвращается новый ETag задачи, который клиент передает при следующем изменении.
+     * Ошибки преобразуются в ответы в {@link io.chekarev.taskManagementSystem.config.handlers.RestExceptionHandler}.
+     *
+     * @param id ID задачи.
+     * @param ifMatch Значение заголовка If-Match.
+     * @param patch Изменяемые поля задачи.
+     * @return Обновленная задача.
+     * @throws PreconditionRequiredException Если заголовок If-Match не передан или не содержит версию задачи.
+     */
+    private ResponseEntity<TaskDTO> patchTaskIfMatch(Long id, String ifMatch, TaskPatchDTO patch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequiredException("If-Match header with the task ETag is required");
+        }
+        long version;
+        try {
+            version = Long.parseLong(ifMatch.trim().replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new PreconditionRequiredException("If-Match header must contain the task ETag: " + ifMatch);
+        }
+
+        TaskDTO task = taskService.patchTask(id, version, patch);
+        return ResponseEntity.ok()
+                .eTag("\"" + task.getVersion() + "\"")
+                .body(task);
+    }
 }
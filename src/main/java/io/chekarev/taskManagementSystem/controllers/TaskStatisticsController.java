@@ -0,0 +1,36 @@
+package io.chekarev.taskManagementSystem.controllers;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskStatisticsDTO;
+import io.chekarev.taskManagementSystem.services.TaskStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер статистики задач для панелей мониторинга. Эндпоинты доступны только администраторам.
+ */
+@Tag(name = "TaskStatisticsController", description = "API для получения статистики задач")
+@RestController
+@RequestMapping("/tasks")
+@RequiredArgsConstructor
+public class TaskStatisticsController {
+
+    private final TaskStatisticsService taskStatisticsService;
+
+    /**
+     * Получить количество задач по статусам, приоритетам и исполнителям. Статистика читается из счетчиков
+     * и не требует обхода задач, поэтому время ответа не зависит от их количества.
+     *
+     * @return Статистика задач.
+     */
+    @Operation(summary = "Получить статистику задач", security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/admin/stats")
+    public ResponseEntity<TaskStatisticsDTO> getStatistics() {
+        return ResponseEntity.ok(taskStatisticsService.getStatistics());
+    }
+}
@@ -0,0 +1,22 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Статистика региона кэша второго уровня.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDTO {
+    private String region;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private float hitPercentage;
+    private long putCount;
+    private long evictionCount;
+    private long removalCount;
+}
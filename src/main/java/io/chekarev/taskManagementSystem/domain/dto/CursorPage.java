@@ -0,0 +1,36 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Страница результатов keyset-пагинации.
+ * nextCursor передается в следующем запросе для получения продолжения выборки.
+ * prevCursor возвращает предыдущую страницу в том же порядке; он заполняется только там,
+ * где выборка поддерживает движение назад, и равен null на первой странице.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private String prevCursor;
+
+    /**
+     * Создает страницу выборки, которая поддерживает только движение вперед.
+     *
+     * @param content Элементы страницы.
+     * @param size Количество элементов страницы.
+     * @param hasNext Есть ли следующая страница.
+     * @param nextCursor Курсор следующей страницы.
+     */
+    public CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this(content, size, hasNext, nextCursor, null);
+    }
+}
@@ -0,0 +1,16 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Тело ответа с ошибкой: краткое описание и сообщение исключения.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorResponseDTO {
+    private String error;
+    private String message;
+}
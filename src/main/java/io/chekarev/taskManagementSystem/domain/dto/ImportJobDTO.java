@@ -0,0 +1,31 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportFormat;
+import io.chekarev.taskManagementSystem.imports.ImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Состояние массового импорта: этап, количество прочитанных, отклоненных и загруженных записей
+ * и скорость чтения записей в секунду.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDTO {
+    private String id;
+    private ImportEntity entity;
+    private ImportFormat format;
+    private ImportJob.Phase phase;
+    private long recordsRead;
+    private long recordsRejected;
+    private long recordsImported;
+    private double recordsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Статистика времени выполнения метода в микросекундах.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodLatencyDTO {
+    private String method;
+    private String layer;
+    private long count;
+    private double meanMicros;
+    private double p50Micros;
+    private double p95Micros;
+    private double p99Micros;
+    private double maxMicros;
+}
@@ -0,0 +1,16 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Количество задач исполнителя. Для задач без исполнителя assigneeId равен null.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAssigneeCountDTO {
+    private Long assigneeId;
+    private long count;
+}
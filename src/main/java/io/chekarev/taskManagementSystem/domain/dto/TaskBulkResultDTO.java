@@ -0,0 +1,26 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Результат обработки одной задачи при пакетном создании и обновлении.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+
+    /**
+     * Итог обработки задачи.
+     */
+    public enum Status {
+        CREATED, UPDATED, NOT_FOUND, INVALID
+    }
+
+    private int index;
+    private Long id;
+    private Status status;
+    private String error;
+}
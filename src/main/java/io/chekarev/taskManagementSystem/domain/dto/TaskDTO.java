@@ -2,9 +2,19 @@ package io.chekarev.taskManagementSystem.domain.dto;
 
 import io.chekarev.taskManagementSystem.models.TaskPriority;
 import io.chekarev.taskManagementSystem.models.TaskStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+/**
+ * DTO задачи. Конструктор со всеми полями используется в запросах-проекциях списков задач,
+ * которые выбирают поля задачи и ID автора и исполнителя напрямую из таблицы tasks.
+ * Одна задача по ID читается как сущность из кэша второго уровня и преобразуется в DTO через TaskMapper.
+ * Версия задачи заполняется при чтении и игнорируется при создании задачи.
+ */
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class TaskDTO {
     private Long id;
     private String title;
@@ -13,4 +23,5 @@ public class TaskDTO {
     private TaskPriority priority;
     private Long authorId;
     private Long assigneeId;
+    private Long version;
 }
@@ -0,0 +1,20 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Количество задач с одинаковыми статусом, приоритетом и исполнителем.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskGroupCountDTO {
+    private TaskStatus status;
+    private TaskPriority priority;
+    private Long assigneeId;
+    private long count;
+}
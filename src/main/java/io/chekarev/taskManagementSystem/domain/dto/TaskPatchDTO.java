@@ -0,0 +1,29 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Частичное изменение задачи. Поля со значением null не изменяются.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPatchDTO {
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+
+    /**
+     * Проверка, что изменение содержит хотя бы одно поле.
+     *
+     * @return true, если все поля равны null.
+     */
+    public boolean isEmpty() {
+        return title == null && description == null && status == null && priority == null;
+    }
+}
@@ -0,0 +1,20 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Результат полнотекстового поиска задач: задача, ранг совпадения и фрагмент текста
+ * с выделенными найденными словами. Фрагмент берется из текста задачи или из комментария,
+ * который лучше всего соответствует запросу. Фрагмент — HTML: исходный текст экранирован,
+ * найденные слова выделены тегом mark.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDTO {
+    private TaskDTO task;
+    private float rank;
+    private String headline;
+}
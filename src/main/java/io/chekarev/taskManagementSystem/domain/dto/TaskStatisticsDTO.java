@@ -0,0 +1,23 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Статистика задач: общее количество и количество по статусам, приоритетам и исполнителям.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatisticsDTO {
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<TaskPriority, Long> byPriority;
+    private List<TaskAssigneeCountDTO> byAssignee;
+}
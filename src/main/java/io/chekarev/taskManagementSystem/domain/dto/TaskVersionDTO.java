@@ -0,0 +1,18 @@
+package io.chekarev.taskManagementSystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Версия и время последнего изменения задачи, из которых строятся заголовки ETag и Last-Modified.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskVersionDTO {
+    private Long version;
+    private LocalDateTime updatedAt;
+}
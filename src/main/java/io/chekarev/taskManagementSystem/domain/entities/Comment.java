@@ -2,17 +2,22 @@ package io.chekarev.taskManagementSystem.domain.entities;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 /**
- * Сущность комментариев
+ * Сущность комментариев.
+ * Задача и автор комментария загружаются лениво; граф {@code Comment.withUser}
+ * загружает комментарий вместе с автором одним запросом.
  */
 @Entity
 @Table(name = "comments")
+@NamedEntityGraph(name = "Comment.withUser", attributeNodes = @NamedAttributeNode("user"))
 @Data
 public class Comment {
 
@@ -20,12 +25,16 @@ public class Comment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @Column(nullable = false)
@@ -13,5 +13,6 @@ public interface TaskMapper {
 
     @Mapping(target = "author.id", source = "authorId")
     @Mapping(target = "assignee.id", source = "assigneeId")
+    @Mapping(target = "version", ignore = true)
     Task toEntity(TaskDTO taskDTO);
 }
@@ -0,0 +1,51 @@
+package io.chekarev.taskManagementSystem.events;
+
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Событие изменения комментария. Публикуется сервисом комментариев внутри транзакции изменения.
+ * Для удаленного комментария передаются только его ID, ID задачи и автора.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentChangeEvent {
+
+    /**
+     * Тип изменения комментария.
+     */
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    private Type type;
+    private Long commentId;
+    private Long taskId;
+    private Long userId;
+    private CommentDTO comment;
+
+    /**
+     * Событие создания комментария.
+     *
+     * @param comment Созданный комментарий.
+     * @return Событие изменения комментария.
+     */
+    public static CommentChangeEvent created(CommentDTO comment) {
+        return new CommentChangeEvent(Type.CREATED, comment.getId(), comment.getTaskId(), comment.getUserId(), comment);
+    }
+
+    /**
+     * Событие удаления комментария.
+     *
+     * @param commentId ID комментария.
+     * @param taskId ID задачи комментария.
+     * @param userId ID автора комментария.
+     * @return Событие изменения комментария.
+     */
+    public static CommentChangeEvent deleted(Long commentId, Long taskId, Long userId) {
+        return new CommentChangeEvent(Type.DELETED, commentId, taskId, userId, null);
+    }
+}
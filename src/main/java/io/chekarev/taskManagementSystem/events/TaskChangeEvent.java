@@ -0,0 +1,71 @@
+package io.chekarev.taskManagementSystem.events;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Событие изменения задачи. Публикуется сервисом задач и доставляется автору и исполнителю задачи
+ * после фиксации транзакции. Для удаленной задачи передаются только ее ID, автор и исполнитель.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeEvent {
+
+    /**
+     * Тип изменения задачи.
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Type type;
+    private Long taskId;
+    private Long authorId;
+    private Long assigneeId;
+    private TaskDTO task;
+
+    /**
+     * Событие создания или изменения задачи.
+     *
+     * @param type Тип изменения.
+     * @param task Задача после изменения.
+     * @return Событие изменения задачи.
+     */
+    public static TaskChangeEvent of(Type type, TaskDTO task) {
+        return new TaskChangeEvent(type, task.getId(), task.getAuthorId(), task.getAssigneeId(), task);
+    }
+
+    /**
+     * Событие удаления задачи.
+     *
+     * @param taskId ID задачи.
+     * @param authorId ID автора задачи.
+     * @param assigneeId ID исполнителя задачи (может быть null).
+     * @return Событие удаления задачи.
+     */
+    public static TaskChangeEvent deleted(Long taskId, Long authorId, Long assigneeId) {
+        return new TaskChangeEvent(Type.DELETED, taskId, authorId, assigneeId, null);
+    }
+
+    /**
+     * Пользователи, которым доставляется событие: автор и исполнитель задачи.
+     *
+     * @return ID получателей события.
+     */
+    public Set<Long> recipients() {
+        Set<Long> recipients = new LinkedHashSet<>(2);
+        if (authorId != null) {
+            recipients.add(authorId);
+        }
+        if (assigneeId != null) {
+            recipients.add(assigneeId);
+        }
+        return recipients;
+    }
+}
@@ -0,0 +1,316 @@
+package io.chekarev.taskManagementSystem.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.events.TaskStreamSubscriber.Message;
+import io.chekarev.taskManagementSystem.exceptions.TaskStreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Рассылка событий изменения задач подписчикам потока SSE.
+ * <p>
+ * Подписчики хранятся по ID пользователя, поэтому событие передается только подписчикам автора и исполнителя
+ * задачи. Публикующий поток только кладет событие в ограниченные очереди подписчиков и никогда не ждет отправки:
+ * сообщения отправляются в сеть потоками отправки, по одному потоку на подписчика за раз. Подписчик,
+ * очередь которого переполнена, отключается; клиент переподключается с заголовком Last-Event-ID
+ * и получает пропущенные события из кольцевого буфера последних событий.
+ * <p>
+ * Запись в сеть нельзя прервать, поэтому клиент, который не читает поток, может надолго занять поток отправки.
+ * Планировщик периодически ищет отправки дольше sendTimeout: такой подписчик отключается, а в пул отправки
+ * добавляется поток взамен занятого до тех пор, пока зависшая запись не вернет управление. Остальные
+ * подписчики продолжают получать события. Добавляется не больше maxExtraSenders потоков; пока столько
+ * записей зависло, новые подписчики отклоняются, чтобы пул не рос и не занимался новыми медленными клиентами.
+ * <p>
+ * ID события состоит из эпохи (времени запуска узла) и порядкового номера. Если клиент передает ID другой
+ * эпохи или события, которых уже нет в буфере, вместо них отправляется событие reset: клиенту нужно заново
+ * загрузить список задач.
+ */
+@Slf4j
+public class TaskStreamBroadcaster {
+
+    static final String RESET_EVENT = "reset";
+    private static final Message HEARTBEAT = Message.comment("heartbeat");
+
+    private final TaskStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService scheduler;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, Set<TaskStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicInteger stalledSends = new AtomicInteger();
+    private final Counter slowDisconnects;
+    private final Counter stalledDisconnects;
+
+    // Номер последнего события, кольцевой буфер и добавление событий в очереди защищены replayLock,
+    // чтобы события, опубликованные во время подписки, не терялись и не дублировались после повтора из буфера
+    private final Object replayLock = new Object();
+    private final ReplayEntry[] replayBuffer;
+    private long sequence;
+
+    private ScheduledFuture<?> heartbeat;
+    private ScheduledFuture<?> stalledSendCheck;
+
+    public TaskStreamBroadcaster(TaskStreamProperties properties, ObjectMapper objectMapper,
+                                 ThreadPoolExecutor executor, ScheduledExecutorService scheduler,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.replayBuffer = new ReplayEntry[properties.getReplayBufferSize()];
+        Gauge.builder("tasks.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Количество открытых потоков событий задач")
+                .register(meterRegistry);
+        this.slowDisconnects = Counter.builder("tasks.stream.slow.disconnects")
+                .description("Количество подписчиков, отключенных из-за переполнения очереди")
+                .register(meterRegistry);
+        Gauge.builder("tasks.stream.stalled.sends", stalledSends, AtomicInteger::get)
+                .description("Количество зависших отправок, занимающих потоки отправки")
+                .register(meterRegistry);
+        this.stalledDisconnects = Counter.builder("tasks.stream.stalled.disconnects")
+                .description("Количество подписчиков, отключенных из-за слишком долгой отправки сообщения")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Запуск отправки пульсов подписчикам и проверки зависших отправок.
+     */
+    public void start() {
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat = scheduler.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+        long checkInterval = Math.max(1, properties.getSendTimeout().toMillis() / 2);
+        stalledSendCheck = scheduler.scheduleAtFixedRate(this::abandonStalledSends, checkInterval, checkInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Остановка рассылки: отправка пульсов и проверка зависших отправок прекращаются, все потоки завершаются.
+     */
+    public void stop() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+        }
+        if (stalledSendCheck != null) {
+            stalledSendCheck.cancel(false);
+        }
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(TaskStreamSubscriber::close));
+    }
+
+    /**
+     * Подписка пользователя на события изменения его задач.
+     *
+     * @param userId ID пользователя.
+     * @param lastEventId ID последнего полученного события из заголовка Last-Event-ID (может быть null).
+     * @return Поток событий.
+     * @throws TaskStreamUnavailableException Если потоки отправки заняты зависшими записями.
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        return subscribe(userId, lastEventId, new SseEmitter(properties.getTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(Long userId, String lastEventId, SseEmitter emitter) {
+        if (stalledSends.get() >= properties.getMaxExtraSenders()) {
+            throw new TaskStreamUnavailableException("Task stream is not accepting new subscribers, try again later");
+        }
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(userId, emitter, properties.getQueueCapacity());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        synchronized (replayLock) {
+            replay(userId, lastEventId).forEach(subscriber::offer);
+            subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            subscriberCount.incrementAndGet();
+        }
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Рассылка события изменения задачи после фиксации транзакции, в которой задача изменена.
+     * Вне транзакции событие рассылается сразу.
+     *
+     * @param event Событие изменения задачи.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize task change event for task {}: {}", event.getTaskId(), e.getMessage());
+            return;
+        }
+
+        Set<Long> recipients = event.recipients();
+        List<TaskStreamSubscriber> accepted = new ArrayList<>();
+        List<TaskStreamSubscriber> overflowed = new ArrayList<>();
+        synchronized (replayLock) {
+            long eventSequence = ++sequence;
+            Message message = new Message(eventId(eventSequence), event.getType().name().toLowerCase(), data);
+            replayBuffer[(int) (eventSequence % replayBuffer.length)] = new ReplayEntry(eventSequence, recipients, message);
+            for (Long userId : recipients) {
+                for (TaskStreamSubscriber subscriber : subscribers.getOrDefault(userId, Set.of())) {
+                    (subscriber.offer(message) ? accepted : overflowed).add(subscriber);
+                }
+            }
+        }
+        accepted.forEach(this::scheduleDrain);
+        overflowed.forEach(this::disconnectSlow);
+    }
+
+    /**
+     * Количество открытых потоков.
+     *
+     * @return Количество подписчиков.
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * События буфера после lastEventId, адресованные пользователю. Вызывается под replayLock.
+     *
+     * @param userId ID пользователя.
+     * @param lastEventId ID последнего полученного события (может быть null).
+     * @return Сообщения для повторной отправки или одно событие reset.
+     */
+    private List<Message> replay(Long userId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        long lastSequence = parseSequence(lastEventId);
+        long oldestSequence = Math.max(1, sequence - replayBuffer.length + 1);
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence + 1 < oldestSequence) {
+            return List.of(resetMessage());
+        }
+
+        List<Message> messages = new ArrayList<>();
+        for (long next = lastSequence + 1; next <= sequence; next++) {
+            ReplayEntry entry = replayBuffer[(int) (next % replayBuffer.length)];
+            if (entry.recipients().contains(userId)) {
+                messages.add(entry.message());
+            }
+        }
+        // Пропущенные события не помещаются в очередь подписчика, вместо них клиент перезагружает список задач
+        return messages.size() > properties.getQueueCapacity() ? List.of(resetMessage()) : messages;
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Message resetMessage() {
+        return new Message(eventId(sequence), RESET_EVENT, "{}");
+    }
+
+    private String eventId(long eventSequence) {
+        return epoch + "-" + eventSequence;
+    }
+
+    private void sendHeartbeats() {
+        for (Set<TaskStreamSubscriber> userSubscribers : subscribers.values()) {
+            for (TaskStreamSubscriber subscriber : userSubscribers) {
+                // Полная очередь означает, что подписчик и так получит сообщения; пульс ему не нужен
+                if (subscriber.offer(HEARTBEAT)) {
+                    scheduleDrain(subscriber);
+                }
+            }
+        }
+    }
+
+    /**
+     * Отключение подписчиков, отправка которым длится дольше sendTimeout. Вызывается планировщиком.
+     * Для каждой зависшей отправки в пул отправки добавляется поток, но не больше maxExtraSenders;
+     * поток убирается, когда запись вернет управление.
+     */
+    void abandonStalledSends() {
+        long now = System.nanoTime();
+        long timeout = properties.getSendTimeout().toNanos();
+        for (Set<TaskStreamSubscriber> userSubscribers : subscribers.values()) {
+            for (TaskStreamSubscriber subscriber : userSubscribers) {
+                if (subscriber.abandonStalledSend(now, timeout)) {
+                    stalledSends.incrementAndGet();
+                    resizeSenders();
+                    stalledDisconnects.increment();
+                    remove(subscriber);
+                }
+            }
+        }
+    }
+
+    private void scheduleDrain(TaskStreamSubscriber subscriber) {
+        if (!subscriber.startDraining()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                if (subscriber.drain()) {
+                    stalledSends.decrementAndGet();
+                    resizeSenders();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.close();
+        }
+    }
+
+    private void resizeSenders() {
+        synchronized (executor) {
+            int size = properties.getSenderThreads() + Math.min(stalledSends.get(), properties.getMaxExtraSenders());
+            // Максимальный размер пула не может быть меньше основного
+            if (size > executor.getCorePoolSize()) {
+                executor.setMaximumPoolSize(size);
+                executor.setCorePoolSize(size);
+            } else if (size < executor.getCorePoolSize()) {
+                executor.setCorePoolSize(size);
+                executor.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    private void disconnectSlow(TaskStreamSubscriber subscriber) {
+        if (subscriber.close()) {
+            slowDisconnects.increment();
+            remove(subscriber);
+        }
+    }
+
+    private void remove(TaskStreamSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.getUserId(), (userId, userSubscribers) -> {
+            if (userSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private record ReplayEntry(long sequence, Set<Long> recipients, Message message) {
+    }
+}
@@ -0,0 +1,53 @@
+package io.chekarev.taskManagementSystem.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки потока событий изменения задач (Server-Sent Events).
+ */
+@Data
+@ConfigurationProperties(prefix = "tasks.stream")
+public class TaskStreamProperties {
+
+    /**
+     * Размер очереди неотправленных событий одного подписчика. Подписчик, очередь которого переполнена,
+     * отключается и переподключается с заголовком Last-Event-ID.
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * Количество последних событий, хранимых для возобновления потока по Last-Event-ID.
+     */
+    private int replayBufferSize = 4096;
+
+    /**
+     * Интервал отправки комментариев-пульсов, по которым прокси не закрывают соединение,
+     * а сервер обнаруживает закрытые клиентом соединения.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Время жизни соединения, после которого поток завершается и клиент переподключается.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Количество потоков, отправляющих события подписчикам.
+     */
+    private int senderThreads = 4;
+
+    /**
+     * Допустимое время отправки одного сообщения. Подписчик, отправка которому длится дольше, отключается,
+     * а на время зависшей записи в пул отправки добавляется поток взамен занятого.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Максимальное количество потоков, добавляемых в пул отправки взамен занятых зависшими записями.
+     * Пока столько записей зависло, новые подписчики не принимаются.
+     */
+    private int maxExtraSenders = 16;
+}
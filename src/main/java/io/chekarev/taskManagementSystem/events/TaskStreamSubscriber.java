@@ -0,0 +1,178 @@
+package io.chekarev.taskManagementSystem.events;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Подписчик потока событий задач: соединение SSE и ограниченная очередь неотправленных сообщений.
+ * Сообщения добавляются в очередь без блокировки, а отправляются одним потоком отправки за раз.
+ * <p>
+ * SseEmitter синхронизирует отправку и завершение потока, поэтому подписчик, закрытый во время отправки,
+ * не завершает соединение сам: это делает поток отправки, когда запись вернет управление. Так закрытие
+ * не ждет медленного клиента. Отправку, которая длится дольше допустимого, рассылка помечает зависшей.
+ */
+final class TaskStreamSubscriber {
+
+    // Состояние отправки: время начала текущей отправки (System.nanoTime()) или одно из значений ниже
+    private static final long IDLE = Long.MIN_VALUE;
+    private static final long CLOSED = Long.MIN_VALUE + 1;
+    private static final long STALLED = Long.MIN_VALUE + 2;
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong sendState = new AtomicLong(IDLE);
+
+    TaskStreamSubscriber(Long userId, SseEmitter emitter, int queueCapacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Добавление сообщения в очередь без ожидания.
+     *
+     * @param message Сообщение.
+     * @return false, если очередь заполнена.
+     */
+    boolean offer(Message message) {
+        return queue.offer(message);
+    }
+
+    /**
+     * Захват права на отправку сообщений очереди.
+     *
+     * @return true, если очередь никто не отправляет и отправка должна быть запланирована вызывающим.
+     */
+    boolean startDraining() {
+        return !queue.isEmpty() && !closed.get() && draining.compareAndSet(false, true);
+    }
+
+    /**
+     * Отправка всех сообщений очереди. Если после освобождения права на отправку в очереди появились
+     * новые сообщения, отправка продолжается, чтобы сообщение не осталось в очереди без отправителя.
+     *
+     * @return true, если отправка была помечена зависшей и поток отправки освободился только сейчас.
+     */
+    boolean drain() {
+        do {
+            Message message;
+            while (!closed.get() && (message = queue.poll()) != null) {
+                long startedAt = System.nanoTime();
+                if (!sendState.compareAndSet(IDLE, startedAt)) {
+                    return false;
+                }
+                boolean failed = false;
+                try {
+                    emitter.send(message.toEvent());
+                } catch (IOException | IllegalStateException e) {
+                    // Клиент закрыл соединение или поток уже завершен
+                    failed = true;
+                }
+                if (!sendState.compareAndSet(startedAt, IDLE)) {
+                    // Подписчика закрыли во время отправки: соединение завершается здесь, после выхода из записи
+                    completeEmitter();
+                    return sendState.get() == STALLED;
+                }
+                if (failed) {
+                    close();
+                    return false;
+                }
+            }
+            draining.set(false);
+        } while (startDraining());
+        return false;
+    }
+
+    /**
+     * Закрытие подписчика, текущая отправка которого длится не меньше timeoutNanos.
+     *
+     * @param now Текущее время System.nanoTime().
+     * @param timeoutNanos Допустимое время отправки одного сообщения.
+     * @return true, если отправка помечена зависшей этим вызовом.
+     */
+    boolean abandonStalledSend(long now, long timeoutNanos) {
+        long startedAt = sendState.get();
+        if (startedAt == IDLE || startedAt == CLOSED || startedAt == STALLED || now - startedAt < timeoutNanos
+                || !sendState.compareAndSet(startedAt, STALLED)) {
+            return false;
+        }
+        closed.set(true);
+        queue.clear();
+        return true;
+    }
+
+    /**
+     * Завершение потока подписчика. Повторные вызовы игнорируются.
+     * Если идет отправка, соединение завершит поток отправки после ее окончания.
+     *
+     * @return true, если поток был завершен этим вызовом.
+     */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        while (true) {
+            long state = sendState.get();
+            if (state == CLOSED || state == STALLED) {
+                return true;
+            }
+            if (sendState.compareAndSet(state, CLOSED)) {
+                if (state == IDLE) {
+                    completeEmitter();
+                }
+                return true;
+            }
+        }
+    }
+
+    private void completeEmitter() {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // Поток уже завершен контейнером
+        }
+    }
+
+    /**
+     * Сообщение потока: событие с ID и именем или комментарий-пульс.
+     *
+     * @param id ID события (null для комментария).
+     * @param name Имя события (null для комментария).
+     * @param data Данные события в JSON или текст комментария.
+     */
+    record Message(String id, String name, String data) {
+
+        static Message comment(String text) {
+            return new Message(null, null, text);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(id) : event;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.chekarev.taskManagementSystem.exceptions;
+
+/**
+ * Исключение InvalidCursorException: курсор keyset-пагинации или ключ сортировки курсора имеет неверный формат.
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package io.chekarev.taskManagementSystem.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Исключение InvalidImportRecordException: запись импорта не разобрана или не прошла проверку.
+ * Запись отклоняется, импорт остальных записей продолжается.
+ */
+@Getter
+public class InvalidImportRecordException extends RuntimeException {
+
+    private final long recordNumber;
+
+    public InvalidImportRecordException(long recordNumber, String message) {
+        super(message);
+        this.recordNumber = recordNumber;
+    }
+}
@@ -0,0 +1,10 @@
+package io.chekarev.taskManagementSystem.exceptions;
+
+/**
+ * Исключение PreconditionRequiredException: условный запрос пришел без обязательного заголовка (например, If-Match).
+ */
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package io.chekarev.taskManagementSystem.exceptions;
+
+/**
+ * Исключение TaskStreamUnavailableException: поток событий задач временно не принимает новых подписчиков.
+ */
+public class TaskStreamUnavailableException extends RuntimeException {
+    public TaskStreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package io.chekarev.taskManagementSystem.exceptions;
+
+/**
+ * Исключение TaskVersionConflictException: задача была изменена после того, как клиент получил ее версию.
+ */
+public class TaskVersionConflictException extends RuntimeException {
+    public TaskVersionConflictException(String message) {
+        super(message);
+    }
+}
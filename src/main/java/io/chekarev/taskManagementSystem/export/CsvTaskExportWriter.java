@@ -0,0 +1,66 @@
+package io.chekarev.taskManagementSystem.export;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Запись задач в формате CSV (RFC 4180) в кодировке UTF-8. Первая строка содержит названия столбцов.
+ * Значения с запятой, кавычкой или переводом строки заключаются в кавычки, кавычки внутри них удваиваются.
+ */
+class CsvTaskExportWriter implements TaskExportWriter {
+
+    private static final String HEADER = "id,title,description,status,priority,authorId,assigneeId,version";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    CsvTaskExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(TaskDTO task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writeText(task.getTitle());
+        writer.write(',');
+        writeText(task.getDescription());
+        writer.write(',');
+        writer.write(task.getStatus() != null ? task.getStatus().name() : "");
+        writer.write(',');
+        writer.write(task.getPriority() != null ? task.getPriority().name() : "");
+        writer.write(',');
+        writer.write(task.getAuthorId() != null ? task.getAuthorId().toString() : "");
+        writer.write(',');
+        writer.write(task.getAssigneeId() != null ? task.getAssigneeId().toString() : "");
+        writer.write(',');
+        writer.write(task.getVersion() != null ? task.getVersion().toString() : "");
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,38 @@
+package io.chekarev.taskManagementSystem.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Запись задач в формате NDJSON. Все задачи записываются одним JsonGenerator, который не сбрасывает буфер
+ * после каждой задачи: данные уходят клиенту по мере заполнения буфера.
+ */
+class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    NdjsonTaskExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        // Задачи разделяются переводом строки, а не пробелом по умолчанию
+        generator.setRootValueSeparator(null);
+        this.writer = objectMapper.writerFor(TaskDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(TaskDTO task) throws IOException {
+        writer.writeValue(generator, task);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,25 @@
+package io.chekarev.taskManagementSystem.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Формат выгрузки задач.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+
+    /**
+     * Одна задача в формате JSON на строку.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Таблица с заголовком и значениями, разделенными запятыми (RFC 4180).
+     */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+}
@@ -0,0 +1,23 @@
+package io.chekarev.taskManagementSystem.export;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки потоковой выгрузки задач.
+ */
+@Data
+@ConfigurationProperties(prefix = "tasks.export")
+public class TaskExportProperties {
+
+    /**
+     * Количество строк, которое драйвер PostgreSQL получает из курсора за одно обращение к серверу.
+     * От него зависит объем памяти, занятой выгрузкой, но не от количества выгружаемых задач.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Размер буфера записи ответа в байтах.
+     */
+    private int bufferSize = 64 * 1024;
+}
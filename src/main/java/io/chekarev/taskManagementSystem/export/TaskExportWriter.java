@@ -0,0 +1,40 @@
+package io.chekarev.taskManagementSystem.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Запись задач в поток выгрузки. Задачи записываются по одной и не накапливаются в памяти.
+ * Закрытие записи сбрасывает буферы и закрывает поток, в который выполняется запись.
+ */
+public interface TaskExportWriter extends Closeable {
+
+    /**
+     * Запись задачи.
+     *
+     * @param task Задача.
+     * @throws IOException Если запись в поток не удалась, например клиент закрыл соединение.
+     */
+    void write(TaskDTO task) throws IOException;
+
+    /**
+     * Создание записи в заданном формате.
+     *
+     * @param format Формат выгрузки.
+     * @param outputStream Поток, в который выполняется запись.
+     * @param objectMapper ObjectMapper для записи задач в формате JSON.
+     * @return Запись задач.
+     * @throws IOException Если не удалось записать заголовок выгрузки.
+     */
+    static TaskExportWriter of(TaskExportFormat format, OutputStream outputStream, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonTaskExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvTaskExportWriter(outputStream);
+        };
+    }
+}
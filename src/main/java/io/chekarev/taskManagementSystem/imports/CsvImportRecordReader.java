@@ -0,0 +1,169 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import io.chekarev.taskManagementSystem.exceptions.InvalidImportRecordException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Чтение записей в формате CSV (RFC 4180). Первая запись содержит имена полей, строки разделяются
+ * переводом строки LF или CRLF, значения в кавычках могут содержать запятые, кавычки и переводы строк.
+ * Номер записи считается без заголовка и пустых строк.
+ * <p>
+ * Символы читаются из собственного буфера, а не по одному через BufferedReader, который блокируется
+ * при каждом вызове read.
+ */
+class CsvImportRecordReader implements ImportRecordReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private List<String> header;
+    private long recordNumber;
+
+    CsvImportRecordReader(InputStream inputStream) {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        if (header == null && !readHeader()) {
+            return null;
+        }
+        List<String> values;
+        do {
+            values = readValues();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+        recordNumber++;
+
+        if (values.size() != header.size()) {
+            throw new InvalidImportRecordException(recordNumber,
+                    "Expected " + header.size() + " fields but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return new ImportRecord(recordNumber, fields);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean readHeader() throws IOException {
+        List<String> names;
+        try {
+            names = readValues();
+        } catch (InvalidImportRecordException e) {
+            throw new IllegalArgumentException("Malformed CSV header: " + e.getMessage());
+        }
+        if (names == null) {
+            return false;
+        }
+        header = new ArrayList<>(names.size());
+        for (String name : names) {
+            header.add(name.replace("\uFEFF", "").trim());
+        }
+        return true;
+    }
+
+    /**
+     * Чтение значений одной записи.
+     *
+     * @return Значения записи или null, если данные закончились.
+     */
+    private List<String> readValues() throws IOException {
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        while (true) {
+            field.setLength(0);
+            if (c == '"') {
+                while (true) {
+                    c = read();
+                    if (c < 0) {
+                        throw malformed("Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            break;
+                        }
+                    }
+                    field.append((char) c);
+                }
+                if (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+                    skipLine();
+                    throw malformed("Unexpected character after quoted field");
+                }
+            } else {
+                while (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+                    field.append((char) c);
+                    c = read();
+                }
+            }
+            values.add(field.toString());
+            if (c != ',') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                return values;
+            }
+            c = read();
+        }
+    }
+
+    private InvalidImportRecordException malformed(String reason) {
+        recordNumber++;
+        return new InvalidImportRecordException(recordNumber, reason);
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c >= 0 && c != '\n');
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
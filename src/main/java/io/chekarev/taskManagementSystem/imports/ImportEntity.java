@@ -0,0 +1,65 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Вид импортируемых данных. Определяет проверку записи и значения, которые записываются в промежуточную таблицу.
+ */
+public enum ImportEntity {
+
+    /**
+     * Задачи: key, title, description, status, priority, authorEmail, assigneeEmail.
+     * Необязательный внешний ключ key сохраняется при импорте, чтобы комментарии могли ссылаться на задачу по нему.
+     */
+    TASKS {
+        @Override
+        public String[] toStagingRow(ImportRecord record) {
+            return new String[]{
+                    record.optional("key", 255),
+                    record.required("title", 255),
+                    record.optional("description", Integer.MAX_VALUE),
+                    record.enumValue("status", TaskStatus.class).name(),
+                    record.enumValue("priority", TaskPriority.class).name(),
+                    record.required("authorEmail", 255),
+                    record.optional("assigneeEmail", 255)
+            };
+        }
+    },
+
+    /**
+     * Комментарии: taskKey или taskId, authorEmail, text, createdAt.
+     * Задача указывается внешним ключом из импорта задач или ID существующей задачи.
+     */
+    COMMENTS {
+        @Override
+        public String[] toStagingRow(ImportRecord record) {
+            String taskKey = record.optional("taskKey", 255);
+            Long taskId = record.optionalId("taskId");
+            if ((taskKey == null) == (taskId == null)) {
+                throw record.invalid("Exactly one of taskKey and taskId is required");
+            }
+            String authorEmail = record.required("authorEmail", 255);
+            String text = record.required("text", Integer.MAX_VALUE);
+            LocalDateTime createdAt = record.optionalDateTime("createdAt");
+            return new String[]{
+                    taskKey,
+                    taskId != null ? taskId.toString() : null,
+                    authorEmail,
+                    text,
+                    createdAt != null ? createdAt.toString() : null
+            };
+        }
+    };
+
+    /**
+     * Проверка записи и преобразование ее в строку промежуточной таблицы.
+     *
+     * @param record Запись входных данных.
+     * @return Значения колонок промежуточной таблицы, null для отсутствующих значений.
+     * @throws io.chekarev.taskManagementSystem.exceptions.InvalidImportRecordException Если запись не прошла проверку.
+     */
+    public abstract String[] toStagingRow(ImportRecord record);
+}
@@ -0,0 +1,17 @@
+package io.chekarev.taskManagementSystem.imports;
+
+/**
+ * Формат входных данных импорта.
+ */
+public enum ImportFormat {
+
+    /**
+     * Одна запись в формате JSON на строку.
+     */
+    NDJSON,
+
+    /**
+     * Таблица с заголовком и значениями, разделенными запятыми (RFC 4180). Столбцы определяются по заголовку.
+     */
+    CSV
+}
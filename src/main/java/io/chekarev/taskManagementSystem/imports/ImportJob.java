@@ -0,0 +1,100 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import io.chekarev.taskManagementSystem.domain.dto.ImportJobDTO;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Состояние одного импорта. Счетчики изменяет поток, выполняющий импорт, а читают запросы прогресса.
+ */
+public class ImportJob {
+
+    /**
+     * Этап импорта.
+     */
+    public enum Phase {
+        /**
+         * Чтение и проверка входных данных, передача строк в промежуточную таблицу.
+         */
+        READING,
+        /**
+         * Перенос строк из промежуточной таблицы в основные таблицы.
+         */
+        MERGING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Getter
+    private final String id;
+    @Getter
+    private final ImportEntity entity;
+    @Getter
+    private final ImportFormat format;
+    @Getter
+    private final Path rejectFile;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong recordsRead = new AtomicLong();
+    private final AtomicLong recordsRejected = new AtomicLong();
+    private volatile Phase phase = Phase.READING;
+    private volatile long recordsImported;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public ImportJob(String id, ImportEntity entity, ImportFormat format, Path rejectFile) {
+        this.id = id;
+        this.entity = entity;
+        this.format = format;
+        this.rejectFile = rejectFile;
+    }
+
+    public void recordRead() {
+        recordsRead.incrementAndGet();
+    }
+
+    public void recordRejected() {
+        recordsRejected.incrementAndGet();
+    }
+
+    public long getRecordsRejected() {
+        return recordsRejected.get();
+    }
+
+    public void startMerge() {
+        phase = Phase.MERGING;
+    }
+
+    public void complete(long imported) {
+        recordsImported = imported;
+        finishedAt = LocalDateTime.now();
+        phase = Phase.COMPLETED;
+    }
+
+    public void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        phase = Phase.FAILED;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    /**
+     * Снимок состояния импорта. Скорость считается по прочитанным записям за время от начала импорта
+     * до его завершения или до текущего момента.
+     *
+     * @return Состояние импорта.
+     */
+    public ImportJobDTO toDTO() {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long elapsedMillis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        long read = recordsRead.get();
+        return new ImportJobDTO(id, entity, format, phase, read, recordsRejected.get(), recordsImported,
+                read * 1000.0 / elapsedMillis, startedAt, finishedAt, error);
+    }
+}
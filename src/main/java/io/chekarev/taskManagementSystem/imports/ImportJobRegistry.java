@@ -0,0 +1,89 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Состояние последних импортов в памяти узла. Хранится не больше {@link ImportProperties#getHistorySize()}
+ * импортов: при превышении вытесняется самый старый, и его файл отклоненных записей удаляется.
+ */
+@Slf4j
+public class ImportJobRegistry {
+
+    private final ImportProperties properties;
+    private final Map<String, ImportJob> jobs;
+
+    public ImportJobRegistry(ImportProperties properties) {
+        this.properties = properties;
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+                if (size() <= properties.getHistorySize()) {
+                    return false;
+                }
+                deleteRejectFile(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Регистрация нового импорта.
+     *
+     * @param entity Вид импортируемых данных.
+     * @param format Формат входных данных.
+     * @return Импорт на этапе чтения входных данных.
+     */
+    public ImportJob start(ImportEntity entity, ImportFormat format) {
+        String id = UUID.randomUUID().toString();
+        ImportJob job = new ImportJob(id, entity, format,
+                properties.getRejectDirectory().resolve(id + ".rejects.ndjson"));
+        synchronized (jobs) {
+            jobs.put(id, job);
+        }
+        return job;
+    }
+
+    /**
+     * Поиск импорта по ID.
+     *
+     * @param id ID импорта.
+     * @return Optional, содержащий импорт, если он еще хранится.
+     */
+    public Optional<ImportJob> find(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    /**
+     * Получение всех хранящихся импортов.
+     *
+     * @return Импорты, начиная с последнего.
+     */
+    public List<ImportJob> findAll() {
+        List<ImportJob> result;
+        synchronized (jobs) {
+            result = new ArrayList<>(jobs.values());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static void deleteRejectFile(ImportJob job) {
+        try {
+            Files.deleteIfExists(job.getRejectFile());
+        } catch (IOException e) {
+            log.warn("Failed to delete reject file {}: {}", job.getRejectFile(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Настройки массового импорта задач и комментариев.
+ */
+@Data
+@ConfigurationProperties(prefix = "imports")
+public class ImportProperties {
+
+    /**
+     * Каталог файлов отклоненных записей.
+     */
+    private Path rejectDirectory = Path.of(System.getProperty("java.io.tmpdir"), "task-imports");
+
+    /**
+     * Размер буфера передачи строк в COPY в байтах.
+     */
+    private int copyBufferSize = 64 * 1024;
+
+    /**
+     * Количество последних импортов, состояние которых хранится в памяти. Файлы отклоненных записей
+     * вытесненных импортов удаляются.
+     */
+    private int historySize = 100;
+}
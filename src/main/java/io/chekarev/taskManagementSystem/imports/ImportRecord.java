@@ -0,0 +1,128 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import io.chekarev.taskManagementSystem.exceptions.InvalidImportRecordException;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Запись входных данных импорта: значения полей по именам и номер записи во входных данных.
+ * Пустое значение считается отсутствующим. Методы чтения полей проверяют значение и при ошибке
+ * выбрасывают {@link InvalidImportRecordException} с номером записи.
+ */
+public class ImportRecord {
+
+    @Getter
+    private final long number;
+    private final Map<String, String> fields;
+
+    public ImportRecord(long number, Map<String, String> fields) {
+        this.number = number;
+        this.fields = fields;
+    }
+
+    /**
+     * Обязательное текстовое поле.
+     *
+     * @param name Имя поля.
+     * @param maxLength Максимальная длина значения.
+     * @return Значение поля.
+     */
+    public String required(String name, int maxLength) {
+        String value = optional(name, maxLength);
+        if (value == null) {
+            throw invalid(name + " is required");
+        }
+        return value;
+    }
+
+    /**
+     * Необязательное текстовое поле.
+     *
+     * @param name Имя поля.
+     * @param maxLength Максимальная длина значения.
+     * @return Значение поля или null, если поле отсутствует.
+     */
+    public String optional(String name, int maxLength) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (value.length() > maxLength) {
+            throw invalid(name + " must not be longer than " + maxLength + " characters");
+        }
+        // PostgreSQL не хранит символ NUL в текстовых колонках
+        if (value.indexOf('\0') >= 0) {
+            throw invalid(name + " must not contain NUL characters");
+        }
+        return value;
+    }
+
+    /**
+     * Обязательное поле со значением перечисления.
+     *
+     * @param name Имя поля.
+     * @param type Тип перечисления.
+     * @return Значение поля.
+     */
+    public <E extends Enum<E>> E enumValue(String name, Class<E> type) {
+        String value = required(name, Integer.MAX_VALUE);
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw invalid("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Необязательное поле с положительным целым числом.
+     *
+     * @param name Имя поля.
+     * @return Значение поля или null, если поле отсутствует.
+     */
+    public Long optionalId(String name) {
+        String value = optional(name, Integer.MAX_VALUE);
+        if (value == null) {
+            return null;
+        }
+        try {
+            long id = Long.parseLong(value.trim());
+            if (id <= 0) {
+                throw invalid("Invalid " + name + ": " + value);
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw invalid("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Необязательное поле с датой и временем в формате ISO-8601 без часового пояса.
+     *
+     * @param name Имя поля.
+     * @return Значение поля или null, если поле отсутствует.
+     */
+    public LocalDateTime optionalDateTime(String name) {
+        String value = optional(name, Integer.MAX_VALUE);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw invalid("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Исключение для отклонения записи.
+     *
+     * @param reason Причина отклонения.
+     * @return Исключение с номером записи.
+     */
+    public InvalidImportRecordException invalid(String reason) {
+        return new InvalidImportRecordException(number, reason);
+    }
+}
@@ -0,0 +1,38 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Чтение записей импорта из входного потока. Записи читаются по одной и не накапливаются в памяти.
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * Чтение следующей записи. Если запись не удалось разобрать, выбрасывается исключение, а следующий вызов
+     * продолжает чтение со следующей записи.
+     *
+     * @return Запись или null, если записи закончились.
+     * @throws IOException Если чтение из потока не удалось.
+     * @throws io.chekarev.taskManagementSystem.exceptions.InvalidImportRecordException Если запись не удалось разобрать.
+     */
+    ImportRecord next() throws IOException;
+
+    /**
+     * Создание чтения в заданном формате. Входные данные читаются в кодировке UTF-8.
+     *
+     * @param format Формат входных данных.
+     * @param inputStream Поток входных данных.
+     * @param objectMapper ObjectMapper для разбора записей в формате JSON.
+     * @return Чтение записей.
+     */
+    static ImportRecordReader of(ImportFormat format, InputStream inputStream, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonImportRecordReader(inputStream, objectMapper);
+            case CSV -> new CsvImportRecordReader(inputStream);
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package io.chekarev.taskManagementSystem.imports;
+
+/**
+ * Получатель отклоненных записей импорта.
+ */
+@FunctionalInterface
+public interface ImportRejectHandler {
+
+    /**
+     * Отклонение записи.
+     *
+     * @param recordNumber Номер записи во входных данных.
+     * @param reason Причина отклонения.
+     */
+    void reject(long recordNumber, String reason);
+}
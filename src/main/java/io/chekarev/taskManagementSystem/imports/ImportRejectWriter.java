@@ -0,0 +1,56 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Запись файла отклоненных записей импорта в формате NDJSON: {"record": номер записи, "reason": причина}.
+ * Содержимое отклоненной записи не повторяется, ее можно найти во входных данных по номеру.
+ */
+public class ImportRejectWriter implements ImportRejectHandler, Closeable {
+
+    private final JsonGenerator generator;
+
+    private ImportRejectWriter(JsonGenerator generator) {
+        this.generator = generator;
+        // Записи разделяются переводом строки, а не пробелом по умолчанию
+        generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * Создание файла отклоненных записей. Каталог файла создается при необходимости.
+     *
+     * @param file Путь к файлу.
+     * @param objectMapper ObjectMapper, фабрика которого создает JsonGenerator.
+     * @return Запись отклоненных записей.
+     * @throws IOException Если файл не удалось создать.
+     */
+    public static ImportRejectWriter open(Path file, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(file.getParent());
+        return new ImportRejectWriter(objectMapper.getFactory().createGenerator(Files.newOutputStream(file)));
+    }
+
+    @Override
+    public void reject(long recordNumber, String reason) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("record", recordNumber);
+            generator.writeStringField("reason", reason);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write rejected import record", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
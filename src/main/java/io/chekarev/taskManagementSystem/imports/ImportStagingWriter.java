@@ -0,0 +1,26 @@
+package io.chekarev.taskManagementSystem.imports;
+
+/**
+ * Запись строк в промежуточную таблицу импорта. Строки передаются в базу данных потоком, пока запись не завершена.
+ * Закрытие незавершенной записи отменяет передачу.
+ */
+public interface ImportStagingWriter extends AutoCloseable {
+
+    /**
+     * Запись строки.
+     *
+     * @param recordNumber Номер записи во входных данных.
+     * @param values Значения колонок промежуточной таблицы, null для отсутствующих значений.
+     */
+    void write(long recordNumber, String[] values);
+
+    /**
+     * Завершение записи.
+     *
+     * @return Количество записанных строк.
+     */
+    long finish();
+
+    @Override
+    void close();
+}
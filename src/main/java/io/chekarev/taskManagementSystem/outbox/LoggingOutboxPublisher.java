@@ -0,0 +1,21 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Получатель событий по умолчанию: записывает события в журнал. Заменяется собственным бином
+ * {@link OutboxPublisher}, который передает события во внешнюю систему.
+ */
+@Slf4j
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        if (log.isDebugEnabled()) {
+            events.forEach(event -> log.debug("Outbox event {}: {} {} {}",
+                    event.getId(), event.getAggregateType(), event.getAggregateId(), event.getEventType()));
+        }
+    }
+}
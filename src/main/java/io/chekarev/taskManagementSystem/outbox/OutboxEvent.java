@@ -0,0 +1,44 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Событие изменения в таблице outbox_events. Содержит тип и ID измененной сущности, тип изменения
+ * и событие сервиса в виде JSON. ID и время создания назначаются базой данных при вставке.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * Тип сущности, к которой относится событие.
+     */
+    public enum AggregateType {
+        TASK, COMMENT
+    }
+
+    private Long id;
+    private AggregateType aggregateType;
+    private Long aggregateId;
+    private String eventType;
+    private String payload;
+    private LocalDateTime createdAt;
+
+    /**
+     * Новое событие для записи в outbox.
+     *
+     * @param aggregateType Тип сущности.
+     * @param aggregateId ID сущности.
+     * @param eventType Тип изменения.
+     * @param payload Событие в виде JSON.
+     * @return Событие без ID и времени создания.
+     */
+    public static OutboxEvent of(AggregateType aggregateType, Long aggregateId, String eventType, String payload) {
+        return new OutboxEvent(null, aggregateType, aggregateId, eventType, payload, null);
+    }
+}
@@ -0,0 +1,20 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import java.util.List;
+
+/**
+ * Получатель событий, которые ретранслятор выбирает из outbox (брокер сообщений, индекс поиска и т.п.).
+ * <p>
+ * Доставка выполняется по схеме at-least-once: события удаляются из outbox только после успешного возврата
+ * из {@link #publish(List)}, а при исключении тот же пакет будет передан повторно. Получатель должен
+ * обрабатывать повторы идемпотентно, например по ID события.
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Доставка пакета событий. События одной сущности передаются в порядке их фиксации.
+     *
+     * @param events События в порядке возрастания ID.
+     */
+    void publish(List<OutboxEvent> events);
+}
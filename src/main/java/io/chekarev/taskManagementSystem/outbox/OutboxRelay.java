@@ -0,0 +1,128 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import io.chekarev.taskManagementSystem.repositories.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ретранслятор событий outbox.
+ * <p>
+ * Каждый пакет доставляется в отдельной транзакции: узел захватывает несколько секций с событиями через
+ * FOR UPDATE SKIP LOCKED, выбирает их первые события в порядке ID, передает их {@link OutboxPublisher}
+ * и удаляет. Пока транзакция не завершена, другие узлы пропускают захваченные секции и разбирают остальные,
+ * поэтому события одной сущности не доставляются параллельно и не обгоняют друг друга. Если доставка
+ * завершилась ошибкой, транзакция откатывается и те же события доставляются при следующем опросе.
+ * <p>
+ * Ретранслятор читает только таблицы outbox и не нагружает таблицы задач и комментариев.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayProperties properties;
+    private final ScheduledExecutorService executor;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayedEvents;
+    private final Counter failures;
+    private final Timer batchTimer;
+
+    private ScheduledFuture<?> polling;
+
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxPublisher publisher,
+                       TransactionTemplate transactionTemplate, OutboxRelayProperties properties,
+                       ScheduledExecutorService executor, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.executor = executor;
+        this.relayedEvents = Counter.builder("outbox.relay.events")
+                .description("Количество событий, доставленных из outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Количество пакетов outbox, доставка которых завершилась ошибкой")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Время доставки и удаления пакета событий outbox")
+                .register(meterRegistry);
+        TimeGauge.builder("outbox.relay.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Возраст самого старого недоставленного события outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Запуск периодического опроса outbox, если ретранслятор включен на этом узле.
+     */
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long interval = properties.getPollInterval().toMillis();
+        polling = executor.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Остановка опроса. Пакет, доставка которого уже началась, завершается.
+     */
+    public void stop() {
+        if (polling != null) {
+            polling.cancel(false);
+        }
+    }
+
+    /**
+     * Один опрос outbox: пакеты доставляются подряд, пока они заполняются полностью, но не больше
+     * {@link OutboxRelayProperties#getMaxBatchesPerPoll()}, затем обновляется задержка доставки.
+     */
+    void poll() {
+        try {
+            int batches = 0;
+            int relayed;
+            do {
+                relayed = relayBatch();
+                batches++;
+            } while (relayed == properties.getBatchSize() && batches < properties.getMaxBatchesPerPoll());
+            lagMillis.set(outboxRepository.findOldestEventAgeMillis().orElse(0L));
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay failed, events will be retried: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Доставка одного пакета событий в отдельной транзакции.
+     *
+     * @return Количество доставленных событий.
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<Integer> partitions = outboxRepository.claimPartitions(properties.getPartitionsPerBatch());
+            if (partitions.isEmpty()) {
+                return 0;
+            }
+            List<OutboxEvent> events = outboxRepository.findBatch(partitions, properties.getBatchSize());
+            if (events.isEmpty()) {
+                return 0;
+            }
+            batchTimer.record(() -> {
+                publisher.publish(events);
+                outboxRepository.complete(events.stream().map(OutboxEvent::getId).toList(), partitions);
+            });
+            return events.size();
+        });
+        relayedEvents.increment(relayed);
+        return relayed;
+    }
+}
@@ -0,0 +1,40 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки ретранслятора событий outbox.
+ */
+@Data
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    /**
+     * Включение ретранслятора на этом узле. События записываются в outbox независимо от этой настройки.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Пауза между опросами outbox, когда все события доставлены.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Максимальное количество событий в одном пакете доставки.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Количество секций, которые узел захватывает одной транзакцией. Из 16 секций узлы разбирают
+     * непересекающиеся наборы, поэтому параллельно работают до 16 / partitionsPerBatch узлов.
+     */
+    private int partitionsPerBatch = 4;
+
+    /**
+     * Максимальное количество пакетов, доставляемых подряд за один опрос, пока outbox не опустеет.
+     */
+    private int maxBatchesPerPoll = 20;
+}
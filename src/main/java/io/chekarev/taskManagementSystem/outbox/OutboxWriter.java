@@ -0,0 +1,83 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.events.CommentChangeEvent;
+import io.chekarev.taskManagementSystem.events.TaskChangeEvent;
+import io.chekarev.taskManagementSystem.repositories.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Запись событий изменения задач и комментариев в outbox.
+ * <p>
+ * Слушатель вызывается синхронно при публикации события сервисом, то есть внутри его транзакции.
+ * События транзакции накапливаются и вставляются одним JDBC-пакетом перед фиксацией: они фиксируются
+ * вместе с изменением или отменяются вместе с ним, без отдельной записи во внешнюю систему.
+ */
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Запись события изменения задачи в outbox текущей транзакции.
+     *
+     * @param event Событие изменения задачи.
+     */
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        append(OutboxEvent.of(OutboxEvent.AggregateType.TASK, event.getTaskId(), event.getType().name(), toJson(event)));
+    }
+
+    /**
+     * Запись события изменения комментария в outbox текущей транзакции.
+     *
+     * @param event Событие изменения комментария.
+     */
+    @EventListener
+    public void onCommentChange(CommentChangeEvent event) {
+        append(OutboxEvent.of(OutboxEvent.AggregateType.COMMENT, event.getCommentId(), event.getType().name(),
+                toJson(event)));
+    }
+
+    private void append(OutboxEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.append(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<OutboxEvent> pending = (List<OutboxEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<OutboxEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    outboxRepository.append(events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.chekarev.taskManagementSystem.pagination;
+
+/**
+ * Способ определения общего количества элементов для постраничной выборки задач.
+ */
+public enum CountMode {
+    /**
+     * Точное количество: выполняется COUNT с теми же фильтрами, что и выборка страницы.
+     */
+    EXACT,
+    /**
+     * Приблизительное количество по оценке планировщика PostgreSQL, COUNT не выполняется.
+     */
+    APPROXIMATE,
+    /**
+     * Количество не определяется: возвращается Slice с признаком наличия следующей страницы.
+     */
+    NONE
+}
@@ -0,0 +1,28 @@
+package io.chekarev.taskManagementSystem.pagination;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Страница, общее количество элементов которой получено по оценке планировщика, а не точным подсчетом.
+ * Количество страниц и признак последней страницы вычисляются по этой оценке и могут быть неточными.
+ *
+ * @param <T> Тип элементов страницы.
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    public EstimatedPage(List<T> content, Pageable pageable, long estimatedTotal) {
+        super(content, pageable, estimatedTotal);
+    }
+
+    /**
+     * Признак того, что общее количество элементов является оценкой.
+     *
+     * @return всегда true.
+     */
+    public boolean isTotalEstimated() {
+        return true;
+    }
+}
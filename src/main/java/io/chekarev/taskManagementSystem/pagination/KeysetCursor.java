@@ -0,0 +1,76 @@
+package io.chekarev.taskManagementSystem.pagination;
+
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Курсор для keyset-пагинации. Хранит ключ сортировки, направление, значение ключа сортировки
+ * и ID граничного элемента страницы. Клиенту передается в виде непрозрачной строки Base64.
+ * Отсутствующее значение ключа сортировки (null) кодируется пустой строкой.
+ * Обратный курсор (backward) указывает на первый элемент страницы и выбирает предыдущую страницу
+ * в том же направлении сортировки.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String FORWARD = "F";
+    private static final String BACKWARD = "B";
+
+    private final String sort;
+    private final Sort.Direction direction;
+    private final String value;
+    private final Long id;
+    private final boolean backward;
+
+    /**
+     * Создает курсор следующей страницы.
+     *
+     * @param sort Ключ сортировки.
+     * @param direction Направление сортировки.
+     * @param value Значение ключа сортировки последнего элемента страницы.
+     * @param id ID последнего элемента страницы.
+     */
+    public KeysetCursor(String sort, Sort.Direction direction, String value, Long id) {
+        this(sort, direction, value, id, false);
+    }
+
+    /**
+     * Кодирует курсор в непрозрачную строку для передачи клиенту.
+     *
+     * @return Закодированный курсор.
+     */
+    public String encode() {
+        String raw = sort + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR
+                + (backward ? BACKWARD : FORWARD) + SEPARATOR + (value != null ? value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Декодирует курсор, полученный от клиента.
+     *
+     * @param cursor Закодированный курсор.
+     * @return Курсор.
+     * @throws InvalidCursorException Если курсор имеет неверный формат.
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5 || !(FORWARD.equals(parts[3]) || BACKWARD.equals(parts[3]))) {
+                throw new InvalidCursorException("Invalid cursor format: " + cursor);
+            }
+            String value = parts[4].isEmpty() ? null : parts[4];
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), value, Long.parseLong(parts[2]),
+                    BACKWARD.equals(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor format: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.chekarev.taskManagementSystem.pagination;
+
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Ключи сортировки задач, допустимые для keyset-пагинации.
+ * Каждый ключ знает имя свойства сущности, способ извлечения значения из задачи
+ * и способ восстановления значения из курсора. Столбцы created_at и updated_at обязательны (V15),
+ * поэтому значение ключа у задачи всегда есть, а курсор без значения отклоняется как неверный.
+ */
+public enum TaskSortKey {
+    ID("id", task -> Objects.toString(task.getId(), null), Long::valueOf),
+    CREATED_AT("createdAt", task -> Objects.toString(task.getCreatedAt(), null), LocalDateTime::parse),
+    UPDATED_AT("updatedAt", task -> Objects.toString(task.getUpdatedAt(), null), LocalDateTime::parse);
+
+    private final String property;
+    private final Function<Task, String> extractor;
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    TaskSortKey(String property, Function<Task, String> extractor, Function<String, ? extends Comparable<?>> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Извлекает значение ключа сортировки из задачи в строковом виде для курсора.
+     *
+     * @param task Задача.
+     * @return Значение ключа сортировки.
+     */
+    public String extract(Task task) {
+        return extractor.apply(task);
+    }
+
+    /**
+     * Восстанавливает значение ключа сортировки из курсора.
+     *
+     * @param value Значение из курсора.
+     * @return Значение ключа сортировки.
+     * @throws InvalidCursorException Если значение отсутствует или имеет неверный формат.
+     */
+    public Comparable<?> parse(String value) {
+        if (value == null) {
+            throw new InvalidCursorException("Missing cursor value for " + property);
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor value for " + property + ": " + value, e);
+        }
+    }
+
+    /**
+     * Находит ключ сортировки по имени свойства сущности.
+     *
+     * @param property Имя свойства (id, createdAt, updatedAt).
+     * @return Ключ сортировки.
+     * @throws InvalidCursorException Если сортировка по свойству не поддерживается.
+     */
+    public static TaskSortKey fromProperty(String property) {
+        for (TaskSortKey key : values()) {
+            if (key.property.equals(property)) {
+                return key;
+            }
+        }
+        throw new InvalidCursorException("Unsupported cursor sort property: " + property);
+    }
+}
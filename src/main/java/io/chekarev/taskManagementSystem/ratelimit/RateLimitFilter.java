@@ -0,0 +1,80 @@
+package io.chekarev.taskManagementSystem.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограничение частоты запросов одного клиента в цепочке Spring Security.
+ * <p>
+ * Фильтр стоит после JwtAuthenticationFilter: аутентифицированный клиент определяется по имени пользователя
+ * из контекста безопасности, анонимный — по IP-адресу. Запрос сверх ограничения группы маршрутов сразу получает
+ * 429 с заголовком Retry-After и не доходит до контроллера и пула соединений с базой данных.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ADDRESS_KEY_PREFIX = "ip:";
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final Map<RouteGroup, Counter> throttledRequests = new EnumMap<>(RouteGroup.class);
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        for (RouteGroup group : RouteGroup.values()) {
+            throttledRequests.put(group, Counter.builder("rate.limit.throttled")
+                    .description("Количество запросов, отклоненных из-за превышения частоты запросов клиента")
+                    .tag("group", group.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RouteGroup group = RouteGroup.of(request.getRequestURI(), request.getContextPath().length());
+        long waitNanos = rateLimiter.tryAcquire(group, clientKey(request));
+        if (waitNanos > 0) {
+            throttledRequests.get(group).increment();
+            log.debug("Request {} {} throttled: rate limit of group {} exceeded",
+                    request.getMethod(), request.getRequestURI(), group);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            return authentication.getName();
+        }
+        return ADDRESS_KEY_PREFIX + request.getRemoteAddr();
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
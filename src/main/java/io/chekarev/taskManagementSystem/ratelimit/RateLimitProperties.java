@@ -0,0 +1,81 @@
+package io.chekarev.taskManagementSystem.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки ограничения частоты запросов одного клиента.
+ */
+@Data
+@ConfigurationProperties(prefix = "server.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Включение ограничения частоты запросов.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Максимальное количество корзин клиентов в каждой группе маршрутов.
+     * При превышении удаляются все полные корзины, то есть корзины клиентов без недавних запросов.
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * Время простоя полной корзины, после которого она удаляется. Неполная корзина не удаляется,
+     * поэтому удаление не дает клиенту лишних токенов.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Ограничение для эндпоинтов администратора.
+     */
+    private Limit admin = new Limit(20, 10);
+
+    /**
+     * Ограничение для остальных эндпоинтов.
+     */
+    private Limit user = new Limit(100, 50);
+
+    /**
+     * Ограничение для эндпоинтов аутентификации по IP-адресу клиента.
+     */
+    private Limit auth = new Limit(10, 1);
+
+    /**
+     * Ограничение для группы маршрутов.
+     *
+     * @param group группа маршрутов.
+     * @return ограничение группы.
+     */
+    public Limit limit(RouteGroup group) {
+        return switch (group) {
+            case ADMIN -> admin;
+            case AUTH -> auth;
+            case USER -> user;
+        };
+    }
+
+    /**
+     * Параметры корзины токенов.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * Емкость корзины: количество запросов, которое клиент может выполнить подряд.
+         */
+        private int capacity;
+
+        /**
+         * Количество токенов, добавляемых в корзину за секунду: допустимая средняя частота запросов.
+         */
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,102 @@
+package io.chekarev.taskManagementSystem.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Корзины токенов клиентов по группам маршрутов.
+ * <p>
+ * Корзины хранятся в ConcurrentHashMap: проверка запроса — одно чтение из карты и один compareAndSet
+ * без блокировок и без учета обращений, который ведет кэш Caffeine. Время простоя корзины следует из ее
+ * теоретического времени прибытия, поэтому корзины удаляются проходом по карте при создании новой корзины:
+ * раз в idle-timeout удаляются корзины, простаивающие дольше idle-timeout, а при превышении max-buckets —
+ * все полные корзины. Удаляются только полные корзины, и повторное создание не дает клиенту лишних токенов.
+ * Сверх max-buckets в карте остаются только клиенты, чьи корзины еще не пополнились.
+ */
+public class RateLimiter {
+
+    private final LongSupplier nanoClock;
+    private final Map<RouteGroup, GroupBuckets> groups = new EnumMap<>(RouteGroup.class);
+
+    public RateLimiter(RateLimitProperties properties, LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        for (RouteGroup group : RouteGroup.values()) {
+            GroupBuckets buckets = new GroupBuckets(properties, properties.limit(group), now);
+            groups.put(group, buckets);
+            Gauge.builder("rate.limit.buckets", buckets.buckets, Map::size)
+                    .description("Количество корзин токенов клиентов в памяти")
+                    .tag("group", group.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Попытка получить токен из корзины клиента.
+     *
+     * @param group группа маршрутов запроса.
+     * @param key ключ клиента: имя пользователя или IP-адрес.
+     * @return 0, если запрос разрешен, иначе время в наносекундах до появления следующего токена.
+     */
+    public long tryAcquire(RouteGroup group, String key) {
+        GroupBuckets buckets = groups.get(group);
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.create(key, now);
+        }
+        return bucket.tryAcquire(now, buckets.emissionInterval, buckets.burstTolerance);
+    }
+
+    private static final class GroupBuckets {
+
+        private final long emissionInterval;
+        private final long burstTolerance;
+        private final long idleTimeout;
+        private final long maxBuckets;
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean evicting = new AtomicBoolean();
+        private volatile long nextIdleEviction;
+        private volatile long nextOverflowEviction;
+
+        GroupBuckets(RateLimitProperties properties, RateLimitProperties.Limit limit, long now) {
+            this.emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRefillPerSecond());
+            this.burstTolerance = emissionInterval * limit.getCapacity();
+            this.idleTimeout = properties.getIdleTimeout().toNanos();
+            this.maxBuckets = properties.getMaxBuckets();
+            this.nextIdleEviction = now + idleTimeout;
+            this.nextOverflowEviction = now;
+        }
+
+        TokenBucket create(String key, long now) {
+            evict(now);
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+
+        /**
+         * Удаление корзин одним потоком перед добавлением новой корзины. Повторный проход при переполнении выполняется не чаще интервала
+         * пополнения одного токена: раньше ни одна из оставшихся корзин не станет полной.
+         */
+        private void evict(long now) {
+            boolean overflow = buckets.size() >= maxBuckets && now - nextOverflowEviction >= 0;
+            if ((!overflow && now - nextIdleEviction < 0) || !evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                long fullSince = overflow ? now : now - idleTimeout;
+                buckets.values().removeIf(bucket -> bucket.isFullSince(fullSince));
+                nextOverflowEviction = now + emissionInterval;
+                nextIdleEviction = now + idleTimeout;
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.chekarev.taskManagementSystem.ratelimit;
+
+/**
+ * Группа маршрутов, для которой задается отдельное ограничение частоты запросов.
+ */
+public enum RouteGroup {
+
+    /**
+     * Эндпоинты администратора: второй сегмент пути равен admin ({@code /tasks/admin/**}, {@code /auth/admin/**}).
+     */
+    ADMIN,
+
+    /**
+     * Эндпоинты аутентификации {@code /auth/**}: запросы анонимные и ограничиваются по IP-адресу клиента.
+     */
+    AUTH,
+
+    /**
+     * Остальные запросы.
+     */
+    USER;
+
+    private static final String ADMIN_SEGMENT = "admin";
+    private static final String AUTH_SEGMENT = "auth";
+
+    /**
+     * Определение группы по URI запроса. Путь разбирается по индексам без создания подстрок.
+     *
+     * @param requestUri URI запроса.
+     * @param offset длина контекстного пути, с которой начинается путь внутри приложения.
+     * @return группа маршрутов.
+     */
+    public static RouteGroup of(String requestUri, int offset) {
+        int start = offset < requestUri.length() && requestUri.charAt(offset) == '/' ? offset + 1 : offset;
+        int end = requestUri.indexOf('/', start);
+        if (end < 0) {
+            return segmentEquals(requestUri, start, requestUri.length(), AUTH_SEGMENT) ? AUTH : USER;
+        }
+        int nextEnd = requestUri.indexOf('/', end + 1);
+        if (segmentEquals(requestUri, end + 1, nextEnd < 0 ? requestUri.length() : nextEnd, ADMIN_SEGMENT)) {
+            return ADMIN;
+        }
+        return segmentEquals(requestUri, start, end, AUTH_SEGMENT) ? AUTH : USER;
+    }
+
+    private static boolean segmentEquals(String path, int start, int end, String segment) {
+        return end - start == segment.length() && path.startsWith(segment, start);
+    }
+}
@@ -0,0 +1,69 @@
+package io.chekarev.taskManagementSystem.ratelimit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Корзина токенов одного клиента без блокировок.
+ * <p>
+ * Реализована по алгоритму GCRA: вместо количества токенов и времени последнего пополнения хранится одно
+ * число — теоретическое время прибытия следующего запроса (TAT). Каждый запрос сдвигает TAT на интервал
+ * пополнения одного токена, а запрос отклоняется, если TAT ушло вперед больше чем на емкость корзины.
+ * Одно значение обновляется одним compareAndSet, поэтому одновременные запросы не блокируют друг друга.
+ * Поле обновляется через VarHandle, а не AtomicLong: проверка запроса не читает лишний объект из памяти.
+ * TAT в прошлом означает полную корзину: удаленная после простоя корзина ничем не отличается от новой.
+ */
+final class TokenBucket {
+
+    private static final VarHandle THEORETICAL_ARRIVAL_TIME;
+
+    static {
+        try {
+            THEORETICAL_ARRIVAL_TIME = MethodHandles.lookup()
+                    .findVarHandle(TokenBucket.class, "theoreticalArrivalTime", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long theoreticalArrivalTime;
+
+    /**
+     * @param now текущее время в наносекундах; новая корзина полна.
+     */
+    TokenBucket(long now) {
+        this.theoreticalArrivalTime = now;
+    }
+
+    /**
+     * Попытка получить токен.
+     *
+     * @param now текущее время в наносекундах.
+     * @param emissionInterval интервал пополнения одного токена в наносекундах.
+     * @param burstTolerance емкость корзины, выраженная во времени: емкость, умноженная на интервал пополнения.
+     * @return 0, если токен получен, иначе время в наносекундах до появления следующего токена.
+     */
+    long tryAcquire(long now, long emissionInterval, long burstTolerance) {
+        while (true) {
+            long current = theoreticalArrivalTime;
+            long next = Math.max(current, now) + emissionInterval;
+            long wait = next - now - burstTolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (THEORETICAL_ARRIVAL_TIME.compareAndSet(this, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Проверка, что корзина полна с указанного момента: все выданные токены к нему восстановлены.
+     *
+     * @param time момент времени в наносекундах.
+     * @return true, если корзина полна начиная с этого момента.
+     */
+    boolean isFullSince(long time) {
+        return theoreticalArrivalTime - time <= 0;
+    }
+}
@@ -1,10 +1,17 @@
 package io.chekarev.taskManagementSystem.repositories;
 
 import io.chekarev.taskManagementSystem.domain.entities.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для работы с сущностью комментариев.
@@ -14,10 +21,53 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * Получение списка комментариев, связанных с заданием.
+     * Получение комментария вместе с его автором одним запросом.
+     *
+     * @param id идентификатор комментария.
+     * @return Optional, содержащий комментарий с загруженным автором, если найден.
+     */
+    @EntityGraph("Comment.withUser")
+    Optional<Comment> findWithUserById(Long id);
+
+    /**
+     * Получение первой страницы комментариев, связанных с заданием.
      *
      * @param taskId идентификатор задания, для которого нужно найти комментарии.
+     * @param sort   порядок комментариев.
+     * @param limit  максимальное количество комментариев.
+     * @return список комментариев, связанных с заданием.
+     */
+    List<Comment> findByTaskId(Long taskId, Sort sort, Limit limit);
+
+    /**
+     * Получение комментариев задания, расположенных после комментария с заданными временем создания и ID,
+     * то есть {@code (created_at, id) > (createdAt, id)}. Используется для продолжения выборки по возрастанию.
+     *
+     * @param taskId    идентификатор задания.
+     * @param createdAt время создания последнего комментария предыдущей страницы.
+     * @param id        идентификатор последнего комментария предыдущей страницы.
+     * @param sort      порядок комментариев.
+     * @param limit     максимальное количество комментариев.
+     * @return список комментариев, связанных с заданием.
+     */
+    @Query("select c from Comment c where c.task.id = :taskId "
+            + "and c.createdAt >= :createdAt and (c.createdAt > :createdAt or c.id > :id)")
+    List<Comment> findByTaskIdAfter(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Sort sort, Limit limit);
+
+    /**
+     * Получение комментариев задания, расположенных до комментария с заданными временем создания и ID,
+     * то есть {@code (created_at, id) < (createdAt, id)}. Используется для продолжения выборки по убыванию.
+     *
+     * @param taskId    идентификатор задания.
+     * @param createdAt время создания последнего комментария предыдущей страницы.
+     * @param id        идентификатор последнего комментария предыдущей страницы.
+     * @param sort      порядок комментариев.
+     * @param limit     максимальное количество комментариев.
      * @return список комментариев, связанных с заданием.
      */
-    List<Comment> findByTaskId(Long taskId);
+    @Query("select c from Comment c where c.task.id = :taskId "
+            + "and c.createdAt <= :createdAt and (c.createdAt < :createdAt or c.id < :id)")
+    List<Comment> findByTaskIdBefore(@Param("taskId") Long taskId, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id, Sort sort, Limit limit);
 }
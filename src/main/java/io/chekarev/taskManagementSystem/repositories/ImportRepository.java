@@ -0,0 +1,40 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportRejectHandler;
+import io.chekarev.taskManagementSystem.imports.ImportStagingWriter;
+
+/**
+ * Репозиторий массового импорта. Строки загружаются командой COPY во временную промежуточную таблицу,
+ * которая удаляется при завершении транзакции, и переносятся в основные таблицы несколькими SQL-запросами
+ * над всем набором строк. Все методы вызываются в одной транзакции.
+ */
+public interface ImportRepository {
+
+    /**
+     * Создание промежуточной таблицы и начало передачи строк в нее.
+     *
+     * @param entity Вид импортируемых данных.
+     * @return Запись строк в промежуточную таблицу.
+     */
+    ImportStagingWriter openStaging(ImportEntity entity);
+
+    /**
+     * Перенос задач из промежуточной таблицы в tasks. Email автора и исполнителя заменяются ID пользователей,
+     * внешние ключи задач сохраняются в task_import_keys. Задачи с неизвестным email, повторным
+     * или уже импортированным ключом отклоняются.
+     *
+     * @param rejects Получатель отклоненных записей.
+     * @return Количество созданных задач.
+     */
+    long mergeTasks(ImportRejectHandler rejects);
+
+    /**
+     * Перенос комментариев из промежуточной таблицы в comments. Задача определяется по ID или по внешнему ключу
+     * из task_import_keys, автор по email. Комментарии к неизвестной задаче или от неизвестного автора отклоняются.
+     *
+     * @param rejects Получатель отклоненных записей.
+     * @return Количество созданных комментариев.
+     */
+    long mergeComments(ImportRejectHandler rejects);
+}
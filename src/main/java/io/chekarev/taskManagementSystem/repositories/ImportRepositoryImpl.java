@@ -0,0 +1,233 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportProperties;
+import io.chekarev.taskManagementSystem.imports.ImportRejectHandler;
+import io.chekarev.taskManagementSystem.imports.ImportStagingWriter;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Реализация массового импорта через JDBC и CopyManager драйвера PostgreSQL.
+ * <p>
+ * ID задач выделяются блоками последовательности tasks_id_seq так же, как их выделяет Hibernate
+ * (оптимизатор pooled-lo): nextval возвращает начало блока из increment_by значений. Поэтому ID известны
+ * до вставки, и по ним сохраняются внешние ключи задач, а приложение продолжает выделять ID без пересечений.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImportRepositoryImpl implements ImportRepository {
+
+    private static final String CREATE_TASKS_STAGING_SQL = "CREATE TEMP TABLE import_tasks ("
+            + "record BIGINT NOT NULL, task_key TEXT, title TEXT NOT NULL, description TEXT, status TEXT NOT NULL, "
+            + "priority TEXT NOT NULL, author_email TEXT NOT NULL, assignee_email TEXT) ON COMMIT DROP";
+
+    private static final String COPY_TASKS_SQL = "COPY import_tasks (record, task_key, title, description, status, "
+            + "priority, author_email, assignee_email) FROM STDIN";
+
+    private static final String CREATE_COMMENTS_STAGING_SQL = "CREATE TEMP TABLE import_comments ("
+            + "record BIGINT NOT NULL, task_key TEXT, task_id BIGINT, author_email TEXT NOT NULL, text TEXT NOT NULL, "
+            + "created_at TIMESTAMP) ON COMMIT DROP";
+
+    private static final String COPY_COMMENTS_SQL = "COPY import_comments (record, task_key, task_id, author_email, "
+            + "text, created_at) FROM STDIN";
+
+    // Из повторяющихся во входных данных ключей принимается только первое вхождение
+    private static final String RESOLVE_TASKS_SQL = "CREATE TEMP TABLE import_tasks_resolved ON COMMIT DROP AS "
+            + "SELECT s.record, s.task_key, s.title, s.description, s.status, s.priority, "
+            + "a.id AS author_id, u.id AS assignee_id, "
+            + "row_number() OVER (ORDER BY s.record) AS position, NULL::INT AS task_id "
+            + "FROM (SELECT *, row_number() OVER (PARTITION BY task_key ORDER BY record) AS key_occurrence "
+            + "FROM import_tasks) s "
+            + "JOIN users a ON a.email = s.author_email "
+            + "LEFT JOIN users u ON u.email = s.assignee_email "
+            + "WHERE (s.assignee_email IS NULL OR u.id IS NOT NULL) "
+            + "AND (s.task_key IS NULL OR (s.key_occurrence = 1 "
+            + "AND NOT EXISTS (SELECT 1 FROM task_import_keys k WHERE k.task_key = s.task_key)))";
+
+    private static final String SELECT_TASK_REJECTS_SQL = "SELECT s.record, CASE "
+            + "WHEN a.id IS NULL THEN 'Unknown author email: ' || s.author_email "
+            + "WHEN s.assignee_email IS NOT NULL AND u.id IS NULL THEN 'Unknown assignee email: ' || s.assignee_email "
+            + "WHEN k.task_id IS NOT NULL THEN 'Task key already imported: ' || s.task_key "
+            + "ELSE 'Duplicate task key: ' || s.task_key END AS reason "
+            + "FROM import_tasks s "
+            + "LEFT JOIN users a ON a.email = s.author_email "
+            + "LEFT JOIN users u ON u.email = s.assignee_email "
+            + "LEFT JOIN task_import_keys k ON k.task_key = s.task_key "
+            + "WHERE NOT EXISTS (SELECT 1 FROM import_tasks_resolved r WHERE r.record = s.record) "
+            + "ORDER BY s.record";
+
+    private static final String SELECT_TASK_ID_INCREMENT_SQL = "SELECT seqincrement FROM pg_sequence "
+            + "WHERE seqrelid = pg_get_serial_sequence('tasks', 'id')::regclass";
+
+    // Блоки материализуются, чтобы nextval вызывался ровно один раз на блок при любом плане соединения
+    private static final String ASSIGN_TASK_IDS_SQL = "WITH blocks AS MATERIALIZED ("
+            + "SELECT row_number() OVER () AS block, nextval(pg_get_serial_sequence('tasks', 'id')) AS lo "
+            + "FROM generate_series(1, ?)) "
+            + "UPDATE import_tasks_resolved r SET task_id = b.lo + (r.position - 1) % ? "
+            + "FROM blocks b WHERE b.block = (r.position - 1) / ? + 1";
+
+    private static final String INSERT_TASKS_SQL = "INSERT INTO tasks (id, title, description, status, priority, "
+            + "author_id, assignee_id) "
+            + "SELECT task_id, title, description, status, priority, author_id, assignee_id "
+            + "FROM import_tasks_resolved ORDER BY task_id";
+
+    private static final String INSERT_TASK_KEYS_SQL = "INSERT INTO task_import_keys (task_key, task_id) "
+            + "SELECT task_key, task_id FROM import_tasks_resolved WHERE task_key IS NOT NULL";
+
+    private static final String SELECT_COMMENT_REJECTS_SQL = "SELECT s.record, CASE "
+            + "WHEN t.id IS NULL THEN 'Unknown task: ' || COALESCE(s.task_key, s.task_id::TEXT) "
+            + "ELSE 'Unknown author email: ' || s.author_email END AS reason "
+            + "FROM import_comments s "
+            + "LEFT JOIN task_import_keys k ON k.task_key = s.task_key "
+            + "LEFT JOIN tasks t ON t.id = COALESCE(s.task_id, k.task_id) "
+            + "LEFT JOIN users a ON a.email = s.author_email "
+            + "WHERE t.id IS NULL OR a.id IS NULL "
+            + "ORDER BY s.record";
+
+    private static final String INSERT_COMMENTS_SQL = "INSERT INTO comments (task_id, user_id, text, created_at) "
+            + "SELECT t.id, a.id, s.text, COALESCE(s.created_at, LOCALTIMESTAMP) "
+            + "FROM import_comments s "
+            + "LEFT JOIN task_import_keys k ON k.task_key = s.task_key "
+            + "JOIN tasks t ON t.id = COALESCE(s.task_id, k.task_id) "
+            + "JOIN users a ON a.email = s.author_email "
+            + "ORDER BY s.record";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImportProperties properties;
+
+    @Override
+    public ImportStagingWriter openStaging(ImportEntity entity) {
+        String createSql = entity == ImportEntity.TASKS ? CREATE_TASKS_STAGING_SQL : CREATE_COMMENTS_STAGING_SQL;
+        String copySql = entity == ImportEntity.TASKS ? COPY_TASKS_SQL : COPY_COMMENTS_SQL;
+        String table = entity == ImportEntity.TASKS ? "import_tasks" : "import_comments";
+        jdbcTemplate.execute(createSql);
+        CopyIn copyIn = jdbcTemplate.execute((ConnectionCallback<CopyIn>) connection ->
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql));
+        return new CopyStagingWriter(copyIn, table);
+    }
+
+    @Override
+    public long mergeTasks(ImportRejectHandler rejects) {
+        jdbcTemplate.execute(RESOLVE_TASKS_SQL);
+        jdbcTemplate.query(SELECT_TASK_REJECTS_SQL, rs -> {
+            rejects.reject(rs.getLong("record"), rs.getString("reason"));
+        });
+        Long resolved = jdbcTemplate.queryForObject("SELECT count(*) FROM import_tasks_resolved", Long.class);
+        if (resolved == null || resolved == 0) {
+            return 0;
+        }
+        Long increment = jdbcTemplate.queryForObject(SELECT_TASK_ID_INCREMENT_SQL, Long.class);
+        long blockSize = increment != null && increment > 0 ? increment : 1;
+        long blocks = (resolved + blockSize - 1) / blockSize;
+        jdbcTemplate.update(ASSIGN_TASK_IDS_SQL, blocks, blockSize, blockSize);
+        int inserted = jdbcTemplate.update(INSERT_TASKS_SQL);
+        jdbcTemplate.update(INSERT_TASK_KEYS_SQL);
+        return inserted;
+    }
+
+    @Override
+    public long mergeComments(ImportRejectHandler rejects) {
+        jdbcTemplate.query(SELECT_COMMENT_REJECTS_SQL, rs -> {
+            rejects.reject(rs.getLong("record"), rs.getString("reason"));
+        });
+        return jdbcTemplate.update(INSERT_COMMENTS_SQL);
+    }
+
+    /**
+     * Запись строк в формате text команды COPY: значения разделяются табуляцией, отсутствующие значения
+     * записываются как \N, обратная косая черта и управляющие символы экранируются.
+     */
+    private class CopyStagingWriter implements ImportStagingWriter {
+
+        private final CopyIn copyIn;
+        private final String table;
+        private final PGCopyOutputStream outputStream;
+        private final Writer writer;
+
+        CopyStagingWriter(CopyIn copyIn, String table) {
+            this.copyIn = copyIn;
+            this.table = table;
+            this.outputStream = new PGCopyOutputStream(copyIn, properties.getCopyBufferSize());
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(long recordNumber, String[] values) {
+            try {
+                writer.write(Long.toString(recordNumber));
+                for (String value : values) {
+                    writer.write('\t');
+                    writeValue(value);
+                }
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to copy import record " + recordNumber, e);
+            }
+        }
+
+        @Override
+        public long finish() {
+            long rows;
+            try {
+                writer.flush();
+                rows = outputStream.endCopy();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to complete import copy", e);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to complete import copy", e);
+            }
+            // Статистика промежуточной таблицы нужна планировщику для соединения с users и tasks
+            jdbcTemplate.execute("ANALYZE " + table);
+            return rows;
+        }
+
+        @Override
+        public void close() {
+            if (!copyIn.isActive()) {
+                return;
+            }
+            try {
+                copyIn.cancelCopy();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to cancel import copy", e);
+            }
+        }
+
+        private void writeValue(String value) throws IOException {
+            if (value == null) {
+                writer.write("\\N");
+                return;
+            }
+            int start = 0;
+            for (int i = 0; i < value.length(); i++) {
+                String escaped = switch (value.charAt(i)) {
+                    case '\\' -> "\\\\";
+                    case '\t' -> "\\t";
+                    case '\n' -> "\\n";
+                    case '\r' -> "\\r";
+                    default -> null;
+                };
+                if (escaped != null) {
+                    writer.write(value, start, i - start);
+                    writer.write(escaped);
+                    start = i + 1;
+                }
+            }
+            writer.write(value, start, value.length() - start);
+        }
+    }
+}
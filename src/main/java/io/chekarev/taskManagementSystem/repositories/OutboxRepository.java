@@ -0,0 +1,55 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.outbox.OutboxEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Запись и выборка событий таблицы outbox_events.
+ */
+public interface OutboxRepository {
+
+    /**
+     * Вставка событий одним JDBC-пакетом. ID событий назначаются последовательностью в момент вставки,
+     * поэтому порядок ID событий одной сущности совпадает с порядком фиксации транзакций,
+     * если строка сущности к этому моменту уже заблокирована изменением.
+     *
+     * @param events События в порядке их публикации.
+     */
+    void append(List<OutboxEvent> events);
+
+    /**
+     * Захват секций outbox, в которых есть события, на время текущей транзакции.
+     * Секции, захваченные другими узлами, пропускаются (FOR UPDATE SKIP LOCKED); первыми захватываются
+     * секции, которые разбирались раньше остальных.
+     *
+     * @param limit Максимальное количество секций.
+     * @return Номера захваченных секций.
+     */
+    List<Integer> claimPartitions(int limit);
+
+    /**
+     * Выборка первых событий указанных секций в порядке возрастания ID.
+     *
+     * @param partitions Номера секций, захваченных текущей транзакцией.
+     * @param limit Максимальное количество событий.
+     * @return События в порядке возрастания ID.
+     */
+    List<OutboxEvent> findBatch(List<Integer> partitions, int limit);
+
+    /**
+     * Удаление доставленных событий и отметка времени разбора секций.
+     *
+     * @param ids ID доставленных событий.
+     * @param partitions Номера секций, из которых выбраны события.
+     */
+    void complete(List<Long> ids, List<Integer> partitions);
+
+    /**
+     * Возраст самого старого недоставленного события по часам базы данных.
+     *
+     * @return Возраст события в миллисекундах или пустой Optional, если outbox пуст.
+     */
+    Optional<Long> findOldestEventAgeMillis();
+}
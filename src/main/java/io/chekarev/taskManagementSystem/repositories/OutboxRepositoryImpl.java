@@ -0,0 +1,77 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Реализация outbox через JDBC.
+ * <p>
+ * Секция события вычисляется базой данных по ID сущности (генерируемая колонка partition_id), поэтому все события
+ * одной сущности разбирает один узел за раз, а события разных секций доставляются параллельно.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload) "
+            + "VALUES (?, ?, ?, ?::jsonb)";
+
+    private static final String CLAIM_PARTITIONS_SQL = "SELECT p.partition_id FROM outbox_partitions p "
+            + "WHERE EXISTS (SELECT 1 FROM outbox_events e WHERE e.partition_id = p.partition_id) "
+            + "ORDER BY p.relayed_at NULLS FIRST, p.partition_id "
+            + "LIMIT ? FOR UPDATE OF p SKIP LOCKED";
+
+    private static final String SELECT_BATCH_SQL = "SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at "
+            + "FROM outbox_events WHERE partition_id = ANY (?) ORDER BY id LIMIT ?";
+
+    private static final RowMapper<OutboxEvent> EVENT_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("id"),
+            OutboxEvent.AggregateType.valueOf(rs.getString("aggregate_type")),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void append(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getAggregateType().name());
+            ps.setLong(2, event.getAggregateId());
+            ps.setString(3, event.getEventType());
+            ps.setString(4, event.getPayload());
+        });
+    }
+
+    @Override
+    public List<Integer> claimPartitions(int limit) {
+        return jdbcTemplate.queryForList(CLAIM_PARTITIONS_SQL, Integer.class, limit);
+    }
+
+    @Override
+    public List<OutboxEvent> findBatch(List<Integer> partitions, int limit) {
+        return jdbcTemplate.query(SELECT_BATCH_SQL, EVENT_MAPPER, partitions.toArray(new Integer[0]), limit);
+    }
+
+    @Override
+    public void complete(List<Long> ids, List<Integer> partitions) {
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id = ANY (?)", (Object) ids.toArray(new Long[0]));
+        jdbcTemplate.update("UPDATE outbox_partitions SET relayed_at = clock_timestamp() WHERE partition_id = ANY (?)",
+                (Object) partitions.toArray(new Integer[0]));
+    }
+
+    @Override
+    public Optional<Long> findOldestEventAgeMillis() {
+        return jdbcTemplate.query("SELECT (EXTRACT(EPOCH FROM clock_timestamp()::timestamp - created_at) * 1000)::bigint "
+                        + "FROM outbox_events ORDER BY id LIMIT 1",
+                (rs, rowNum) -> rs.getLong(1)).stream().findFirst();
+    }
+}
@@ -0,0 +1,19 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+/**
+ * Оценка количества задач по статистике PostgreSQL без выполнения COUNT.
+ */
+public interface TaskCountEstimateRepository {
+
+    /**
+     * Оценка количества задач, соответствующих фильтрам TaskSpecification.withFilters.
+     *
+     * @param status   Статус задачи (может быть null или пустым).
+     * @param priority Приоритет задачи (может быть null или пустым).
+     * @param author   ID автора задачи в виде строки (может быть null или пустым).
+     * @param assignee ID исполнителя задачи в виде строки (может быть null или пустым).
+     * @return оценка количества строк, которую планировщик дает для запроса с этими фильтрами.
+     * @throws IllegalArgumentException Если ID автора или исполнителя имеет неверный формат.
+     */
+    long estimateCount(String status, String priority, String author, String assignee);
+}
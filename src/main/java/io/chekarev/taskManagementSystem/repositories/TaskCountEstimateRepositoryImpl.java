@@ -0,0 +1,32 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Реализация оценки количества задач через EXPLAIN.
+ * Планировщик оценивает количество строк по статистике таблицы (pg_class.reltuples и relpages)
+ * и распределению значений колонок (pg_statistic), поэтому оценка не требует чтения строк таблицы.
+ * Точность оценки зависит от актуальности статистики, которую обновляет ANALYZE или autovacuum.
+ */
+@RequiredArgsConstructor
+public class TaskCountEstimateRepositoryImpl implements TaskCountEstimateRepository {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long estimateCount(String status, String priority, String author, String assignee) {
+        TaskFilterSql filter = new TaskFilterSql("t", status, priority, author, assignee);
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM tasks t WHERE true" + filter.and();
+        String plan = jdbcTemplate.queryForObject(sql, String.class, filter.parameters().toArray());
+        try {
+            return objectMapper.readTree(plan).get(0).get("Plan").get("Plan Rows").asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse query plan: " + plan, e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Условия SQL-запроса к таблице tasks по фильтрам TaskSpecification.withFilters
+ * для запросов, которые выполняются через JDBC в обход Criteria API.
+ */
+final class TaskFilterSql {
+
+    private final List<String> predicates = new ArrayList<>();
+    private final List<Object> parameters = new ArrayList<>();
+
+    /**
+     * Создает условия по фильтрам задач.
+     *
+     * @param alias    Псевдоним таблицы tasks в запросе.
+     * @param status   Статус задачи (может быть null или пустым).
+     * @param priority Приоритет задачи (может быть null или пустым).
+     * @param author   ID автора задачи в виде строки (может быть null или пустым).
+     * @param assignee ID исполнителя задачи в виде строки (может быть null или пустым).
+     * @throws IllegalArgumentException Если ID автора или исполнителя имеет неверный формат.
+     */
+    TaskFilterSql(String alias, String status, String priority, String author, String assignee) {
+        if (status != null && !status.isEmpty()) {
+            predicates.add(alias + ".status = ?");
+            parameters.add(status);
+        }
+
+        if (priority != null && !priority.isEmpty()) {
+            predicates.add(alias + ".priority = ?");
+            parameters.add(priority);
+        }
+
+        if (author != null && !author.isEmpty()) {
+            try {
+                parameters.add(Long.parseLong(author));
+                predicates.add(alias + ".author_id = ?");
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid author ID format: " + author);
+            }
+        }
+
+        if (assignee != null && !assignee.isEmpty()) {
+            try {
+                parameters.add(Long.parseLong(assignee));
+                predicates.add(alias + ".assignee_id = ?");
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid assignee ID format: " + assignee);
+            }
+        }
+    }
+
+    /**
+     * Условия, объединенные через AND, или пустая строка, если фильтры не заданы.
+     *
+     * @return Условия с префиксом " AND ".
+     */
+    String and() {
+        return predicates.isEmpty() ? "" : " AND " + String.join(" AND ", predicates);
+    }
+
+    /**
+     * Значения параметров условий в порядке их следования в запросе.
+     *
+     * @return Параметры запроса.
+     */
+    List<Object> parameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,27 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskPatchDTO;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Частичное обновление задач с проверкой версии.
+ */
+public interface TaskPatchRepository {
+
+    /**
+     * Изменение заданных полей задачи одним запросом UPDATE, если версия задачи совпадает с ожидаемой.
+     * Версия задачи увеличивается на единицу. Задача не загружается в контекст персистентности,
+     * поэтому вызывающий код отвечает за удаление задачи из кэша второго уровня.
+     *
+     * @param id              ID задачи.
+     * @param expectedVersion Версия задачи, которую видел клиент.
+     * @param patch           Изменяемые поля задачи.
+     * @param updatedAt       Время изменения задачи.
+     * @return Optional, содержащий задачу после изменения, или пустой Optional, если задача не найдена
+     * или ее версия отличается от ожидаемой.
+     */
+    Optional<TaskDTO> patch(Long id, long expectedVersion, TaskPatchDTO patch, LocalDateTime updatedAt);
+}
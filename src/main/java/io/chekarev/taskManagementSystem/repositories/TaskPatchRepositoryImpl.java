@@ -0,0 +1,69 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskPatchDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Реализация частичного обновления задач через JDBC.
+ * <p>
+ * Изменение выполняется запросом {@code UPDATE ... WHERE id = ? AND version = ? RETURNING ...}: в SET попадают
+ * только переданные поля, а измененная строка возвращается тем же запросом, без предварительной выборки задачи.
+ */
+@RequiredArgsConstructor
+public class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<TaskDTO> patch(Long id, long expectedVersion, TaskPatchDTO patch, LocalDateTime updatedAt) {
+        StringBuilder sql = new StringBuilder("UPDATE tasks SET version = version + 1, updated_at = ?");
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(Timestamp.valueOf(updatedAt));
+        if (patch.getTitle() != null) {
+            sql.append(", title = ?");
+            parameters.add(patch.getTitle());
+        }
+        if (patch.getDescription() != null) {
+            sql.append(", description = ?");
+            parameters.add(patch.getDescription());
+        }
+        if (patch.getStatus() != null) {
+            sql.append(", status = ?");
+            parameters.add(patch.getStatus().name());
+        }
+        if (patch.getPriority() != null) {
+            sql.append(", priority = ?");
+            parameters.add(patch.getPriority().name());
+        }
+        sql.append(" WHERE id = ? AND version = ? "
+                + "RETURNING id, title, description, status, priority, author_id, assignee_id, version");
+        parameters.add(id);
+        parameters.add(expectedVersion);
+
+        List<TaskDTO> tasks = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            long assigneeId = rs.getLong("assignee_id");
+            boolean unassigned = rs.wasNull();
+            return new TaskDTO(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    TaskStatus.valueOf(rs.getString("status")),
+                    TaskPriority.valueOf(rs.getString("priority")),
+                    rs.getLong("author_id"),
+                    unassigned ? null : assigneeId,
+                    rs.getLong("version")
+            );
+        }, parameters.toArray());
+        return tasks.stream().findFirst();
+    }
+}
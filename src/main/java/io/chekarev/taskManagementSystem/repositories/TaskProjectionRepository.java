@@ -0,0 +1,47 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Запросы-проекции задач, которые выбирают поля TaskDTO напрямую из таблицы tasks.
+ * Идентификаторы автора и исполнителя берутся из внешних ключей, сущности пользователей не загружаются.
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * Получение страницы заданий в виде DTO по спецификации.
+     *
+     * @param specification спецификация фильтрации заданий.
+     * @param pageable      параметры пагинации и сортировки.
+     * @return страница DTO заданий с общим количеством элементов.
+     */
+    Page<TaskDTO> findAllDto(Specification<Task> specification, Pageable pageable);
+
+    /**
+     * Получение среза заданий в виде DTO по спецификации без подсчета общего количества.
+     *
+     * @param specification спецификация фильтрации заданий.
+     * @param pageable      параметры пагинации и сортировки.
+     * @return срез DTO заданий с признаком наличия следующей страницы.
+     */
+    Slice<TaskDTO> findSliceDto(Specification<Task> specification, Pageable pageable);
+
+    /**
+     * Получение всех заданий по спецификации в виде потока DTO, который читается курсором базы данных.
+     * Поток нужно закрыть и прочитать внутри транзакции: без нее драйвер PostgreSQL загружает весь результат в память.
+     *
+     * @param specification спецификация фильтрации заданий.
+     * @param sort          сортировка заданий.
+     * @param fetchSize     количество строк, получаемых из курсора за одно обращение к базе данных.
+     * @return поток DTO заданий.
+     */
+    Stream<TaskDTO> streamAllDto(Specification<Task> specification, Sort sort, int fetchSize);
+}
@@ -0,0 +1,134 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Реализация запросов-проекций задач через Criteria API.
+ * Выборка строится через {@code CriteriaBuilder.construct}, поэтому Hibernate создает TaskDTO
+ * сразу из колонок результата, не создавая сущностей и не добавляя их в контекст персистентности.
+ */
+public class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Получение страницы заданий в виде DTO по спецификации.
+     * Общее количество элементов запрашивается отдельным COUNT только тогда, когда его нельзя
+     * вычислить по размеру страницы (например, на последней странице COUNT не выполняется).
+     *
+     * @param specification спецификация фильтрации заданий.
+     * @param pageable      параметры пагинации и сортировки.
+     * @return страница DTO заданий с общим количеством элементов.
+     */
+    @Override
+    public Page<TaskDTO> findAllDto(Specification<Task> specification, Pageable pageable) {
+        TypedQuery<TaskDTO> typedQuery = createQuery(specification, pageable);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<TaskDTO> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    /**
+     * Получение среза заданий в виде DTO по спецификации.
+     * Из базы запрашивается на одну запись больше размера страницы, чтобы определить наличие
+     * следующей страницы без подсчета.
+     *
+     * @param specification спецификация фильтрации заданий.
+     * @param pageable      параметры пагинации и сортировки.
+     * @return срез DTO заданий с признаком наличия следующей страницы.
+     */
+    @Override
+    public Slice<TaskDTO> findSliceDto(Specification<Task> specification, Pageable pageable) {
+        TypedQuery<TaskDTO> typedQuery = createQuery(specification, pageable);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        List<TaskDTO> content = typedQuery.getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    /**
+     * Получение всех заданий по спецификации в виде потока DTO.
+     * Hibernate читает результат через ScrollableResults, а драйвер PostgreSQL внутри транзакции получает строки
+     * из курсора порциями по fetchSize. DTO не попадают в контекст персистентности и не кэшируются,
+     * поэтому прочитанные строки сразу становятся доступны сборщику мусора.
+     *
+     * @param specification спецификация фильтрации заданий.
+     * @param sort          сортировка заданий.
+     * @param fetchSize     количество строк, получаемых из курсора за одно обращение к базе данных.
+     * @return поток DTO заданий.
+     */
+    @Override
+    public Stream<TaskDTO> streamAllDto(Specification<Task> specification, Sort sort, int fetchSize) {
+        return createQuery(specification, Pageable.unpaged(sort))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    private TypedQuery<TaskDTO> createQuery(Specification<Task> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDTO> query = criteriaBuilder.createQuery(TaskDTO.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(criteriaBuilder.construct(TaskDTO.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("author").get("id"),
+                root.get("assignee").get("id"),
+                root.get("version")
+        ));
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Task> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(criteriaBuilder.count(root));
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,18 +1,27 @@
 package io.chekarev.taskManagementSystem.repositories;
 
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
 import io.chekarev.taskManagementSystem.domain.entities.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для работы с сущностью заданий.
  * Обеспечивает доступ к данным заданий в базе данных.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskProjectionRepository, TaskCountEstimateRepository, TaskSearchRepository, TaskPatchRepository,
+        TaskStatisticsRepository {
 
     /**
      * Получение списка заданий, созданных автором.
@@ -30,6 +39,32 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
      */
     List<Task> findByAssigneeId(Long assigneeId);
 
+    /**
+     * Получение страницы заданий в виде DTO, в которых пользователь является автором или исполнителем.
+     * Выполняется одним запросом: задача, где пользователь одновременно автор и исполнитель,
+     * попадает в выборку один раз, а сортировка, LIMIT и OFFSET применяются на стороне базы данных.
+     * Выбираются только поля DTO из таблицы tasks, пользователи не загружаются.
+     *
+     * @param userId   идентификатор пользователя.
+     * @param pageable параметры пагинации и сортировки.
+     * @return страница заданий пользователя с общим количеством элементов.
+     */
+    @Query(value = "select new io.chekarev.taskManagementSystem.domain.dto.TaskDTO("
+            + "t.id, t.title, t.description, t.status, t.priority, t.author.id, t.assignee.id, t.version) "
+            + "from Task t where t.author.id = :userId or t.assignee.id = :userId",
+            countQuery = "select count(t) from Task t where t.author.id = :userId or t.assignee.id = :userId")
+    Page<TaskDTO> findByParticipantId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Получение версии и времени последнего изменения задания без загрузки самого задания.
+     *
+     * @param id идентификатор задания.
+     * @return Optional, содержащий версию задания, если задание найдено.
+     */
+    @Query("select new io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO(t.version, t.updatedAt) "
+            + "from Task t where t.id = :id")
+    Optional<TaskVersionDTO> findVersionById(@Param("id") Long id);
+
     /**
      * Получение списка заданий с указанным статусом и приоритетом.
      *
@@ -0,0 +1,30 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+
+import java.util.List;
+
+/**
+ * Полнотекстовый поиск задач по заголовку, описанию и комментариям.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Поиск задач, упорядоченных по убыванию (rank, id). Задача попадает в выборку, если запросу соответствует
+     * ее заголовок и описание или хотя бы один комментарий; рангом задачи считается лучший ранг среди них.
+     * Ранжируется ограниченное число совпадений, поэтому для очень широкого запроса находятся не все задачи.
+     *
+     * @param query     Поисковый запрос в формате websearch_to_tsquery (слова, "фразы", OR, -исключение).
+     * @param afterRank Ранг последней задачи предыдущей страницы (null для первой страницы).
+     * @param afterId   ID последней задачи предыдущей страницы (null для первой страницы).
+     * @param limit     Максимальное количество задач.
+     * @param status    Статус задачи (может быть null или пустым).
+     * @param priority  Приоритет задачи (может быть null или пустым).
+     * @param author    ID автора задачи в виде строки (может быть null или пустым).
+     * @param assignee  ID исполнителя задачи в виде строки (может быть null или пустым).
+     * @return список найденных задач с рангом и выделенным фрагментом текста.
+     * @throws IllegalArgumentException Если ID автора или исполнителя имеет неверный формат.
+     */
+    List<TaskSearchResultDTO> search(String query, Float afterRank, Long afterId, int limit,
+                                     String status, String priority, String author, String assignee);
+}
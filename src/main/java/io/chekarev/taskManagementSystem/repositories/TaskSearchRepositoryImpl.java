@@ -0,0 +1,114 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Реализация полнотекстового поиска задач через JDBC.
+ * <p>
+ * Совпадения ищутся по GIN-индексам колонок search_vector таблиц tasks и comments, которые
+ * поддерживаются триггерами. Фильтры задач применяются уже при поиске совпадений, поэтому ранг
+ * вычисляется только для подходящих задач. Для каждой задачи остается лучшее совпадение, страница
+ * выбирается условием {@code (rank, id) < (afterRank, afterId)}, а ts_headline вычисляется только
+ * для задач страницы.
+ * <p>
+ * Ранг считается для всех кандидатов до выбора страницы, поэтому их количество ограничено: из задач и из
+ * комментариев берется не больше {@link #MAX_CANDIDATES} совпадений каждого вида в порядке обхода GIN-индекса.
+ * Для широкого запроса ранжируется только эта часть совпадений, и результаты за ее пределами не находятся
+ * ни на одной странице; такой запрос нужно уточнить словами или фильтрами.
+ * <p>
+ * Фрагмент возвращается как HTML: перед ts_headline символы &amp;, &lt;, &gt; и кавычки исходного текста
+ * заменяются HTML-сущностями, поэтому единственная разметка во фрагменте — теги mark, добавленные поиском.
+ * Парсер PostgreSQL считает сущность одной лексемой, и выделение слов от экранирования не меняется.
+ */
+@RequiredArgsConstructor
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    /**
+     * Максимальное количество совпадений в задачах и отдельно в комментариях, для которых вычисляется ранг.
+     */
+    private static final int MAX_CANDIDATES = 1000;
+
+    private static final String HEADLINE_OPTIONS = "StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5";
+    private static final String HEADLINE_SOURCE = "coalesce(c.text, page.title || ' ' || coalesce(page.description, ''))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskSearchResultDTO> search(String query, Float afterRank, Long afterId, int limit,
+                                            String status, String priority, String author, String assignee) {
+        TaskFilterSql filter = new TaskFilterSql("t", status, priority, author, assignee);
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(query);
+        parameters.addAll(filter.parameters());
+        parameters.add(MAX_CANDIDATES);
+        parameters.addAll(filter.parameters());
+        parameters.add(MAX_CANDIDATES);
+
+        String seek = "";
+        if (afterRank != null && afterId != null) {
+            seek = "WHERE (best.rank, best.task_id) < (?, ?) ";
+            parameters.add(afterRank);
+            parameters.add(afterId);
+        }
+        parameters.add(limit);
+
+        String sql = "WITH query AS (SELECT websearch_to_tsquery('russian', ?) AS q), "
+                + "matches AS ("
+                + "(SELECT t.id AS task_id, ts_rank(t.search_vector, query.q) AS rank, CAST(NULL AS bigint) AS comment_id "
+                + "FROM tasks t, query WHERE t.search_vector @@ query.q" + filter.and() + " LIMIT ?) "
+                + "UNION ALL "
+                + "(SELECT c.task_id, ts_rank(c.search_vector, query.q), c.id "
+                + "FROM comments c JOIN tasks t ON t.id = c.task_id, query WHERE c.search_vector @@ query.q" + filter.and()
+                + " LIMIT ?)"
+                + "), "
+                + "best AS ("
+                + "SELECT DISTINCT ON (task_id) task_id, rank, comment_id FROM matches "
+                + "ORDER BY task_id, rank DESC, comment_id NULLS FIRST"
+                + "), "
+                + "page AS ("
+                + "SELECT t.id, t.title, t.description, t.status, t.priority, t.author_id, t.assignee_id, t.version, best.rank, best.comment_id "
+                + "FROM best JOIN tasks t ON t.id = best.task_id " + seek
+                + "ORDER BY best.rank DESC, best.task_id DESC LIMIT ?"
+                + ") "
+                + "SELECT page.*, ts_headline('russian', " + escapeHtml(HEADLINE_SOURCE) + ", query.q, '"
+                + HEADLINE_OPTIONS + "') AS headline "
+                + "FROM page CROSS JOIN query LEFT JOIN comments c ON c.id = page.comment_id "
+                + "ORDER BY page.rank DESC, page.id DESC";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            long assigneeId = rs.getLong("assignee_id");
+            boolean unassigned = rs.wasNull();
+            TaskDTO task = new TaskDTO(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    rs.getString("status") != null ? TaskStatus.valueOf(rs.getString("status")) : null,
+                    rs.getString("priority") != null ? TaskPriority.valueOf(rs.getString("priority")) : null,
+                    rs.getLong("author_id"),
+                    unassigned ? null : assigneeId,
+                    rs.getLong("version")
+            );
+            return new TaskSearchResultDTO(task, rs.getFloat("rank"), rs.getString("headline"));
+        }, parameters.toArray());
+    }
+
+    /**
+     * SQL-выражение, заменяющее в тексте специальные символы HTML сущностями. Амперсанд заменяется первым,
+     * чтобы не экранировать повторно уже подставленные сущности.
+     *
+     * @param expression SQL-выражение с исходным текстом.
+     * @return SQL-выражение с экранированным текстом.
+     */
+    private static String escapeHtml(String expression) {
+        return "replace(replace(replace(replace(replace(" + expression
+                + ", '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '\"', '&quot;'), '''', '&#39;')";
+    }
+}
@@ -0,0 +1,19 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskGroupCountDTO;
+
+import java.util.List;
+
+/**
+ * Чтение количества задач из таблицы счетчиков task_stats, которую поддерживают триггеры на tasks.
+ */
+public interface TaskStatisticsRepository {
+
+    /**
+     * Получение количества задач по группам статуса, приоритета и исполнителя. Стоимость запроса зависит
+     * от количества групп, а не от количества задач.
+     *
+     * @return Непустые группы задач.
+     */
+    List<TaskGroupCountDTO> countByGroup();
+}
@@ -0,0 +1,38 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskGroupCountDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Реализация чтения счетчиков задач через JDBC.
+ * Счетчик каждой группы хранится в нескольких полосах, количество в группе равно их сумме.
+ * Задачи без исполнителя хранятся с assignee_id = 0.
+ */
+@RequiredArgsConstructor
+public class TaskStatisticsRepositoryImpl implements TaskStatisticsRepository {
+
+    private static final String COUNT_BY_GROUP_SQL = "SELECT status, priority, NULLIF(assignee_id, 0) AS assignee_id, "
+            + "sum(task_count) AS task_count "
+            + "FROM task_stats GROUP BY status, priority, assignee_id HAVING sum(task_count) <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskGroupCountDTO> countByGroup() {
+        return jdbcTemplate.query(COUNT_BY_GROUP_SQL, (rs, rowNum) -> {
+            long assigneeId = rs.getLong("assignee_id");
+            Long nullableAssigneeId = rs.wasNull() ? null : assigneeId;
+            return new TaskGroupCountDTO(
+                    TaskStatus.valueOf(rs.getString("status")),
+                    TaskPriority.valueOf(rs.getString("priority")),
+                    nullableAssigneeId,
+                    rs.getLong("task_count")
+            );
+        });
+    }
+}
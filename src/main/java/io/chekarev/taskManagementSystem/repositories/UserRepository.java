@@ -1,9 +1,16 @@
 package io.chekarev.taskManagementSystem.repositories;
 
 import io.chekarev.taskManagementSystem.domain.entities.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,10 +21,24 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
-     * Поиск пользователя по его email.
+     * Поиск пользователя по его email. Результат запроса хранится в регионе users-by-email кэша запросов
+     * и сбрасывается при любом изменении таблицы users, сам пользователь берется из региона users.
      *
      * @param email email пользователя.
      * @return Optional, содержащий объект пользователя, если найден.
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "users-by-email")
+    })
     Optional<User> findByEmail(String email);
+
+    /**
+     * Получение идентификаторов существующих пользователей из переданного набора.
+     *
+     * @param ids идентификаторы пользователей.
+     * @return идентификаторы пользователей, которые есть в базе данных.
+     */
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
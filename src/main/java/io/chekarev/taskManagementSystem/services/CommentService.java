@@ -2,9 +2,9 @@ package io.chekarev.taskManagementSystem.services;
 
 
 import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
 import io.chekarev.taskManagementSystem.domain.entities.User;
-
-import java.util.List;
+import org.springframework.data.domain.Sort;
 
 /**
  * Интерфейс сервиса для работы с комментариями. Предоставляет методы для получения, добавления
@@ -13,12 +13,16 @@ import java.util.List;
 public interface CommentService {
 
     /**
-     * Получить список комментариев для задачи по ID.
+     * Получить страницу комментариев для задачи по ID в порядке времени создания, используя keyset-пагинацию.
+     * Если курсор передан, направление берется из курсора, а параметр direction игнорируется.
      *
      * @param taskId ID задачи.
-     * @return Список комментариев для указанной задачи.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Страница комментариев и курсор для получения следующей страницы.
      */
-    List<CommentDTO> getCommentsByTaskId(Long taskId);
+    CursorPage<CommentDTO> getCommentsByTaskId(Long taskId, String cursor, int size, Sort.Direction direction);
 
     /**
      * Добавить новый комментарий.
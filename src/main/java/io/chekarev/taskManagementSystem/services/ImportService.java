@@ -0,0 +1,52 @@
+package io.chekarev.taskManagementSystem.services;
+
+import io.chekarev.taskManagementSystem.domain.dto.ImportJobDTO;
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportFormat;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Интерфейс сервиса массового импорта задач и комментариев.
+ */
+public interface ImportService {
+
+    /**
+     * Импортировать записи из потока. Записи проверяются по мере чтения, поэтому занятая импортом память
+     * не зависит от объема входных данных. Отклоненные записи не прерывают импорт и записываются в файл
+     * отклоненных записей; остальные загружаются в одной транзакции.
+     *
+     * @param entity Вид импортируемых данных.
+     * @param format Формат входных данных.
+     * @param inputStream Поток входных данных.
+     * @return Состояние завершенного импорта.
+     * @throws java.io.UncheckedIOException Если чтение входных данных или запись файла отклоненных записей не удались.
+     */
+    ImportJobDTO importRecords(ImportEntity entity, ImportFormat format, InputStream inputStream);
+
+    /**
+     * Получить состояние импорта, в том числе выполняющегося.
+     *
+     * @param id ID импорта.
+     * @return Optional, содержащий состояние импорта, если оно еще хранится.
+     */
+    Optional<ImportJobDTO> getImport(String id);
+
+    /**
+     * Получить состояние последних импортов.
+     *
+     * @return Состояния импортов, начиная с последнего.
+     */
+    List<ImportJobDTO> getImports();
+
+    /**
+     * Получить файл отклоненных записей импорта.
+     *
+     * @param id ID импорта.
+     * @return Optional, содержащий путь к файлу, если импорт еще хранится и файл существует.
+     */
+    Optional<Path> getRejectFile(String id);
+}
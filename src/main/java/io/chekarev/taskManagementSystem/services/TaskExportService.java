@@ -0,0 +1,28 @@
+package io.chekarev.taskManagementSystem.services;
+
+import io.chekarev.taskManagementSystem.export.TaskExportFormat;
+
+import java.io.OutputStream;
+
+/**
+ * Интерфейс сервиса потоковой выгрузки задач.
+ */
+public interface TaskExportService {
+
+    /**
+     * Выгрузить задачи, соответствующие фильтрам, в заданном формате. Задачи записываются в поток по мере чтения
+     * из базы данных, поэтому занятая выгрузкой память не зависит от количества задач. Поток закрывается
+     * по завершении выгрузки.
+     *
+     * @param format Формат выгрузки.
+     * @param outputStream Поток, в который записываются задачи.
+     * @param status Фильтр по статусу задачи.
+     * @param priority Фильтр по приоритету задачи.
+     * @param author Фильтр по автору задачи.
+     * @param assignee Фильтр по исполнителю задачи.
+     * @return Количество выгруженных задач.
+     * @throws java.io.UncheckedIOException Если запись в поток не удалась, например клиент закрыл соединение.
+     */
+    long exportTasks(TaskExportFormat format, OutputStream outputStream,
+                     String status, String priority, String author, String assignee);
+}
@@ -1,8 +1,16 @@
 package io.chekarev.taskManagementSystem.services;
 
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.domain.dto.TaskBulkResultDTO;
 import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskPatchDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
+import io.chekarev.taskManagementSystem.pagination.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -16,13 +24,48 @@ public interface TaskService {
      * Получить все задачи с учетом фильтрации и пагинации.
      *
      * @param pageable Параметры пагинации.
+     * @param countMode Способ определения общего количества задач.
      * @param status Статус задачи (может быть null или пустым).
      * @param priority Приоритет задачи (может быть null или пустым).
      * @param author ID автора задачи (может быть null или пустым).
      * @param assignee ID исполнителя задачи (может быть null или пустым).
-     * @return Страница задач, соответствующих фильтрам.
+     * @return Страница задач, соответствующих фильтрам: Page с точным или оценочным количеством задач
+     * либо Slice без количества для режима NONE.
      */
-    Page<TaskDTO> getAllTasks(Pageable pageable, String status, String priority, String author, String assignee);
+    Slice<TaskDTO> getAllTasks(Pageable pageable, CountMode countMode, String status, String priority, String author, String assignee);
+
+    /**
+     * Получить задачи с учетом фильтрации, используя keyset-пагинацию (курсор).
+     * Если курсор передан, сортировка берется из курсора, а параметры sort и direction игнорируются.
+     *
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param sort Свойство сортировки: id, createdAt или updatedAt.
+     * @param direction Направление сортировки.
+     * @param status Статус задачи (может быть null или пустым).
+     * @param priority Приоритет задачи (может быть null или пустым).
+     * @param author ID автора задачи (может быть null или пустым).
+     * @param assignee ID исполнителя задачи (может быть null или пустым).
+     * @return Страница задач и курсор для получения следующей страницы.
+     */
+    CursorPage<TaskDTO> getAllTasksByCursor(String cursor, int size, String sort, Sort.Direction direction,
+                                            String status, String priority, String author, String assignee);
+
+    /**
+     * Полнотекстовый поиск задач по заголовку, описанию и комментариям с учетом фильтрации,
+     * упорядоченный по убыванию ранга совпадения, с keyset-пагинацией (курсором).
+     *
+     * @param query Поисковый запрос.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param status Статус задачи (может быть null или пустым).
+     * @param priority Приоритет задачи (может быть null или пустым).
+     * @param author ID автора задачи (может быть null или пустым).
+     * @param assignee ID исполнителя задачи (может быть null или пустым).
+     * @return Страница найденных задач с выделенными фрагментами и курсор для получения следующей страницы.
+     */
+    CursorPage<TaskSearchResultDTO> searchTasks(String query, String cursor, int size,
+                                                String status, String priority, String author, String assignee);
 
     /**
      * Получить задачу по ID.
@@ -32,6 +75,14 @@ public interface TaskService {
      */
     TaskDTO getTaskById(Long id);
 
+    /**
+     * Получить версию и время последнего изменения задачи для проверки условных запросов.
+     *
+     * @param id ID задачи.
+     * @return Версия задачи с заданным ID.
+     */
+    TaskVersionDTO getTaskVersion(Long id);
+
     /**
      * Создать новую задачу.
      *
@@ -49,6 +100,24 @@ public interface TaskService {
      */
     TaskDTO updateTask(Long id, TaskDTO taskDTO);
 
+    /**
+     * Частично обновить задачу по ID, если ее версия не изменилась.
+     *
+     * @param id ID задачи, которую необходимо обновить.
+     * @param version Версия задачи, которую видел клиент.
+     * @param patch Изменяемые поля задачи.
+     * @return Обновленная задача.
+     */
+    TaskDTO patchTask(Long id, long version, TaskPatchDTO patch);
+
+    /**
+     * Создать и обновить набор задач в одной транзакции. Задачи без ID создаются, задачи с ID обновляются.
+     *
+     * @param taskDTOs Данные задач.
+     * @return Результат обработки каждой задачи в порядке передачи.
+     */
+    List<TaskBulkResultDTO> saveTasksInBulk(List<TaskDTO> taskDTOs);
+
     /**
      * Удалить задачу по ID.
      *
@@ -61,8 +130,8 @@ public interface TaskService {
      *
      * @param userId ID пользователя.
      * @param pageable Параметры пагинации.
-     * @return Список задач для текущего пользователя.
+     * @return Страница задач для текущего пользователя.
      */
-    List<TaskDTO> getTasksForCurrentUser(Long userId, Pageable pageable);
+    Page<TaskDTO> getTasksForCurrentUser(Long userId, Pageable pageable);
 }
 
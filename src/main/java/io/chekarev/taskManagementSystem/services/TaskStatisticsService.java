@@ -0,0 +1,17 @@
+package io.chekarev.taskManagementSystem.services;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskStatisticsDTO;
+
+/**
+ * Интерфейс сервиса статистики задач.
+ */
+public interface TaskStatisticsService {
+
+    /**
+     * Получить количество задач по статусам, приоритетам и исполнителям. Статистика читается из счетчиков,
+     * которые обновляются в одной транзакции с изменением задач, поэтому она точна на момент запроса.
+     *
+     * @return Статистика задач.
+     */
+    TaskStatisticsDTO getStatistics();
+}
@@ -1,18 +1,29 @@
 package io.chekarev.taskManagementSystem.services.impl;
 
 import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
 import io.chekarev.taskManagementSystem.domain.entities.Comment;
 import io.chekarev.taskManagementSystem.domain.entities.User;
 import io.chekarev.taskManagementSystem.domain.mappers.CommentMapper;
+import io.chekarev.taskManagementSystem.events.CommentChangeEvent;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
 import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import io.chekarev.taskManagementSystem.pagination.KeysetCursor;
 import io.chekarev.taskManagementSystem.repositories.CommentRepository;
+import io.chekarev.taskManagementSystem.repositories.TaskRepository;
 import io.chekarev.taskManagementSystem.services.CommentService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Реализация сервиса для работы с комментариями. Осуществляет логику получения, добавления,
@@ -22,21 +33,85 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final String CURSOR_SORT = "createdAt";
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
     private final CommentMapper commentMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Получить список комментариев для задачи по ее ID.
+     * Получить страницу комментариев для задачи по ее ID, упорядоченных по (created_at, id).
+     * Следующая страница выбирается условием {@code (created_at, id) < (value, id)} для сортировки по убыванию
+     * и {@code (created_at, id) > (value, id)} для сортировки по возрастанию по индексу (task_id, created_at, id),
+     * поэтому время ответа не зависит от количества комментариев задачи. Из базы запрашивается на одну
+     * запись больше размера страницы, чтобы определить наличие следующей страницы без подсчета.
+     * <p>
+     * Курсор предыдущей страницы строится по первому комментарию страницы. По нему комментарии выбираются
+     * тем же индексом в обратном направлении, а затем переставляются в порядок сортировки страницы.
      *
      * @param taskId ID задачи.
-     * @return Список комментариев для указанной задачи.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param direction Направление: DESC - сначала новые, ASC - сначала старые.
+     * @return Страница комментариев и курсоры следующей и предыдущей страниц.
+     * @throws InvalidCursorException Если курсор имеет неверный формат.
      */
     @Override
-    public List<CommentDTO> getCommentsByTaskId(Long taskId) {
-        return commentRepository.findByTaskId(taskId)
-                .stream()
-                .map(commentMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<CommentDTO> getCommentsByTaskId(Long taskId, String cursor, int size, Sort.Direction direction) {
+        KeysetCursor position = cursor != null && !cursor.isEmpty() ? KeysetCursor.decode(cursor) : null;
+        if (position != null && !CURSOR_SORT.equals(position.getSort())) {
+            throw new InvalidCursorException("Invalid cursor format: " + cursor);
+        }
+        Sort.Direction sortDirection = position != null ? position.getDirection() : direction;
+        boolean backward = position != null && position.isBackward();
+        Sort.Direction fetchDirection = backward
+                ? (sortDirection.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC)
+                : sortDirection;
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Sort order = Sort.by(fetchDirection, "createdAt").and(Sort.by(fetchDirection, "id"));
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<Comment> comments;
+        if (position == null) {
+            comments = commentRepository.findByTaskId(taskId, order, fetchLimit);
+        } else if (fetchDirection.isAscending()) {
+            comments = commentRepository.findByTaskIdAfter(taskId, parseCreatedAt(position), position.getId(), order, fetchLimit);
+        } else {
+            comments = commentRepository.findByTaskIdBefore(taskId, parseCreatedAt(position), position.getId(), order, fetchLimit);
+        }
+
+        boolean hasMore = comments.size() > limit;
+        List<Comment> pageComments = new ArrayList<>(hasMore ? comments.subList(0, limit) : comments);
+        if (backward) {
+            Collections.reverse(pageComments);
+        }
+        // Страница, выбранная назад, лежит перед страницей курсора, поэтому следующая страница у нее есть;
+        // у страницы, выбранной вперед по курсору, есть предыдущая
+        boolean hasNext = backward ? !pageComments.isEmpty() : hasMore;
+        boolean hasPrev = backward ? hasMore : position != null && !pageComments.isEmpty();
+        String nextCursor = hasNext ? cursorOf(pageComments.get(pageComments.size() - 1), sortDirection, false) : null;
+        String prevCursor = hasPrev ? cursorOf(pageComments.get(0), sortDirection, true) : null;
+
+        return new CursorPage<>(pageComments.stream().map(commentMapper::toDto).toList(), pageComments.size(),
+                hasNext, nextCursor, prevCursor);
+    }
+
+    private static String cursorOf(Comment comment, Sort.Direction direction, boolean backward) {
+        return new KeysetCursor(CURSOR_SORT, direction, String.valueOf(comment.getCreatedAt()), comment.getId(), backward)
+                .encode();
+    }
+
+    private static LocalDateTime parseCreatedAt(KeysetCursor position) {
+        if (position.getValue() == null) {
+            throw new InvalidCursorException("Missing cursor value for createdAt");
+        }
+        try {
+            return LocalDateTime.parse(position.getValue());
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor value for createdAt: " + position.getValue(), e);
+        }
     }
 
     /**
@@ -46,10 +121,15 @@ public class CommentServiceImpl implements CommentService {
      * @return Добавленный комментарий.
      */
     @Override
+    @Transactional
     public CommentDTO addComment(CommentDTO commentDTO) {
         Comment comment = commentMapper.toEntity(commentDTO);
+        // Маппер создает задачу только с ID и без версии, такую ссылку Hibernate не может отличить от новой задачи
+        comment.setTask(taskRepository.getReferenceById(commentDTO.getTaskId()));
         Comment savedComment = commentRepository.save(comment);
-        return commentMapper.toDto(savedComment);
+        CommentDTO addedComment = commentMapper.toDto(savedComment);
+        eventPublisher.publishEvent(CommentChangeEvent.created(addedComment));
+        return addedComment;
     }
 
     /**
@@ -59,21 +139,24 @@ public class CommentServiceImpl implements CommentService {
      * @throws ResourceNotFoundException Если комментарий с данным ID не найден.
      */
     @Override
+    @Transactional
     public void deleteComment(Long id) {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + id));
-        commentRepository.delete(comment);
+        delete(comment);
     }
 
     /**
      * Удалить комментарий, если он был оставлен текущим пользователем.
+     * Комментарий загружается вместе с автором одним запросом.
      *
      * @param id ID комментария.
      * @throws ResourceNotFoundException Если комментарий не найден или если текущий пользователь не является его владельцем.
      */
     @Override
+    @Transactional
     public void deleteCommentForCurrentUser(Long id, User currentUser) {
-        Comment comment = commentRepository.findById(id)
+        Comment comment = commentRepository.findWithUserById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + id));
 
         // Проверка, что текущий пользователь является владельцем комментария
@@ -81,6 +164,19 @@ public class CommentServiceImpl implements CommentService {
             throw new ResourceNotFoundException("You can only delete your own comments");
         }
 
+        delete(comment);
+    }
+
+    /**
+     * Удаление комментария с публикацией события. DELETE выполняется до публикации, поэтому запись события
+     * в outbox делается под блокировкой удаленной строки.
+     *
+     * @param comment Удаляемый комментарий.
+     */
+    private void delete(Comment comment) {
         commentRepository.delete(comment);
+        commentRepository.flush();
+        eventPublisher.publishEvent(CommentChangeEvent.deleted(comment.getId(), comment.getTask().getId(),
+                comment.getUser().getId()));
     }
 }
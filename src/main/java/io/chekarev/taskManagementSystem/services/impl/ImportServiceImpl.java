@@ -0,0 +1,155 @@
+package io.chekarev.taskManagementSystem.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.ImportJobDTO;
+import io.chekarev.taskManagementSystem.exceptions.InvalidImportRecordException;
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportFormat;
+import io.chekarev.taskManagementSystem.imports.ImportJob;
+import io.chekarev.taskManagementSystem.imports.ImportJobRegistry;
+import io.chekarev.taskManagementSystem.imports.ImportRecord;
+import io.chekarev.taskManagementSystem.imports.ImportRecordReader;
+import io.chekarev.taskManagementSystem.imports.ImportRejectHandler;
+import io.chekarev.taskManagementSystem.imports.ImportRejectWriter;
+import io.chekarev.taskManagementSystem.imports.ImportStagingWriter;
+import io.chekarev.taskManagementSystem.repositories.ImportRepository;
+import io.chekarev.taskManagementSystem.services.ImportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Реализация сервиса массового импорта.
+ * <p>
+ * Импорт выполняется в одной транзакции в два этапа. Сначала записи читаются из потока, проверяются
+ * и передаются командой COPY во временную промежуточную таблицу; записи, не прошедшие проверку, сразу
+ * попадают в файл отклоненных записей. Затем строки промежуточной таблицы переносятся в основные таблицы
+ * несколькими SQL-запросами, которые заменяют email пользователей на ID и отклоняют строки со ссылками
+ * на неизвестных пользователей и задачи. Сервисы задач и комментариев, события изменений и outbox
+ * при импорте не используются.
+ * <p>
+ * Метрики: imports.records (количество импортированных и отклоненных записей, теги entity и outcome)
+ * и imports.duration (время этапов, теги entity и phase).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportServiceImpl implements ImportService {
+
+    private final ImportRepository importRepository;
+    private final ImportJobRegistry importJobRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ImportJobDTO importRecords(ImportEntity entity, ImportFormat format, InputStream inputStream) {
+        ImportJob job = importJobRegistry.start(entity, format);
+        log.info("Import {} of {} started", job.getId(), entity);
+        try (ImportRejectWriter rejectWriter = ImportRejectWriter.open(job.getRejectFile(), objectMapper)) {
+            ImportRejectHandler rejects = (recordNumber, reason) -> {
+                rejectWriter.reject(recordNumber, reason);
+                job.recordRejected();
+            };
+            Long imported = transactionTemplate.execute(status -> load(job, inputStream, rejects));
+            job.complete(imported != null ? imported : 0);
+        } catch (IOException e) {
+            job.fail(e.getMessage());
+            throw new UncheckedIOException("Import " + job.getId() + " failed", e);
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            throw e;
+        }
+
+        ImportJobDTO result = job.toDTO();
+        recordsCounter(entity, "imported").increment(result.getRecordsImported());
+        recordsCounter(entity, "rejected").increment(result.getRecordsRejected());
+        log.info("Import {} of {} completed: {} imported, {} rejected, {} records/s", job.getId(), entity,
+                result.getRecordsImported(), result.getRecordsRejected(), Math.round(result.getRecordsPerSecond()));
+        return result;
+    }
+
+    @Override
+    public Optional<ImportJobDTO> getImport(String id) {
+        return importJobRegistry.find(id).map(ImportJob::toDTO);
+    }
+
+    @Override
+    public List<ImportJobDTO> getImports() {
+        return importJobRegistry.findAll().stream().map(ImportJob::toDTO).toList();
+    }
+
+    @Override
+    public Optional<Path> getRejectFile(String id) {
+        return importJobRegistry.find(id)
+                .map(ImportJob::getRejectFile)
+                .filter(Files::exists);
+    }
+
+    private long load(ImportJob job, InputStream inputStream, ImportRejectHandler rejects) {
+        ImportEntity entity = job.getEntity();
+        phaseTimer(entity, "read").record(() -> copy(job, inputStream, rejects));
+        job.startMerge();
+        Long imported = phaseTimer(entity, "merge").record(() -> entity == ImportEntity.TASKS
+                ? importRepository.mergeTasks(rejects)
+                : importRepository.mergeComments(rejects));
+        return imported != null ? imported : 0;
+    }
+
+    private void copy(ImportJob job, InputStream inputStream, ImportRejectHandler rejects) {
+        try (ImportRecordReader reader = ImportRecordReader.of(job.getFormat(), inputStream, objectMapper);
+             ImportStagingWriter staging = importRepository.openStaging(job.getEntity())) {
+            while (true) {
+                ImportRecord record;
+                try {
+                    record = reader.next();
+                } catch (InvalidImportRecordException e) {
+                    job.recordRead();
+                    rejects.reject(e.getRecordNumber(), e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                job.recordRead();
+                try {
+                    staging.write(record.getNumber(), job.getEntity().toStagingRow(record));
+                } catch (InvalidImportRecordException e) {
+                    rejects.reject(e.getRecordNumber(), e.getMessage());
+                }
+            }
+            staging.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import input", e);
+        }
+    }
+
+    private Counter recordsCounter(ImportEntity entity, String outcome) {
+        return Counter.builder("imports.records")
+                .description("Количество записей массового импорта")
+                .tag("entity", entity.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Timer phaseTimer(ImportEntity entity, String phase) {
+        return Timer.builder("imports.duration")
+                .description("Время этапа массового импорта")
+                .tag("entity", entity.name().toLowerCase(Locale.ROOT))
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,73 @@
+package io.chekarev.taskManagementSystem.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import io.chekarev.taskManagementSystem.export.TaskExportFormat;
+import io.chekarev.taskManagementSystem.export.TaskExportProperties;
+import io.chekarev.taskManagementSystem.export.TaskExportWriter;
+import io.chekarev.taskManagementSystem.repositories.TaskRepository;
+import io.chekarev.taskManagementSystem.services.TaskExportService;
+import io.chekarev.taskManagementSystem.specifications.TaskSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Реализация сервиса потоковой выгрузки задач.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final Sort EXPORT_SORT = Sort.by("id");
+
+    private final TaskRepository taskRepository;
+    private final TaskExportProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Выгрузить задачи, соответствующие фильтрам, в порядке ID.
+     * Задачи читаются одним запросом через курсор базы данных в транзакции только для чтения и записываются
+     * в поток по одной. Если клиент закрыл соединение, запись завершается ошибкой, поток задач и курсор
+     * закрываются, и чтение оставшихся строк не выполняется.
+     *
+     * @param format Формат выгрузки.
+     * @param outputStream Поток, в который записываются задачи.
+     * @param status Фильтр по статусу задачи.
+     * @param priority Фильтр по приоритету задачи.
+     * @param author Фильтр по автору задачи.
+     * @param assignee Фильтр по исполнителю задачи.
+     * @return Количество выгруженных задач.
+     * @throws IllegalArgumentException Если ID автора или исполнителя имеет неверный формат.
+     * @throws UncheckedIOException Если запись в поток не удалась.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskExportFormat format, OutputStream outputStream,
+                            String status, String priority, String author, String assignee) {
+        Specification<Task> specification = TaskSpecification.withFilters(status, priority, author, assignee);
+        long count = 0;
+        try (Stream<TaskDTO> tasks = taskRepository.streamAllDto(specification, EXPORT_SORT, properties.getFetchSize());
+             TaskExportWriter writer = TaskExportWriter.of(format,
+                     new BufferedOutputStream(outputStream, properties.getBufferSize()), objectMapper)) {
+            Iterator<TaskDTO> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task export interrupted after " + count + " tasks", e);
+        }
+        return count;
+    }
+}
@@ -1,18 +1,47 @@
 package io.chekarev.taskManagementSystem.services.impl;
 
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.domain.dto.TaskBulkResultDTO;
 import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskPatchDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
 import io.chekarev.taskManagementSystem.domain.entities.Task;
 import io.chekarev.taskManagementSystem.domain.mappers.TaskMapper;
+import io.chekarev.taskManagementSystem.events.TaskChangeEvent;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
 import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import io.chekarev.taskManagementSystem.exceptions.TaskVersionConflictException;
+import io.chekarev.taskManagementSystem.pagination.CountMode;
+import io.chekarev.taskManagementSystem.pagination.EstimatedPage;
+import io.chekarev.taskManagementSystem.pagination.KeysetCursor;
+import io.chekarev.taskManagementSystem.pagination.TaskSortKey;
 import io.chekarev.taskManagementSystem.repositories.TaskRepository;
+import io.chekarev.taskManagementSystem.repositories.UserRepository;
 import io.chekarev.taskManagementSystem.specifications.TaskSpecification;
 import io.chekarev.taskManagementSystem.services.TaskService;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,30 +52,176 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final Sort DEFAULT_SORT = Sort.by("id");
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final String SEARCH_CURSOR_SORT = "rank";
+    // Ниже этого значения оценка планировщика неточна, а точный COUNT дешев
+    private static final long APPROXIMATE_COUNT_THRESHOLD = 10_000;
+
     private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Получить все задачи с учетом фильтрации по статусу, приоритету, автору и исполнителю,
-     * а также с применением пагинации.
+     * а также с применением пагинации. Задачи выбираются сразу в виде DTO, без загрузки автора и исполнителя.
+     * <p>
+     * Общее количество задач определяется в зависимости от режима:
+     * <ul>
+     *     <li>EXACT - отдельным COUNT с теми же фильтрами;</li>
+     *     <li>NONE - не определяется, из базы запрашивается на одну запись больше размера страницы
+     *     для признака наличия следующей страницы;</li>
+     *     <li>APPROXIMATE - по оценке планировщика PostgreSQL. Если оценка меньше порога, выполняется точный COUNT.</li>
+     * </ul>
+     * Если страница неполная, общее количество известно без подсчета, и в режиме APPROXIMATE возвращается точное значение.
      *
      * @param pageable Параметры пагинации.
+     * @param countMode Способ определения общего количества задач.
      * @param status Статус задачи (может быть null или пустым).
      * @param priority Приоритет задачи (может быть null или пустым).
      * @param author ID автора задачи (может быть null или пустым).
      * @param assignee ID исполнителя задачи (может быть null или пустым).
-     * @return Страница задач, соответствующих фильтрам.
+     * @return Страница задач, соответствующих фильтрам: Page с точным количеством, EstimatedPage с оценкой
+     * количества или Slice без количества.
      */
     @Override
-    public Page<TaskDTO> getAllTasks(Pageable pageable, String status, String priority, String author, String assignee) {
-        return taskRepository.findAll(
-                TaskSpecification.withFilters(status, priority, author, assignee),
-                pageable
-        ).map(taskMapper::toDto);
+    public Slice<TaskDTO> getAllTasks(Pageable pageable, CountMode countMode,
+                                      String status, String priority, String author, String assignee) {
+        Specification<Task> specification = TaskSpecification.withFilters(status, priority, author, assignee);
+        if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+            return taskRepository.findAllDto(specification, pageable);
+        }
+
+        Slice<TaskDTO> slice = taskRepository.findSliceDto(specification, pageable);
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+
+        long knownCount = pageable.getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(slice.getContent(), pageable, knownCount);
+        }
+        long estimate = taskRepository.estimateCount(status, priority, author, assignee);
+        if (estimate < APPROXIMATE_COUNT_THRESHOLD) {
+            return new PageImpl<>(slice.getContent(), pageable, taskRepository.count(specification));
+        }
+        return new EstimatedPage<>(slice.getContent(), pageable, Math.max(estimate, knownCount + 1));
     }
 
     /**
-     * Получить задачу по ее ID.
+     * Получить задачи с учетом фильтрации, используя keyset-пагинацию.
+     * Вместо OFFSET следующая страница выбирается условием {@code (sort_key, id) > (value, id)},
+     * поэтому время ответа не зависит от глубины пролистывания. Из базы запрашивается на одну
+     * запись больше размера страницы, чтобы определить наличие следующей страницы без подсчета.
+     *
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param sort Свойство сортировки: id, createdAt или updatedAt.
+     * @param direction Направление сортировки.
+     * @param status Статус задачи (может быть null или пустым).
+     * @param priority Приоритет задачи (может быть null или пустым).
+     * @param author ID автора задачи (может быть null или пустым).
+     * @param assignee ID исполнителя задачи (может быть null или пустым).
+     * @return Страница задач и курсор для получения следующей страницы.
+     * @throws InvalidCursorException Если курсор или свойство сортировки имеют неверный формат.
+     */
+    @Override
+    public CursorPage<TaskDTO> getAllTasksByCursor(String cursor, int size, String sort, Sort.Direction direction,
+                                                   String status, String priority, String author, String assignee) {
+        KeysetCursor position = cursor != null && !cursor.isEmpty() ? KeysetCursor.decode(cursor) : null;
+        if (position != null && position.isBackward()) {
+            throw new InvalidCursorException("Invalid cursor format: " + cursor);
+        }
+        TaskSortKey sortKey = TaskSortKey.fromProperty(position != null ? position.getSort() : sort);
+        Sort.Direction sortDirection = position != null ? position.getDirection() : direction;
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        Specification<Task> specification = TaskSpecification.withFilters(status, priority, author, assignee);
+        if (position != null) {
+            specification = specification.and(TaskSpecification.seekAfter(
+                    sortKey.getProperty(), sortKey.parse(position.getValue()), position.getId(), sortDirection));
+        }
+
+        Sort order = sortKey == TaskSortKey.ID
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, sortKey.getProperty()).and(Sort.by(sortDirection, "id"));
+        List<Task> tasks = taskRepository.findBy(specification, query -> query.sortBy(order).limit(limit + 1).all());
+
+        boolean hasNext = tasks.size() > limit;
+        List<Task> pageTasks = hasNext ? tasks.subList(0, limit) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = pageTasks.get(pageTasks.size() - 1);
+            nextCursor = new KeysetCursor(sortKey.getProperty(), sortDirection, sortKey.extract(last), last.getId()).encode();
+        }
+
+        return new CursorPage<>(pageTasks.stream().map(taskMapper::toDto).toList(), pageTasks.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * Полнотекстовый поиск задач по заголовку, описанию и комментариям с учетом фильтрации.
+     * Задачи упорядочиваются по убыванию (rank, id), следующая страница выбирается условием
+     * {@code (rank, id) < (value, id)}. Из базы запрашивается на одну запись больше размера страницы,
+     * чтобы определить наличие следующей страницы без подсчета.
+     *
+     * @param query Поисковый запрос в формате websearch_to_tsquery.
+     * @param cursor Курсор, полученный в предыдущем ответе (может быть null для первой страницы).
+     * @param size Размер страницы.
+     * @param status Статус задачи (может быть null или пустым).
+     * @param priority Приоритет задачи (может быть null или пустым).
+     * @param author ID автора задачи (может быть null или пустым).
+     * @param assignee ID исполнителя задачи (может быть null или пустым).
+     * @return Страница найденных задач с выделенными фрагментами и курсор для получения следующей страницы.
+     * @throws IllegalArgumentException Если запрос пуст.
+     * @throws InvalidCursorException Если курсор имеет неверный формат.
+     */
+    @Override
+    public CursorPage<TaskSearchResultDTO> searchTasks(String query, String cursor, int size,
+                                                       String status, String priority, String author, String assignee) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        KeysetCursor position = cursor != null && !cursor.isEmpty() ? KeysetCursor.decode(cursor) : null;
+        if (position != null && (!SEARCH_CURSOR_SORT.equals(position.getSort()) || position.isBackward())) {
+            throw new InvalidCursorException("Invalid cursor format: " + cursor);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        List<TaskSearchResultDTO> results = taskRepository.search(query,
+                position != null ? parseRank(position) : null, position != null ? position.getId() : null,
+                limit + 1, status, priority, author, assignee);
+
+        boolean hasNext = results.size() > limit;
+        List<TaskSearchResultDTO> pageResults = hasNext ? results.subList(0, limit) : results;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskSearchResultDTO last = pageResults.get(pageResults.size() - 1);
+            nextCursor = new KeysetCursor(SEARCH_CURSOR_SORT, Sort.Direction.DESC,
+                    Float.toString(last.getRank()), last.getTask().getId()).encode();
+        }
+
+        return new CursorPage<>(pageResults, pageResults.size(), hasNext, nextCursor);
+    }
+
+    private static Float parseRank(KeysetCursor position) {
+        if (position.getValue() == null) {
+            throw new InvalidCursorException("Missing cursor value for rank");
+        }
+        try {
+            return Float.valueOf(position.getValue());
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid cursor value for rank: " + position.getValue(), e);
+        }
+    }
+
+    /**
+     * Получить задачу по ее ID. В отличие от списков задач, здесь читается сущность, а не проекция в DTO:
+     * повторное чтение обслуживается регионом tasks кэша второго уровня без запроса к базе.
+     * При промахе выполняется один запрос по первичному ключу без соединений, автор и исполнитель
+     * не загружаются, их ID берутся из внешних ключей; ценой становится сущность в контексте персистентности.
      *
      * @param id ID задачи.
      * @return Задача с заданным ID в виде DTO.
@@ -59,6 +234,20 @@ public class TaskServiceImpl implements TaskService {
         return taskMapper.toDto(task);
     }
 
+    /**
+     * Получить версию и время последнего изменения задачи.
+     * Выбираются только столбцы version и updated_at по первичному ключу, задача не загружается.
+     *
+     * @param id ID задачи.
+     * @return Версия задачи с заданным ID.
+     * @throws ResourceNotFoundException Если задача с данным ID не найдена.
+     */
+    @Override
+    public TaskVersionDTO getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
     /**
      * Создать новую задачу.
      *
@@ -66,10 +255,13 @@ public class TaskServiceImpl implements TaskService {
      * @return Созданная задача в виде DTO.
      */
     @Override
+    @Transactional
     public TaskDTO createTask(TaskDTO taskDTO) {
         Task task = taskMapper.toEntity(taskDTO);
         Task savedTask = taskRepository.save(task);
-        return taskMapper.toDto(savedTask);
+        TaskDTO createdTask = taskMapper.toDto(savedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, createdTask));
+        return createdTask;
     }
 
     /**
@@ -81,6 +273,7 @@ public class TaskServiceImpl implements TaskService {
      * @throws ResourceNotFoundException Если задача с данным ID не найдена.
      */
     @Override
+    @Transactional
     public TaskDTO updateTask(Long id, TaskDTO taskDTO) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
@@ -88,8 +281,189 @@ public class TaskServiceImpl implements TaskService {
         task.setDescription(taskDTO.getDescription());
         task.setStatus(taskDTO.getStatus());
         task.setPriority(taskDTO.getPriority());
-        Task updatedTask = taskRepository.save(task);
-        return taskMapper.toDto(updatedTask);
+        // UPDATE выполняется до публикации события: событие получает новую версию задачи, а запись в outbox
+        // делается уже под блокировкой строки, поэтому порядок событий одной задачи совпадает с порядком фиксации
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskDTO updatedTaskDTO = taskMapper.toDto(updatedTask);
+        eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, updatedTaskDTO));
+        return updatedTaskDTO;
+    }
+
+    /**
+     * Частично обновить задачу с указанным ID.
+     * <p>
+     * Переданные поля изменяются одним запросом UPDATE с условием на версию задачи, без предварительной
+     * выборки. Запрос выполняется в обход Hibernate, поэтому после изменения задача удаляется из региона
+     * tasks кэша второго уровня после фиксации транзакции. Если ни одна строка не изменилась, версия задачи выбирается повторно,
+     * чтобы отличить отсутствующую задачу от конфликта версий.
+     *
+     * @param id ID задачи, которую необходимо обновить.
+     * @param version Версия задачи, которую видел клиент.
+     * @param patch Изменяемые поля задачи.
+     * @return Обновленная задача в виде DTO.
+     * @throws IllegalArgumentException Если изменение не содержит ни одного поля.
+     * @throws ResourceNotFoundException Если задача с данным ID не найдена.
+     * @throws TaskVersionConflictException Если версия задачи отличается от переданной.
+     */
+    @Override
+    @Transactional
+    public TaskDTO patchTask(Long id, long version, TaskPatchDTO patch) {
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Patch must contain at least one field");
+        }
+        TaskDTO patchedTask = taskRepository.patch(id, version, patch, LocalDateTime.now()).orElse(null);
+        if (patchedTask == null) {
+            TaskVersionDTO currentVersion = taskRepository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            throw new TaskVersionConflictException("Task " + id + " has version " + currentVersion.getVersion()
+                    + ", expected " + version);
+        }
+        evictAfterCommit(id);
+        eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, patchedTask));
+        return patchedTask;
+    }
+
+    /**
+     * Удаление задачи из кэша второго уровня после фиксации транзакции. Удаление до фиксации не помогает:
+     * параллельное чтение успело бы положить в кэш прежнее состояние задачи.
+     *
+     * @param id ID задачи.
+     */
+    private void evictAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(Task.class, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Task.class, id);
+            }
+        });
+    }
+
+    /**
+     * Создать и обновить набор задач в одной транзакции.
+     * <p>
+     * Задачи без ID создаются, задачи с ID обновляются (заголовок, описание, статус и приоритет, как в updateTask).
+     * Обновляемые задачи и авторы/исполнители новых задач загружаются двумя запросами на весь набор,
+     * а INSERT и UPDATE отправляются в базу данных JDBC-пакетами в конце метода:
+     * идентификаторы новых задач берутся из блоков последовательности tasks_id_seq без отдельного запроса на каждую задачу.
+     * Задачи, не прошедшие проверку или не найденные, пропускаются и не отменяют обработку остальных.
+     *
+     * @param taskDTOs Данные задач.
+     * @return Результат обработки каждой задачи в порядке передачи.
+     * @throws IllegalArgumentException Если набор содержит больше допустимого количества задач.
+     */
+    @Override
+    @Transactional
+    public List<TaskBulkResultDTO> saveTasksInBulk(List<TaskDTO> taskDTOs) {
+        if (taskDTOs.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Bulk request must contain at most " + MAX_BULK_SIZE + " tasks");
+        }
+
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (TaskDTO taskDTO : taskDTOs) {
+            if (taskDTO.getId() != null) {
+                taskIds.add(taskDTO.getId());
+            } else {
+                if (taskDTO.getAuthorId() != null) {
+                    userIds.add(taskDTO.getAuthorId());
+                }
+                if (taskDTO.getAssigneeId() != null) {
+                    userIds.add(taskDTO.getAssigneeId());
+                }
+            }
+        }
+        Map<Long, Task> existingTasks = taskIds.isEmpty()
+                ? Map.of()
+                : taskRepository.findAllById(taskIds).stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(userIds));
+
+        List<TaskBulkResultDTO> results = new ArrayList<>(taskDTOs.size());
+        List<TaskBulkResultDTO> createdResults = new ArrayList<>();
+        List<Task> createdTasks = new ArrayList<>();
+        List<Task> updatedTasks = new ArrayList<>();
+        for (int index = 0; index < taskDTOs.size(); index++) {
+            TaskDTO taskDTO = taskDTOs.get(index);
+            String error = validateBulkTask(taskDTO, existingUserIds);
+            if (error != null) {
+                results.add(new TaskBulkResultDTO(index, taskDTO.getId(), TaskBulkResultDTO.Status.INVALID, error));
+                continue;
+            }
+
+            if (taskDTO.getId() == null) {
+                Task task = taskMapper.toEntity(taskDTO);
+                if (taskDTO.getAssigneeId() == null) {
+                    task.setAssignee(null);
+                }
+                TaskBulkResultDTO result = new TaskBulkResultDTO(index, null, TaskBulkResultDTO.Status.CREATED, null);
+                createdResults.add(result);
+                createdTasks.add(task);
+                results.add(result);
+                continue;
+            }
+
+            Task task = existingTasks.get(taskDTO.getId());
+            if (task == null) {
+                results.add(new TaskBulkResultDTO(index, taskDTO.getId(), TaskBulkResultDTO.Status.NOT_FOUND,
+                        "Task not found with id: " + taskDTO.getId()));
+                continue;
+            }
+            task.setTitle(taskDTO.getTitle());
+            task.setDescription(taskDTO.getDescription());
+            task.setStatus(taskDTO.getStatus());
+            task.setPriority(taskDTO.getPriority());
+            updatedTasks.add(task);
+            results.add(new TaskBulkResultDTO(index, task.getId(), TaskBulkResultDTO.Status.UPDATED, null));
+        }
+
+        // Новые задачи получают ID при persist; flush отправляет те же JDBC-пакеты, что и завершение транзакции,
+        // но раньше, чтобы события изменения содержали новые версии обновленных задач
+        taskRepository.saveAll(createdTasks);
+        taskRepository.flush();
+        for (int i = 0; i < createdTasks.size(); i++) {
+            createdResults.get(i).setId(createdTasks.get(i).getId());
+        }
+        // События рассылаются подписчикам только после фиксации транзакции
+        createdTasks.forEach(task -> eventPublisher.publishEvent(
+                TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, taskMapper.toDto(task))));
+        updatedTasks.forEach(task -> eventPublisher.publishEvent(
+                TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, taskMapper.toDto(task))));
+        return results;
+    }
+
+    /**
+     * Проверка данных задачи из пакета: обязательные поля и существование автора и исполнителя новой задачи.
+     *
+     * @param taskDTO Данные задачи.
+     * @param existingUserIds ID существующих пользователей.
+     * @return Описание ошибки или null, если данные корректны.
+     */
+    private String validateBulkTask(TaskDTO taskDTO, Set<Long> existingUserIds) {
+        if (taskDTO.getTitle() == null || taskDTO.getTitle().isBlank()) {
+            return "Title is required";
+        }
+        if (taskDTO.getStatus() == null) {
+            return "Status is required";
+        }
+        if (taskDTO.getPriority() == null) {
+            return "Priority is required";
+        }
+        if (taskDTO.getId() != null) {
+            return null;
+        }
+        if (taskDTO.getAuthorId() == null) {
+            return "Author ID is required";
+        }
+        if (!existingUserIds.contains(taskDTO.getAuthorId())) {
+            return "User not found with id: " + taskDTO.getAuthorId();
+        }
+        if (taskDTO.getAssigneeId() != null && !existingUserIds.contains(taskDTO.getAssigneeId())) {
+            return "User not found with id: " + taskDTO.getAssigneeId();
+        }
+        return null;
     }
 
     /**
@@ -99,45 +473,32 @@ public class TaskServiceImpl implements TaskService {
      * @throws ResourceNotFoundException Если задача с данным ID не найдена.
      */
     @Override
+    @Transactional
     public void deleteTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        // DELETE выполняется до публикации события, как в updateTask
         taskRepository.delete(task);
+        taskRepository.flush();
+        eventPublisher.publishEvent(TaskChangeEvent.deleted(id, task.getAuthor().getId(),
+                task.getAssignee() != null ? task.getAssignee().getId() : null));
     }
 
     /**
      * Получить задачи для текущего пользователя, включая задачи, где он является автором
      * и задач, где он назначен исполнителем, с применением пагинации.
+     * Объединение, сортировка и пагинация выполняются одним запросом к базе данных,
+     * задачи выбираются сразу в виде DTO. Если сортировка не задана, задачи упорядочиваются по ID.
      *
      * @param userId ID текущего пользователя.
      * @param pageable Параметры пагинации.
-     * @return Список задач, относящихся к текущему пользователю.
+     * @return Страница задач, относящихся к текущему пользователю.
      */
     @Override
-    public List<TaskDTO> getTasksForCurrentUser(Long userId, Pageable pageable) {
-        // Получаем задачи, где пользователь является автором
-        List<Task> authoredTasks = taskRepository.findByAuthorId(userId);
-
-        // Получаем задачи, где пользователь является исполнителем
-        List<Task> assignedTasks = taskRepository.findByAssigneeId(userId);
-
-        // Объединяем оба списка и преобразуем их в DTO
-        List<TaskDTO> result = authoredTasks.stream()
-                .map(taskMapper::toDto)
-                .collect(Collectors.toList());
-
-        result.addAll(assignedTasks.stream()
-                .map(taskMapper::toDto)
-                .collect(Collectors.toList()));
-
-        // Применяем пагинацию вручную
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), result.size());
-
-        if (start > result.size()) {
-            return List.of(); // Если начальный индекс выходит за пределы, возвращаем пустой список
-        }
-
-        return result.subList(start, end);
+    public Page<TaskDTO> getTasksForCurrentUser(Long userId, Pageable pageable) {
+        Pageable sortedPageable = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSortOr(DEFAULT_SORT))
+                : pageable;
+        return taskRepository.findByParticipantId(userId, sortedPageable);
     }
 }
@@ -0,0 +1,69 @@
+package io.chekarev.taskManagementSystem.services.impl;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskAssigneeCountDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskGroupCountDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskStatisticsDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.repositories.TaskRepository;
+import io.chekarev.taskManagementSystem.services.TaskStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Реализация сервиса статистики задач.
+ * Количество задач по группам статуса, приоритета и исполнителя выбирается одним запросом к таблице счетчиков
+ * и суммируется по каждому измерению в памяти.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskStatisticsServiceImpl implements TaskStatisticsService {
+
+    private static final Comparator<TaskAssigneeCountDTO> BY_COUNT_DESC =
+            Comparator.comparingLong(TaskAssigneeCountDTO::getCount).reversed()
+                    .thenComparing(TaskAssigneeCountDTO::getAssigneeId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * Получить количество задач по статусам, приоритетам и исполнителям.
+     * Статусы и приоритеты без задач возвращаются с нулевым количеством, исполнители отсортированы
+     * по убыванию количества задач.
+     *
+     * @return Статистика задач.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStatisticsDTO getStatistics() {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        Map<Long, Long> byAssignee = new HashMap<>();
+        long total = 0;
+
+        for (TaskGroupCountDTO group : taskRepository.countByGroup()) {
+            byStatus.merge(group.getStatus(), group.getCount(), Long::sum);
+            byPriority.merge(group.getPriority(), group.getCount(), Long::sum);
+            byAssignee.merge(group.getAssigneeId(), group.getCount(), Long::sum);
+            total += group.getCount();
+        }
+
+        List<TaskAssigneeCountDTO> assignees = new ArrayList<>(byAssignee.size());
+        byAssignee.forEach((assigneeId, count) -> assignees.add(new TaskAssigneeCountDTO(assigneeId, count)));
+        assignees.sort(BY_COUNT_DESC);
+        return new TaskStatisticsDTO(total, byStatus, byPriority, assignees);
+    }
+}
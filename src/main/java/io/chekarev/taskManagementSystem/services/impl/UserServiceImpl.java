@@ -1,5 +1,6 @@
 package io.chekarev.taskManagementSystem.services.impl;
 
+import io.chekarev.taskManagementSystem.auth.UserPrincipalCache;
 import io.chekarev.taskManagementSystem.domain.entities.User;
 import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
 import io.chekarev.taskManagementSystem.repositories.UserRepository;
@@ -19,6 +20,7 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
 
     /**
      * Получение списка всех пользователей.
@@ -45,6 +47,7 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Обновление данных пользователя.
+     * Пользователь удаляется из кэша аутентификации как по старому, так и по новому email.
      *
      * @param id          идентификатор пользователя, данные которого нужно обновить.
      * @param userDetails объект с новыми данными для обновления.
@@ -53,14 +56,19 @@ public class UserServiceImpl implements UserService {
     @Override
     public User updateUser(Long id, User userDetails) {
         User user = getUserById(id);
+        String previousEmail = user.getEmail();
         user.setName(userDetails.getName());
         user.setEmail(userDetails.getEmail());
         user.setRole(userDetails.getRole());
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        principalCache.evict(previousEmail);
+        principalCache.evict(savedUser.getEmail());
+        return savedUser;
     }
 
     /**
      * Удаление пользователя по его идентификатору.
+     * Пользователь также удаляется из кэша аутентификации.
      *
      * @param id идентификатор пользователя, которого нужно удалить.
      * @throws ResourceNotFoundException если пользователь с заданным идентификатором не найден.
@@ -69,6 +77,7 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        principalCache.evict(user.getEmail());
     }
 
     /**
@@ -99,6 +108,7 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Обновление данных текущего аутентифицированного пользователя.
+     * Пользователь удаляется из кэша аутентификации как по старому, так и по новому email.
      *
      * @param userDetails объект с новыми данными пользователя.
      * @return обновленный пользователь.
@@ -106,8 +116,12 @@ public class UserServiceImpl implements UserService {
     @Override
     public User updateCurrentUser(User userDetails) {
         User currentUser = getCurrentUser();
+        String previousEmail = currentUser.getEmail();
         currentUser.setName(userDetails.getName());
         currentUser.setEmail(userDetails.getEmail());
-        return userRepository.save(currentUser);
+        User savedUser = userRepository.save(currentUser);
+        principalCache.evict(previousEmail);
+        principalCache.evict(savedUser.getEmail());
+        return savedUser;
     }
 }
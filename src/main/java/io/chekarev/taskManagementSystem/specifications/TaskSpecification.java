@@ -1,7 +1,10 @@
 package io.chekarev.taskManagementSystem.specifications;
 
 import io.chekarev.taskManagementSystem.domain.entities.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
@@ -54,4 +57,45 @@ public class TaskSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Создает спецификацию для keyset-пагинации: выбирает задачи, расположенные после элемента
+     * с заданными значением ключа сортировки и ID, то есть {@code (sort_key, id) > (value, id)}
+     * для сортировки по возрастанию и {@code (sort_key, id) < (value, id)} для сортировки по убыванию.
+     * Условие записывается как {@code sort_key >= value AND (sort_key > value OR id > lastId)},
+     * чтобы база данных могла начать сканирование индекса сразу с нужной позиции.
+     *
+     * @param property Свойство, по которому выполняется сортировка.
+     * @param value Значение ключа сортировки последнего элемента предыдущей страницы.
+     * @param lastId ID последнего элемента предыдущей страницы.
+     * @param direction Направление сортировки.
+     * @return Спецификация для выборки следующей страницы.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Task> seekAfter(String property, Comparable value, Long lastId, Sort.Direction direction) {
+        return (root, query, criteriaBuilder) -> {
+            Expression<Long> id = root.get("id");
+            if ("id".equals(property)) {
+                return beyond(criteriaBuilder, id, lastId, direction);
+            }
+
+            Expression<Comparable> key = root.get(property);
+            Predicate bound = direction.isAscending()
+                    ? criteriaBuilder.greaterThanOrEqualTo(key, value)
+                    : criteriaBuilder.lessThanOrEqualTo(key, value);
+            Predicate beyondKey = beyond(criteriaBuilder, key, value, direction);
+            Predicate sameKeyBeyondId = criteriaBuilder.and(
+                    criteriaBuilder.equal(key, value),
+                    beyond(criteriaBuilder, id, lastId, direction)
+            );
+            return criteriaBuilder.and(bound, criteriaBuilder.or(beyondKey, sameKeyBeyondId));
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder criteriaBuilder, Expression<? extends Y> path,
+                                                                   Y value, Sort.Direction direction) {
+        return direction.isAscending()
+                ? criteriaBuilder.greaterThan(path, value)
+                : criteriaBuilder.lessThan(path, value);
+    }
 }
@@ -0,0 +1,36 @@
+-- Полнотекстовый поиск по задачам и комментариям.
+-- Конфигурация russian применяет русский стеммер к кириллице и английский к латинице.
+-- Заголовок задачи имеет больший вес (A), чем описание (B) и текст комментария (C).
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector;
+ALTER TABLE comments ADD COLUMN search_vector tsvector;
+
+CREATE FUNCTION tasks_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('russian', coalesce(NEW.title, '')), 'A')
+        || setweight(to_tsvector('russian', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION comments_search_vector_update() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('russian', coalesce(NEW.text, '')), 'C');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+-- Вектор пересчитывается только при изменении индексируемых колонок
+CREATE TRIGGER tasks_search_vector_trigger
+    BEFORE INSERT OR UPDATE OF title, description ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_search_vector_update();
+
+CREATE TRIGGER comments_search_vector_trigger
+    BEFORE INSERT OR UPDATE OF text ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_search_vector_update();
+
+UPDATE tasks SET title = title;
+UPDATE comments SET text = text;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+CREATE INDEX idx_comments_search_vector ON comments USING GIN (search_vector);
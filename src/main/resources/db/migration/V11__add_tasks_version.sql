@@ -0,0 +1,2 @@
+-- Версия задачи для оптимистической блокировки и ETag: увеличивается Hibernate при каждом обновлении строки
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,27 @@
+-- Outbox изменений задач и комментариев: события пишутся в одной транзакции с изменением
+-- и удаляются ретранслятором после доставки.
+-- События одной сущности всегда попадают в одну секцию (partition_id), секции разбираются узлами
+-- независимо, поэтому порядок событий сущности сохраняется при нескольких экземплярах ретранслятора.
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload JSONB NOT NULL,
+    partition_id SMALLINT GENERATED ALWAYS AS ((aggregate_id % 16)::SMALLINT) STORED,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_events_partition_id ON outbox_events (partition_id, id);
+
+-- Строки постоянно вставляются и удаляются: очистка запускается по числу мертвых строк, а не по доле таблицы
+ALTER TABLE outbox_events SET (autovacuum_vacuum_scale_factor = 0, autovacuum_vacuum_threshold = 1000);
+
+-- Секции, которые узлы захватывают через FOR UPDATE SKIP LOCKED; relayed_at задает очередность обхода
+CREATE TABLE outbox_partitions (
+    partition_id SMALLINT PRIMARY KEY,
+    relayed_at TIMESTAMP
+);
+
+INSERT INTO outbox_partitions (partition_id) SELECT generate_series(0, 15);
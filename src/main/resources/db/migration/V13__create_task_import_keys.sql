@@ -0,0 +1,10 @@
+-- Внешние ключи задач, загруженных массовым импортом. По ним импортируемые комментарии
+-- ссылаются на задачи из системы, с которой переносятся данные.
+
+CREATE TABLE task_import_keys (
+    task_key VARCHAR(255) PRIMARY KEY,
+    task_id INT NOT NULL REFERENCES tasks (id) ON DELETE CASCADE
+);
+
+-- Удаление задачи каскадно удаляет ее ключ
+CREATE INDEX idx_task_import_keys_task_id ON task_import_keys (task_id);
@@ -0,0 +1,81 @@
+-- Количество задач по статусу, приоритету и исполнителю для статистики.
+-- Счетчики изменяются триггерами на tasks на разницу по строкам, измененным оператором, поэтому таблица задач
+-- не пересчитывается. Триггеры срабатывают для любых изменений tasks: через JPA, пакетных обновлений через JDBC,
+-- массового импорта и каскадного удаления пользователей.
+-- Счетчик каждой группы разбит на 16 полос (stripe): оператор изменяет полосу своего соединения, поэтому
+-- параллельные транзакции не ждут блокировки одной строки. Количество в группе равно сумме по полосам,
+-- значение отдельной полосы может быть отрицательным. Задачи без исполнителя учитываются с assignee_id = 0.
+
+CREATE TABLE task_stats (
+    status VARCHAR(50) NOT NULL,
+    priority VARCHAR(50) NOT NULL,
+    assignee_id INT NOT NULL,
+    stripe SMALLINT NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (status, priority, assignee_id, stripe)
+);
+
+INSERT INTO task_stats (status, priority, assignee_id, stripe, task_count)
+SELECT status, priority, coalesce(assignee_id, 0), 0, count(*)
+FROM tasks
+GROUP BY status, priority, coalesce(assignee_id, 0);
+
+-- Приращения суммируются по группам за весь оператор, при обновлении группы с нулевой разницей не изменяются,
+-- например при изменении заголовка. Строки счетчиков блокируются в порядке ключа, поэтому транзакции,
+-- попавшие в одну полосу, не образуют взаимоблокировок.
+CREATE FUNCTION task_stats_update() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO task_stats AS s (status, priority, assignee_id, stripe, task_count)
+        SELECT status, priority, coalesce(assignee_id, 0), pg_backend_pid() % 16, count(*)
+        FROM new_tasks
+        GROUP BY status, priority, coalesce(assignee_id, 0)
+        ORDER BY 1, 2, 3
+        ON CONFLICT (status, priority, assignee_id, stripe) DO UPDATE SET task_count = s.task_count + EXCLUDED.task_count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO task_stats AS s (status, priority, assignee_id, stripe, task_count)
+        SELECT status, priority, coalesce(assignee_id, 0), pg_backend_pid() % 16, -count(*)
+        FROM old_tasks
+        GROUP BY status, priority, coalesce(assignee_id, 0)
+        ORDER BY 1, 2, 3
+        ON CONFLICT (status, priority, assignee_id, stripe) DO UPDATE SET task_count = s.task_count + EXCLUDED.task_count;
+    ELSE
+        INSERT INTO task_stats AS s (status, priority, assignee_id, stripe, task_count)
+        SELECT d.status, d.priority, d.assignee_id, pg_backend_pid() % 16, sum(d.delta)
+        FROM (
+            SELECT status, priority, coalesce(assignee_id, 0) AS assignee_id, 1 AS delta FROM new_tasks
+            UNION ALL
+            SELECT status, priority, coalesce(assignee_id, 0), -1 FROM old_tasks
+        ) d
+        GROUP BY d.status, d.priority, d.assignee_id
+        HAVING sum(d.delta) <> 0
+        ORDER BY 1, 2, 3
+        ON CONFLICT (status, priority, assignee_id, stripe) DO UPDATE SET task_count = s.task_count + EXCLUDED.task_count;
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION task_stats_reset() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM task_stats;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+-- Таблицы переходов допускаются только в триггерах на одно событие
+CREATE TRIGGER task_stats_insert_trigger
+    AFTER INSERT ON tasks REFERENCING NEW TABLE AS new_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION task_stats_update();
+
+CREATE TRIGGER task_stats_update_trigger
+    AFTER UPDATE ON tasks REFERENCING OLD TABLE AS old_tasks NEW TABLE AS new_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION task_stats_update();
+
+CREATE TRIGGER task_stats_delete_trigger
+    AFTER DELETE ON tasks REFERENCING OLD TABLE AS old_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION task_stats_update();
+
+CREATE TRIGGER task_stats_truncate_trigger
+    AFTER TRUNCATE ON tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION task_stats_reset();
@@ -0,0 +1,6 @@
+-- Задачи выбираются курсором в порядке (created_at, id) и (updated_at, id), поэтому оба времени обязательны:
+-- условие keyset-пагинации и индексы idx_tasks_created_at и idx_tasks_updated_at не учитывают NULL
+UPDATE tasks SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+UPDATE tasks SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE tasks ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN updated_at SET NOT NULL;
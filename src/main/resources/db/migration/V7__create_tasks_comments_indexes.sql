@@ -0,0 +1,19 @@
+-- Фильтр по автору (TaskSpecification, выборка задач текущего пользователя) с сортировкой по id
+CREATE INDEX idx_tasks_author_id ON tasks (author_id, id);
+
+-- Фильтр по исполнителю; задачи без исполнителя в индекс не попадают
+CREATE INDEX idx_tasks_assignee_id ON tasks (assignee_id, id) WHERE assignee_id IS NOT NULL;
+
+-- Фильтры по статусу и по статусу с приоритетом
+CREATE INDEX idx_tasks_status_priority ON tasks (status, priority, id);
+
+-- Фильтр только по приоритету
+CREATE INDEX idx_tasks_priority ON tasks (priority, id);
+
+-- Курсорная пагинация по датам создания и изменения
+CREATE INDEX idx_tasks_created_at ON tasks (created_at, id);
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at, id);
+
+-- Комментарии задачи и каскадное удаление комментариев вместе с задачей или пользователем
+CREATE INDEX idx_comments_task_id ON comments (task_id, id);
+CREATE INDEX idx_comments_user_id ON comments (user_id);
@@ -0,0 +1,3 @@
+-- Идентификаторы задач выдаются блоками по 50 значений (allocationSize в сущности Task),
+-- чтобы Hibernate мог группировать INSERT в JDBC-пакеты без обращения к последовательности на каждую строку.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
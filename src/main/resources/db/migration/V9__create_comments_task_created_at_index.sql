@@ -0,0 +1,7 @@
+-- Комментарии задачи выбираются страницами в порядке (created_at, id), поэтому время создания обязательно
+UPDATE comments SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE comments ALTER COLUMN created_at SET NOT NULL;
+
+-- Индекс для keyset-пагинации комментариев задачи в обоих направлениях; заменяет индекс (task_id, id)
+CREATE INDEX idx_comments_task_created_at ON comments (task_id, created_at, id);
+DROP INDEX idx_comments_task_id;
@@ -0,0 +1,93 @@
+package io.chekarev.taskManagementSystem.aspects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Гистограмма времени выполнения")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("[percentileNanos] Пустая гистограмма возвращает 0")
+    void shouldReturnZeroForEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.percentileNanos(0.5));
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    @DisplayName("[percentileNanos] Верхняя граница корзины включается в корзину, следующее значение попадает в следующую")
+    void shouldPlaceBucketUpperBoundIntoSameBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_024);
+        histogram.record(10_000);
+
+        assertEquals(1_024, histogram.percentileNanos(0.5));
+
+        histogram.reset();
+        histogram.record(1_025);
+        histogram.record(10_000);
+
+        assertEquals(2_048, histogram.percentileNanos(0.5));
+    }
+
+    @Test
+    @DisplayName("[percentileNanos] Значения меньше 1 мкс попадают в первую корзину, оценка не превышает максимум")
+    void shouldClampSmallValuesAndEstimateByMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(5);
+        histogram.record(700);
+
+        assertEquals(700, histogram.percentileNanos(0.5));
+        assertEquals(700, histogram.percentileNanos(1.0));
+        assertEquals(705, histogram.getTotalNanos());
+    }
+
+    @Test
+    @DisplayName("[percentileNanos] Перцентили вычисляются по рангу в порядке корзин")
+    void shouldEstimatePercentilesByRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 95; i++) {
+            histogram.record(1_000);
+        }
+        for (int i = 0; i < 4; i++) {
+            histogram.record(100_000);
+        }
+        histogram.record(3_000_000);
+
+        assertEquals(1_024, histogram.percentileNanos(0.50));
+        assertEquals(1_024, histogram.percentileNanos(0.95));
+        assertEquals(131_072, histogram.percentileNanos(0.99));
+        assertEquals(3_000_000, histogram.percentileNanos(1.0));
+        assertEquals(100, histogram.getCount());
+    }
+
+    @Test
+    @DisplayName("[percentileNanos] Значения сверх последней корзины оцениваются максимумом")
+    void shouldKeepValuesBeyondLastBucketInLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L << 40);
+
+        assertEquals(1L << 37, histogram.percentileNanos(0.5));
+        assertEquals(1L << 40, histogram.getMaxNanos());
+    }
+
+    @Test
+    @DisplayName("[reset] Сброс обнуляет корзины, количество, сумму и максимум")
+    void shouldResetAllCounters() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(50_000);
+
+        histogram.reset();
+        histogram.record(2_000);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(2_000, histogram.getTotalNanos());
+        assertEquals(2_000, histogram.getMaxNanos());
+        assertEquals(2_000, histogram.percentileNanos(0.99));
+    }
+}
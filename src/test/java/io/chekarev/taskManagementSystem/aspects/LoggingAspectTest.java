@@ -0,0 +1,147 @@
+package io.chekarev.taskManagementSystem.aspects;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Аспект логирования и замера времени")
+class LoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    private LoggingAspectProperties properties;
+    private MethodLatencyRegistry registry;
+    private LoggingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+
+        properties = new LoggingAspectProperties();
+        registry = new MethodLatencyRegistry();
+        aspect = new LoggingAspect(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("[logAround] В режиме SUMMARY логируются только тип и размер аргументов и результата")
+    void shouldLogSummaryInSummaryMode() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(new Object[]{new ArrayList<>(List.of("secret", "token")), 7L},
+                new ArrayList<>(List.of("a", "b", "c")));
+
+        aspect.logServices(joinPoint);
+
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("Target.call"));
+        assertTrue(message.contains("arguments: [ArrayList(size=2), Long]"));
+        assertTrue(message.contains("returned: ArrayList(size=3)"));
+        assertFalse(message.contains("secret"));
+        assertEquals(1, stats().getHistogram().getCount());
+    }
+
+    @Test
+    @DisplayName("[logAround] В режиме FULL аргументы и результат логируются целиком до и после вызова")
+    void shouldLogArgumentsAndResultInFullMode() throws Throwable {
+        properties.setMode(LoggingAspectProperties.Mode.FULL);
+        ProceedingJoinPoint joinPoint = joinPoint(new Object[]{"value"}, "result");
+
+        aspect.logControllers(joinPoint);
+
+        assertEquals(2, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("arguments: [value]"));
+        assertTrue(appender.list.get(1).getFormattedMessage().contains("returned: result"));
+    }
+
+    @Test
+    @DisplayName("[logAround] В режиме OFF вызовы не логируются, но время выполнения записывается")
+    void shouldOnlyRecordLatencyInOffMode() throws Throwable {
+        properties.setMode(LoggingAspectProperties.Mode.OFF);
+        ProceedingJoinPoint joinPoint = joinPoint(new Object[0], "result");
+
+        aspect.logRepositories(joinPoint);
+        aspect.logRepositories(joinPoint);
+
+        assertTrue(appender.list.isEmpty());
+        assertEquals(2, stats().getHistogram().getCount());
+    }
+
+    @Test
+    @DisplayName("[logAround] Доля логируемых вызовов задается для каждого слоя, время записывается для всех вызовов")
+    void shouldSampleLogsPerLayer() throws Throwable {
+        properties.getSamplingRate().setRepositories(0.0);
+        ProceedingJoinPoint joinPoint = joinPoint(new Object[0], "result");
+
+        for (int i = 0; i < 10; i++) {
+            aspect.logRepositories(joinPoint);
+        }
+        assertTrue(appender.list.isEmpty());
+        assertEquals(10, stats().getHistogram().getCount());
+
+        aspect.logServices(joinPoint);
+        assertEquals(1, appender.list.size());
+    }
+
+    @Test
+    @DisplayName("[logAround] Исключение метода логируется, записывается в гистограмму и пробрасывается дальше")
+    void shouldRecordAndRethrowException() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint(new Object[0], null);
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> aspect.logServices(joinPoint)));
+
+        assertEquals(Level.ERROR, appender.list.get(0).getLevel());
+        assertEquals(1, stats().getHistogram().getCount());
+    }
+
+    private ProceedingJoinPoint joinPoint(Object[] args, Object result) throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(Target.class.getMethod("call"));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(new Target());
+        when(joinPoint.getArgs()).thenReturn(args);
+        when(joinPoint.proceed()).thenReturn(result);
+        return joinPoint;
+    }
+
+    private MethodLatencyRegistry.MethodStats stats() throws NoSuchMethodException {
+        return registry.stats(MethodLatencyRegistry.Layer.SERVICES, Target.class, Target.class.getMethod("call"));
+    }
+
+    public static class Target {
+        public Object call() {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.chekarev.taskManagementSystem.auth;
 
 import io.chekarev.taskManagementSystem.services.impl.UserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -17,7 +20,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
+import java.time.Duration;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +35,12 @@ public class JwtAuthenticationFilterTest {
     @Mock
     private UserDetailsService userDetailsService;
 
+    @Spy
+    private UserPrincipalCache principalCache = new UserPrincipalCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -42,6 +53,7 @@ public class JwtAuthenticationFilterTest {
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         filterChain = mock(FilterChain.class);
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -100,4 +112,66 @@ public class JwtAuthenticationFilterTest {
 
         assert SecurityContextHolder.getContext().getAuthentication() == null;
     }
+
+    @Test
+    @DisplayName("[doFilterInternal] Должен брать пользователя из кэша при повторном запросе с тем же email")
+    void shouldLoadUserFromCacheOnRepeatedRequest() throws ServletException, IOException {
+        String validToken = "validToken";
+        String email = "cached@example.com";
+        UserDetails userDetails = mock(UserDetails.class);
+
+        request.addHeader("Authorization", "Bearer " + validToken);
+        when(jwtUtil.verifyAndGetEmail(validToken)).thenReturn(email);
+        when(userDetailsService.loadUserByUsername(email)).thenReturn(userDetails);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(userDetailsService, times(1)).loadUserByUsername(email);
+        assertEquals(1, principalCache.getHitCount());
+        assertEquals(1, principalCache.getMissCount());
+        assert SecurityContextHolder.getContext().getAuthentication().getPrincipal() == userDetails;
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Должен повторно загрузить пользователя после удаления из кэша")
+    void shouldReloadUserAfterEviction() throws ServletException, IOException {
+        String validToken = "validToken";
+        String email = "evicted@example.com";
+        UserDetails userDetails = mock(UserDetails.class);
+
+        request.addHeader("Authorization", "Bearer " + validToken);
+        when(jwtUtil.verifyAndGetEmail(validToken)).thenReturn(email);
+        when(userDetailsService.loadUserByUsername(email)).thenReturn(userDetails);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        principalCache.evict(email);
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        verify(userDetailsService, times(2)).loadUserByUsername(email);
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Должен записывать время проверки токена в таймер по результату проверки")
+    void shouldRecordVerificationTimings() throws ServletException, IOException {
+        String email = "timed@example.com";
+        UserDetails userDetails = mock(UserDetails.class);
+
+        when(jwtUtil.verifyAndGetEmail("validToken")).thenReturn(email);
+        when(jwtUtil.verifyAndGetEmail("brokenToken")).thenThrow(new RuntimeException("Invalid JWT signature"));
+        when(userDetailsService.loadUserByUsername(email)).thenReturn(userDetails);
+
+        request.addHeader("Authorization", "Bearer validToken");
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        MockHttpServletRequest brokenRequest = new MockHttpServletRequest();
+        brokenRequest.addHeader("Authorization", "Bearer brokenToken");
+        jwtAuthenticationFilter.doFilterInternal(brokenRequest, response, filterChain);
+
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("outcome", "failure").timer().count());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
 }
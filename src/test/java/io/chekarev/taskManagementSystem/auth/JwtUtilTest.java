@@ -1,19 +1,30 @@
 package io.chekarev.taskManagementSystem.auth;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.SignedJWT;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 //@TestPropertySource(value = "classpath:application.yml", factory = YamlPropertySourceFactory.class)
@@ -53,6 +64,58 @@ public class JwtUtilTest {
         assertThat(resultEmail).isEqualTo(email);
     }
 
+    @Test
+    @DisplayName("[verifyAndGetEmail] Повторная верификация того же токена должна вернуть email из кэша")
+    public void shouldReturnEmailForRepeatedVerification() throws JOSEException {
+        MACVerifier countingVerifier = Mockito.spy(new MACVerifier(SECRET.getBytes()));
+        JwtUtil cachedJwtUtil = new JwtUtil(SECRET, EXPIRATION_TIME, 100, countingVerifier, Clock.systemUTC());
+        String email = "test@example.com";
+        String token = cachedJwtUtil.generate(email);
+
+        assertThat(cachedJwtUtil.verifyAndGetEmail(token)).isEqualTo(email);
+        assertThat(cachedJwtUtil.verifyAndGetEmail(token)).isEqualTo(email);
+
+        // Подпись проверяется только при первой верификации, вторая обслуживается из кэша
+        verify(countingVerifier, times(1)).verify(any(JWSHeader.class), any(byte[].class), any(Base64URL.class));
+    }
+
+    @Test
+    @DisplayName("[verifyAndGetEmail] Токен с неверной подписью не должен кэшироваться")
+    public void shouldRejectTamperedTokenEveryTime() throws JOSEException {
+        String foreignToken = new JwtUtil("AnotherSecretKeyThatIsAtLeast32CharactersLong", EXPIRATION_TIME)
+                .generate("test@example.com");
+
+        assertThatThrownBy(() -> jwtUtil.verifyAndGetEmail(foreignToken)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> jwtUtil.verifyAndGetEmail(foreignToken)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("[verifyAndGetEmail] Кэшированный токен должен отклоняться после истечения срока действия")
+    public void shouldRejectCachedTokenAfterExpiration() throws JOSEException {
+        Instant issuedAt = Instant.parse("2024-01-01T10:00:00Z");
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(issuedAt);
+        MACVerifier countingVerifier = Mockito.spy(new MACVerifier(SECRET.getBytes()));
+        JwtUtil cachedJwtUtil = new JwtUtil(SECRET, EXPIRATION_TIME, 100, countingVerifier, clock);
+        String token = cachedJwtUtil.generate("test@example.com");
+        assertThat(cachedJwtUtil.verifyAndGetEmail(token)).isEqualTo("test@example.com");
+
+        // Запись о токене еще в кэше (Caffeine живет по реальному времени), но срок действия токена уже истек
+        when(clock.instant()).thenReturn(issuedAt.plusMillis(EXPIRATION_TIME + 1000));
+
+        assertThatThrownBy(() -> cachedJwtUtil.verifyAndGetEmail(token)).isInstanceOf(RuntimeException.class);
+        verify(countingVerifier, times(2)).verify(any(JWSHeader.class), any(byte[].class), any(Base64URL.class));
+    }
+
+    @Test
+    @DisplayName("[verifyAndGetEmail] Верификация без кэша должна вернуть email для корректного токена")
+    public void shouldVerifyWithCacheDisabled() throws JOSEException {
+        JwtUtil uncachedJwtUtil = new JwtUtil(SECRET, EXPIRATION_TIME, 0);
+        String token = uncachedJwtUtil.generate("test@example.com");
+
+        assertThat(uncachedJwtUtil.verifyAndGetEmail(token)).isEqualTo("test@example.com");
+    }
+
     @Test
     @DisplayName("[verifyAndGetUserId] Верификация должна вернуть null для истекшего токена")
     public String verifyAndGetEmail(String token) {
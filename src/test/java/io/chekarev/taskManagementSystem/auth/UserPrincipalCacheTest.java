@@ -0,0 +1,70 @@
+package io.chekarev.taskManagementSystem.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Кэш пользователей, аутентифицированных по JWT")
+class UserPrincipalCacheTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private UserPrincipalCache principalCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new UserPrincipalCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("[get] Загруженный пользователь сохраняется в кэш")
+    void shouldCacheLoadedUser() {
+        UserDetails first = principalCache.get(EMAIL, this::load);
+        UserDetails second = principalCache.get(EMAIL, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("[get] Пользователь, удаленный из кэша во время загрузки, не сохраняется")
+    void shouldNotCacheUserEvictedDuringLoad() {
+        // Пользователя изменили, пока шла загрузка: загруженные данные могут быть старше изменения
+        UserDetails stale = principalCache.get(EMAIL, email -> {
+            UserDetails loaded = load(email);
+            principalCache.evict(email);
+            return loaded;
+        });
+        UserDetails reloaded = principalCache.get(EMAIL, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals("password-1", stale.getPassword());
+        assertEquals("password-2", reloaded.getPassword());
+        assertSame(reloaded, principalCache.get(EMAIL, this::load));
+    }
+
+    @Test
+    @DisplayName("[evict] После удаления пользователь загружается повторно")
+    void shouldReloadUserAfterEviction() {
+        principalCache.get(EMAIL, this::load);
+        principalCache.evict(EMAIL);
+        principalCache.get(EMAIL, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private UserDetails load(String email) {
+        return new User(email, "password-" + loads.incrementAndGet(), List.of());
+    }
+}
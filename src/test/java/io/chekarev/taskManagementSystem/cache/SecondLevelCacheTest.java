@@ -0,0 +1,162 @@
+package io.chekarev.taskManagementSystem.cache;
+
+import io.chekarev.taskManagementSystem.config.SecondLevelCacheConfig;
+import io.chekarev.taskManagementSystem.domain.dto.CacheRegionStatsDTO;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import io.chekarev.taskManagementSystem.domain.entities.User;
+import io.chekarev.taskManagementSystem.domain.mappers.CommentMapperImpl;
+import io.chekarev.taskManagementSystem.domain.mappers.TaskMapperImpl;
+import io.chekarev.taskManagementSystem.models.Role;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.repositories.TaskRepository;
+import io.chekarev.taskManagementSystem.repositories.UserRepository;
+import io.chekarev.taskManagementSystem.services.impl.CommentServiceImpl;
+import io.chekarev.taskManagementSystem.services.impl.TaskServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Проверка кэша второго уровня на встроенной базе H2.
+ * <p>
+ * Hibernate не кладет в кэш сущности, созданные в текущей транзакции, а кэш запросов не используется,
+ * пока таблица изменена незавершенной транзакцией. Поэтому тест работает без общей транзакции:
+ * данные сохраняются и удаляются отдельными транзакциями, а каждый вызов репозитория выполняется в своей сессии.
+ * Конфигурация контекста совпадает с {@code ServiceStatementCountTest}: менеджер кэша JCache с фиксированным URI
+ * один на JVM, и второй контекст теста не смог бы создать в нем те же регионы.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({TaskServiceImpl.class, CommentServiceImpl.class, TaskMapperImpl.class, CommentMapperImpl.class,
+        SecondLevelCacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Кэш второго уровня")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SecondLevelCacheStatistics cacheStatistics;
+
+    private User user;
+    private Task task;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            user = new User();
+            user.setEmail("cached@example.com");
+            user.setPassword("password");
+            user.setName("Cached User");
+            user.setRole(Role.USER);
+            user = userRepository.save(user);
+
+            task = new Task();
+            task.setTitle("Cached task");
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.HIGH);
+            task.setAuthor(user);
+            task = taskRepository.save(task);
+        });
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        cacheStatistics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("[getTaskById] Повторное чтение задачи обслуживается регионом tasks без запроса")
+    void getTaskByIdFromEntityRegion() {
+        taskService.getTaskById(task.getId());
+        taskService.getTaskById(task.getId());
+
+        assertStatements(1);
+        assertEquals(1, region("tasks").getHitCount());
+        assertEquals(1, region("tasks").getPutCount());
+    }
+
+    @Test
+    @DisplayName("[getTaskById] После изменения задачи повторное чтение возвращает новые данные")
+    void getTaskByIdAfterUpdate() {
+        taskService.getTaskById(task.getId());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                taskRepository.findById(task.getId()).orElseThrow().setTitle("Updated"));
+
+        assertEquals("Updated", taskService.getTaskById(task.getId()).getTitle());
+    }
+
+    @Test
+    @DisplayName("[findByEmail] Повторный поиск пользователя по email обслуживается кэшем запросов без запроса")
+    void findByEmailFromQueryCache() {
+        userRepository.findByEmail(user.getEmail());
+        userRepository.findByEmail(user.getEmail());
+
+        assertStatements(1);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("[findByEmail] Изменение таблицы users сбрасывает результаты кэша запросов")
+    void findByEmailAfterUsersUpdate() {
+        userRepository.findByEmail(user.getEmail());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setName("Renamed"));
+        statistics.clear();
+
+        assertEquals("Renamed", userRepository.findByEmail(user.getEmail()).orElseThrow().getName());
+        assertStatements(1);
+    }
+
+    private CacheRegionStatsDTO region(String name) {
+        return cacheStatistics.snapshot().stream()
+                .filter(region -> region.getRegion().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void assertStatements(long expected) {
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Unexpected number of SQL statements, queries: " + List.of(statistics.getQueries()));
+    }
+}
@@ -0,0 +1,65 @@
+package io.chekarev.taskManagementSystem.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Ограничение одновременных запросов")
+class RequestConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RequestConcurrencyProperties properties = new RequestConcurrencyProperties();
+        properties.setMaxConcurrentRequests(1);
+        properties.setAcquireTimeout(Duration.ZERO);
+        properties.setRetryAfterSeconds(2);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestConcurrencyLimitFilter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Запрос обрабатывается, место освобождается после обработки")
+    void shouldProcessRequestAndReleasePermit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) ->
+                assertEquals(1.0, meterRegistry.get("requests.concurrency.active").gauge().value());
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0.0, meterRegistry.get("requests.concurrency.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Запрос сверх ограничения отклоняется с кодом 503 и заголовком Retry-After")
+    void shouldRejectRequestOverLimit() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        FilterChain rejectedChain = mock(FilterChain.class);
+        FilterChain chain = (req, res) -> filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"), rejected,
+                rejectedChain);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks"), new MockHttpServletResponse(), chain);
+
+        verify(rejectedChain, never()).doFilter(any(), any());
+        assertEquals(503, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("requests.concurrency.rejected").counter().count());
+        assertEquals(0.0, meterRegistry.get("requests.concurrency.active").gauge().value());
+    }
+}
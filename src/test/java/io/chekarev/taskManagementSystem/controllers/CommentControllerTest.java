@@ -1,6 +1,7 @@
 package io.chekarev.taskManagementSystem.controllers;
 
 import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
 import io.chekarev.taskManagementSystem.services.CommentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -21,6 +23,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -45,12 +49,28 @@ class CommentControllerTest {
     @Test
     @DisplayName("Получение комментариев по ID задачи для администратора")
     void shouldGetCommentsByTaskIdAdmin() throws Exception {
-        Mockito.when(commentService.getCommentsByTaskId(1L))
-                .thenReturn(Collections.singletonList(new CommentDTO()));
+        Mockito.when(commentService.getCommentsByTaskId(eq(1L), isNull(), eq(20), eq(Sort.Direction.DESC)))
+                .thenReturn(new CursorPage<>(Collections.singletonList(new CommentDTO()), 1, false, null));
 
         mockMvc.perform(get("/comments/admin/task/1"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Получение следующей страницы комментариев задачи по курсору")
+    void shouldGetCommentsByTaskIdWithCursor() throws Exception {
+        Mockito.when(commentService.getCommentsByTaskId(1L, "abc", 2, Sort.Direction.ASC))
+                .thenReturn(new CursorPage<>(Collections.singletonList(new CommentDTO()), 1, true, "next"));
+
+        mockMvc.perform(get("/comments/task/1")
+                        .param("cursor", "abc")
+                        .param("size", "2")
+                        .param("direction", "ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
     }
 
     @Test
@@ -0,0 +1,85 @@
+package io.chekarev.taskManagementSystem.controllers;
+
+import io.chekarev.taskManagementSystem.domain.dto.ImportJobDTO;
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportFormat;
+import io.chekarev.taskManagementSystem.imports.ImportJob;
+import io.chekarev.taskManagementSystem.services.ImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ImportService importService;
+
+    @InjectMocks
+    private ImportController importController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(importController).build();
+    }
+
+    @Test
+    @DisplayName("Успешный импорт задач из CSV, сжатого gzip")
+    void shouldImportGzippedTasksSuccess() throws Exception {
+        String csv = "title,status,priority,authorEmail\nFirst,PENDING,HIGH,user1@example.com\n";
+        when(importService.importRecords(eq(ImportEntity.TASKS), eq(ImportFormat.CSV), any())).thenAnswer(invocation -> {
+            assertEquals(csv, new String(invocation.<InputStream>getArgument(2).readAllBytes(), StandardCharsets.UTF_8));
+            return job(ImportEntity.TASKS, ImportFormat.CSV);
+        });
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(body)) {
+            gzip.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+
+        mockMvc.perform(post("/imports/admin/tasks")
+                        .param("format", "CSV")
+                        .header("Content-Encoding", "gzip")
+                        .content(body.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.phase").value("COMPLETED"))
+                .andExpect(jsonPath("$.recordsImported").value(1));
+    }
+
+    @Test
+    @DisplayName("Получение состояния неизвестного импорта возвращает 404")
+    void shouldReturnNotFoundForUnknownImport() throws Exception {
+        when(importService.getImport("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/imports/admin/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ImportJobDTO job(ImportEntity entity, ImportFormat format) {
+        return new ImportJobDTO("job-1", entity, format, ImportJob.Phase.COMPLETED, 1, 0, 1, 100.0,
+                LocalDateTime.now(), LocalDateTime.now(), null);
+    }
+}
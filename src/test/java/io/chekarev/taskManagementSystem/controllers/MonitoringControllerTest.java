@@ -0,0 +1,79 @@
+package io.chekarev.taskManagementSystem.controllers;
+
+import io.chekarev.taskManagementSystem.aspects.MethodLatencyRegistry;
+import io.chekarev.taskManagementSystem.cache.SecondLevelCacheStatistics;
+import io.chekarev.taskManagementSystem.domain.dto.CacheRegionStatsDTO;
+import io.chekarev.taskManagementSystem.domain.dto.MethodLatencyDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonitoringControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private MethodLatencyRegistry methodLatencyRegistry;
+
+    @Mock
+    private SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    @InjectMocks
+    private MonitoringController monitoringController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(monitoringController).build();
+    }
+
+    @Test
+    @DisplayName("Успешное получение статистики времени выполнения методов")
+    void shouldGetMethodLatenciesSuccess() throws Exception {
+        when(methodLatencyRegistry.snapshot()).thenReturn(List.of(
+                new MethodLatencyDTO("TaskServiceImpl.getTaskById", "SERVICES", 10, 120.5, 64.0, 256.0, 512.0, 480.0)));
+
+        mockMvc.perform(get("/monitoring/admin/latency"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].method").value("TaskServiceImpl.getTaskById"))
+                .andExpect(jsonPath("$[0].count").value(10));
+    }
+
+    @Test
+    @DisplayName("Успешный сброс статистики времени выполнения методов")
+    void shouldResetMethodLatenciesSuccess() throws Exception {
+        mockMvc.perform(delete("/monitoring/admin/latency"))
+                .andExpect(status().isNoContent());
+
+        verify(methodLatencyRegistry).reset();
+    }
+
+    @Test
+    @DisplayName("Успешное получение статистики регионов кэша второго уровня")
+    void shouldGetCacheStatisticsSuccess() throws Exception {
+        when(secondLevelCacheStatistics.snapshot()).thenReturn(List.of(
+                new CacheRegionStatsDTO("tasks", 120, 900, 100, 90.0f, 130, 10, 2)));
+
+        mockMvc.perform(get("/monitoring/admin/cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].region").value("tasks"))
+                .andExpect(jsonPath("$[0].hitCount").value(900))
+                .andExpect(jsonPath("$[0].evictionCount").value(10));
+    }
+}
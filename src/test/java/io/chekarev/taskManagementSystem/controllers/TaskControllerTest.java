@@ -1,6 +1,21 @@
 package io.chekarev.taskManagementSystem.controllers;
 
+import io.chekarev.taskManagementSystem.config.handlers.RestExceptionHandler;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.domain.dto.TaskBulkResultDTO;
 import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskPatchDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
+import io.chekarev.taskManagementSystem.events.TaskStreamBroadcaster;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import io.chekarev.taskManagementSystem.exceptions.TaskVersionConflictException;
+import io.chekarev.taskManagementSystem.export.TaskExportFormat;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.pagination.CountMode;
+import io.chekarev.taskManagementSystem.pagination.EstimatedPage;
+import io.chekarev.taskManagementSystem.services.TaskExportService;
 import io.chekarev.taskManagementSystem.services.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,15 +29,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,14 +66,21 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskStreamBroadcaster taskStreamBroadcaster;
+
+    @Mock
+    private TaskExportService taskExportService;
+
     @InjectMocks
     private TaskController taskController;
 
     @BeforeEach
     void setUp() {
         HandlerMethodArgumentResolver pageableResolver = new PageableHandlerMethodArgumentResolver();
-        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService))
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, taskStreamBroadcaster, taskExportService))
                 .setCustomArgumentResolvers(pageableResolver)
+                .setControllerAdvice(new RestExceptionHandler())
                 .build();
     }
 
@@ -50,7 +88,7 @@ class TaskControllerTest {
     @DisplayName("Получение всех задач с фильтрацией и пагинацией для администратора - задачи найдены")
     void shouldGetAllTasks() throws Exception {
         Page<TaskDTO> tasks = new PageImpl<>(Collections.singletonList(new TaskDTO()), PageRequest.of(0, 10), 1);
-        when(taskService.getAllTasks(any(Pageable.class), any(), any(), any(), any()))
+        when(taskService.getAllTasks(any(Pageable.class), any(), any(), any(), any(), any()))
                 .thenReturn(tasks);
 
         mockMvc.perform(get("/tasks/admin")
@@ -65,7 +103,7 @@ class TaskControllerTest {
     @DisplayName("Получение всех задач с фильтрацией и пагинацией для администратора - задачи не найдены")
     void shouldGetAllTasksEmpty() throws Exception {
         Page<TaskDTO> tasks = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
-        when(taskService.getAllTasks(any(Pageable.class), any(), any(), any(), any()))
+        when(taskService.getAllTasks(any(Pageable.class), any(), any(), any(), any(), any()))
                 .thenReturn(tasks);
 
         mockMvc.perform(get("/tasks/admin")
@@ -76,6 +114,87 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.content").isEmpty());
     }
 
+    @Test
+    @DisplayName("Получение всех задач без подсчета количества - возвращается срез и режим подсчета в заголовке")
+    void shouldGetAllTasksWithoutCount() throws Exception {
+        when(taskService.getAllTasks(any(Pageable.class), eq(CountMode.NONE), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(new TaskDTO()), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get("/tasks/admin")
+                        .param("page", "0")
+                        .param("size", "1")
+                        .param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count-Mode", "none"))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Получение всех задач с приблизительным количеством - возвращается оценка и режим подсчета в заголовке")
+    void shouldGetAllTasksWithApproximateCount() throws Exception {
+        when(taskService.getAllTasks(any(Pageable.class), eq(CountMode.APPROXIMATE), any(), any(), any(), any()))
+                .thenReturn(new EstimatedPage<>(Collections.singletonList(new TaskDTO()), PageRequest.of(0, 1), 250_000));
+
+        mockMvc.perform(get("/tasks/admin")
+                        .param("page", "0")
+                        .param("size", "1")
+                        .param("count", "APPROXIMATE"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count-Mode", "approximate"))
+                .andExpect(jsonPath("$.totalElements").value(250_000))
+                .andExpect(jsonPath("$.totalEstimated").value(true));
+    }
+
+    @Test
+    @DisplayName("Полнотекстовый поиск задач для администратора - возвращаются фрагменты и курсор следующей страницы")
+    void shouldSearchTasks() throws Exception {
+        TaskSearchResultDTO result = new TaskSearchResultDTO(new TaskDTO(), 0.5f, "<mark>Отчет</mark> по задаче");
+        CursorPage<TaskSearchResultDTO> page = new CursorPage<>(Collections.singletonList(result), 1, true, "next");
+        when(taskService.searchTasks(eq("отчет"), isNull(), eq(1), eq("PENDING"), isNull(), isNull(), isNull()))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/tasks/admin/search")
+                        .param("q", "отчет")
+                        .param("size", "1")
+                        .param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].headline").value("<mark>Отчет</mark> по задаче"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("Получение задач с курсорной пагинацией для администратора - возвращается курсор следующей страницы")
+    void shouldGetAllTasksByCursor() throws Exception {
+        CursorPage<TaskDTO> page = new CursorPage<>(Collections.singletonList(new TaskDTO()), 1, true, "next");
+        when(taskService.getAllTasksByCursor(eq("abc"), eq(1), eq("createdAt"), eq(Sort.Direction.DESC),
+                eq("PENDING"), isNull(), isNull(), isNull()))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/tasks/admin/cursor")
+                        .param("cursor", "abc")
+                        .param("size", "1")
+                        .param("sort", "createdAt")
+                        .param("direction", "DESC")
+                        .param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Получение задач с курсорной пагинацией для администратора - неверный курсор, ответ 400")
+    void shouldRejectInvalidCursor() throws Exception {
+        when(taskService.getAllTasksByCursor(eq("abc"), eq(20), eq("id"), eq(Sort.Direction.ASC),
+                isNull(), isNull(), isNull(), isNull()))
+                .thenThrow(new InvalidCursorException("Invalid cursor format: abc"));
+
+        mockMvc.perform(get("/tasks/admin/cursor").param("cursor", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"))
+                .andExpect(jsonPath("$.message").value("Invalid cursor format: abc"));
+    }
+
     @Test
     @DisplayName("Создание новой задачи (админ) - успешное создание")
     void shouldCreateTask() throws Exception {
@@ -89,6 +208,22 @@ class TaskControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    @DisplayName("Пакетное создание и обновление задач (админ) - возвращается результат по каждой задаче")
+    void shouldSaveTasksInBulk() throws Exception {
+        when(taskService.saveTasksInBulk(anyList())).thenReturn(List.of(
+                new TaskBulkResultDTO(0, 51L, TaskBulkResultDTO.Status.CREATED, null),
+                new TaskBulkResultDTO(1, 99L, TaskBulkResultDTO.Status.NOT_FOUND, "Task not found with id: 99")));
+
+        mockMvc.perform(post("/tasks/admin/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\": \"New Task\"}, {\"id\": 99, \"title\": \"Missing\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").value(51))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+    }
+
     @Test
     @DisplayName("Удаление задачи по ID (админ) - успешное удаление")
     void shouldDeleteTask() throws Exception {
@@ -100,11 +235,179 @@ class TaskControllerTest {
     @DisplayName("Получение задачи по ID (админ) - задача найдена")
     void shouldGetTaskById() throws Exception {
         TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setVersion(3L);
+        when(taskService.getTaskVersion(1L)).thenReturn(new TaskVersionDTO(3L, LocalDateTime.of(2024, 11, 5, 10, 15)));
         when(taskService.getTaskById(1L)).thenReturn(taskDTO);
 
         mockMvc.perform(get("/tasks/admin/1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи (админ) - версия совпадает")
+    void shouldPatchTask() throws Exception {
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setVersion(4L);
+        when(taskService.patchTask(1L, 3L, new TaskPatchDTO(null, null, TaskStatus.COMPLETED, null))).thenReturn(taskDTO);
+
+        mockMvc.perform(patch("/tasks/admin/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи текущего пользователя - конфликт версий")
+    void shouldReturnConflictForStaleVersion() throws Exception {
+        when(taskService.patchTask(1L, 3L, new TaskPatchDTO(null, null, TaskStatus.COMPLETED, null)))
+                .thenThrow(new TaskVersionConflictException("Task 1 has version 4, expected 3"));
+
+        mockMvc.perform(patch("/tasks/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("Task 1 has version 4, expected 3"));
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи (админ) - задача не найдена")
+    void shouldReturnNotFoundForMissingTaskOnPatch() throws Exception {
+        when(taskService.patchTask(1L, 3L, new TaskPatchDTO(null, null, TaskStatus.COMPLETED, null)))
+                .thenThrow(new ResourceNotFoundException("Task not found with id: 1"));
+
+        mockMvc.perform(patch("/tasks/admin/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Not Found"));
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи текущего пользователя - некорректный заголовок If-Match")
+    void shouldRejectMalformedIfMatch() throws Exception {
+        mockMvc.perform(patch("/tasks/1")
+                        .header("If-Match", "W/\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.error").value("Precondition Required"));
+
+        verify(taskService, never()).patchTask(any(), Mockito.anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Частичное обновление задачи текущего пользователя - нет заголовка If-Match")
+    void shouldRequireIfMatchForPatch() throws Exception {
+        mockMvc.perform(patch("/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.error").value("Precondition Required"));
+
+        verify(taskService, never()).patchTask(any(), Mockito.anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Получение задачи по ID (админ) - задача не изменилась по ETag")
+    void shouldReturnNotModifiedForMatchingEtag() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(new TaskVersionDTO(3L, LocalDateTime.of(2024, 11, 5, 10, 15)));
+
+        mockMvc.perform(get("/tasks/admin/1")
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(1L);
+    }
+
+    @Test
+    @DisplayName("Получение задачи текущего пользователя по ID - версия задачи изменилась")
+    void shouldReturnTaskWhenVersionChanged() throws Exception {
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setVersion(4L);
+        when(taskService.getTaskVersion(1L)).thenReturn(new TaskVersionDTO(4L, LocalDateTime.of(2024, 11, 5, 10, 15)));
+        when(taskService.getTaskById(1L)).thenReturn(taskDTO);
+
+        mockMvc.perform(get("/tasks/1")
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    @DisplayName("Получение задачи по ID (админ) - задачу изменили после проверки версии")
+    void shouldTakeEtagFromReturnedTask() throws Exception {
+        TaskDTO taskDTO = new TaskDTO();
+        taskDTO.setVersion(4L);
+        when(taskService.getTaskVersion(1L)).thenReturn(new TaskVersionDTO(3L, LocalDateTime.of(2024, 11, 5, 10, 15)));
+        when(taskService.getTaskById(1L)).thenReturn(taskDTO);
+
+        mockMvc.perform(get("/tasks/admin/1")
+                        .header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    @DisplayName("Выгрузка задач в формате CSV с фильтрами")
+    void shouldExportTasksAsCsv() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            outputStream.close();
+            return 1L;
+        }).when(taskExportService).exportTasks(eq(TaskExportFormat.CSV), any(), eq("PENDING"), isNull(), isNull(), isNull());
+
+        mockMvc.perform(get("/tasks/admin/export")
+                        .param("format", "CSV")
+                        .param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().string("id\r\n1\r\n"));
+    }
+
+    @Test
+    @DisplayName("Выгрузка задач сжимается, если клиент принимает gzip")
+    void shouldExportTasksWithGzip() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            outputStream.close();
+            return 1L;
+        }).when(taskExportService).exportTasks(eq(TaskExportFormat.NDJSON), any(), isNull(), isNull(), isNull(), isNull());
+
+        byte[] body = mockMvc.perform(get("/tasks/admin/export")
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals("{\"id\":1}\n", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Выгрузка задач, прерванная клиентом, завершается без ошибки")
+    void shouldIgnoreExportAbortedByClient() throws Exception {
+        when(taskExportService.exportTasks(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new UncheckedIOException(new IOException("Broken pipe")));
+
+        mockMvc.perform(get("/tasks/admin/export"))
+                .andExpect(status().isOk());
     }
 }
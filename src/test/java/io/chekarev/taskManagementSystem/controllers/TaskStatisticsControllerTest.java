@@ -0,0 +1,59 @@
+package io.chekarev.taskManagementSystem.controllers;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskAssigneeCountDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskStatisticsDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.services.TaskStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TaskStatisticsService taskStatisticsService;
+
+    @InjectMocks
+    private TaskStatisticsController taskStatisticsController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(taskStatisticsController).build();
+    }
+
+    @Test
+    @DisplayName("Успешное получение статистики задач")
+    void shouldGetStatisticsSuccess() throws Exception {
+        when(taskStatisticsService.getStatistics()).thenReturn(new TaskStatisticsDTO(3,
+                Map.of(TaskStatus.PENDING, 2L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.COMPLETED, 1L),
+                Map.of(TaskPriority.HIGH, 3L, TaskPriority.MEDIUM, 0L, TaskPriority.LOW, 0L),
+                List.of(new TaskAssigneeCountDTO(2L, 2), new TaskAssigneeCountDTO(null, 1))));
+
+        mockMvc.perform(get("/tasks/admin/stats"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.PENDING").value(2))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(3))
+                .andExpect(jsonPath("$.byAssignee[0].assigneeId").value(2))
+                .andExpect(jsonPath("$.byAssignee[1].count").value(1));
+    }
+}
@@ -0,0 +1,246 @@
+package io.chekarev.taskManagementSystem.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.controllers.TaskController;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.entities.User;
+import io.chekarev.taskManagementSystem.exceptions.TaskStreamUnavailableException;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.services.TaskExportService;
+import io.chekarev.taskManagementSystem.services.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Поток событий изменения задач")
+class TaskStreamBroadcasterTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskExportService taskExportService;
+
+    private TaskStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SendingExecutor executor;
+    private ScheduledThreadPoolExecutor scheduler;
+    private TaskStreamBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TaskStreamProperties();
+        properties.setQueueCapacity(4);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new SendingExecutor();
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        broadcaster = new TaskStreamBroadcaster(properties, new ObjectMapper(), executor, scheduler, meterRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, broadcaster, taskExportService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Событие доставляется автору и исполнителю задачи и не доставляется другим пользователям")
+    void shouldDeliverEventToAuthorAndAssignee() throws Exception {
+        MockHttpServletResponse author = subscribe(1L, null);
+        MockHttpServletResponse assignee = subscribe(2L, null);
+        MockHttpServletResponse other = subscribe(3L, null);
+
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, task(10L, 1L, 2L)));
+
+        assertTrue(author.getContentAsString().contains("event:created"));
+        assertTrue(author.getContentAsString().contains("\"taskId\":10"));
+        assertTrue(assignee.getContentAsString().contains("event:created"));
+        assertEquals("", other.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("После переподключения с Last-Event-ID отправляются только пропущенные события пользователя")
+    void shouldReplayMissedEvents() throws Exception {
+        MockHttpServletResponse first = subscribe(1L, null);
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, task(10L, 1L, null)));
+        String lastEventId = eventIds(first.getContentAsString()).get(0);
+
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, task(10L, 1L, null)));
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, task(11L, 2L, null)));
+        broadcaster.onTaskChange(TaskChangeEvent.deleted(10L, 1L, null));
+
+        String resumed = subscribe(1L, lastEventId).getContentAsString();
+        assertEquals(2, eventIds(resumed).size());
+        assertFalse(resumed.contains(lastEventId + "\n"));
+        assertTrue(resumed.contains("event:updated"));
+        assertTrue(resumed.contains("event:deleted"));
+        assertFalse(resumed.contains("\"taskId\":11"));
+    }
+
+    @Test
+    @DisplayName("Для неизвестного Last-Event-ID отправляется событие reset")
+    void shouldSendResetForUnknownLastEventId() throws Exception {
+        String content = subscribe(1L, "unknown-5").getContentAsString();
+
+        assertTrue(content.contains("event:reset"));
+    }
+
+    @Test
+    @DisplayName("Подписчик с переполненной очередью отключается, публикация не блокируется")
+    void shouldDisconnectSlowSubscriber() throws Exception {
+        executor.paused = true;
+        subscribe(1L, null);
+        assertEquals(1, broadcaster.getSubscriberCount());
+
+        for (long id = 1; id <= properties.getQueueCapacity() + 1; id++) {
+            broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, task(id, 1L, null)));
+        }
+
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("tasks.stream.slow.disconnects").counter().count());
+    }
+
+    @Test
+    @DisplayName("Зависшие отправки добавляют в пул не больше maxExtraSenders потоков, новые подписчики отклоняются")
+    void shouldCapSenderThreadsForStalledSends() throws Exception {
+        properties.setSenderThreads(1);
+        properties.setMaxExtraSenders(1);
+        properties.setSendTimeout(Duration.ofMillis(1));
+        ThreadPoolExecutor senders = new ThreadPoolExecutor(1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>());
+        TaskStreamBroadcaster stalling = new TaskStreamBroadcaster(properties, new ObjectMapper(), senders, scheduler, meterRegistry);
+        CountDownLatch releaseSends = new CountDownLatch(1);
+        try {
+            stalling.subscribe(1L, null, blockingEmitter(releaseSends));
+            stalling.subscribe(2L, null, blockingEmitter(releaseSends));
+
+            stalling.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, task(10L, 1L, null)));
+            awaitStalledDisconnects(stalling, 1);
+            assertEquals(2, senders.getCorePoolSize());
+
+            // Второй зависший клиент отправляется добавленным потоком, но пул больше не растет
+            stalling.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, task(11L, 2L, null)));
+            awaitStalledDisconnects(stalling, 2);
+            assertEquals(2, senders.getCorePoolSize());
+            assertEquals(0, stalling.getSubscriberCount());
+            assertThrows(TaskStreamUnavailableException.class, () -> stalling.subscribe(3L, null, new SseEmitter()));
+
+            releaseSends.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (senders.getCorePoolSize() > 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, senders.getCorePoolSize());
+            stalling.subscribe(3L, null, new SseEmitter());
+            assertEquals(1, stalling.getSubscriberCount());
+        } finally {
+            releaseSends.countDown();
+            senders.shutdownNow();
+        }
+    }
+
+    private void awaitStalledDisconnects(TaskStreamBroadcaster stalling, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("tasks.stream.stalled.disconnects").counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            stalling.abandonStalledSends();
+        }
+        assertEquals(expected, meterRegistry.get("tasks.stream.stalled.disconnects").counter().count());
+    }
+
+    /**
+     * Соединение клиента, который не читает поток: отправка блокируется до releaseSends.
+     */
+    private static SseEmitter blockingEmitter(CountDownLatch releaseSends) throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            releaseSends.await();
+            return null;
+        }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        return emitter;
+    }
+
+    private MockHttpServletResponse subscribe(Long userId, String lastEventId) throws Exception {
+        User user = new User();
+        user.setId(userId);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        var request = get("/tasks/stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static List<String> eventIds(String content) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        return matcher.results().map(result -> result.group(1)).toList();
+    }
+
+    private static TaskDTO task(Long id, Long authorId, Long assigneeId) {
+        return new TaskDTO(id, "Task " + id, null, TaskStatus.PENDING, TaskPriority.HIGH, authorId, assigneeId, 0L);
+    }
+
+    /**
+     * Пул отправки, выполняющий отправку сразу в вызывающем потоке; в режиме paused отправка не выполняется,
+     * как у клиента, который не успевает читать поток.
+     */
+    private static class SendingExecutor extends ThreadPoolExecutor {
+
+        private boolean paused;
+
+        SendingExecutor() {
+            super(1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>());
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (!paused) {
+                command.run();
+            }
+        }
+    }
+}
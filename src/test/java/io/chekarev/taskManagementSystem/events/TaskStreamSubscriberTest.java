@@ -0,0 +1,106 @@
+package io.chekarev.taskManagementSystem.events;
+
+import io.chekarev.taskManagementSystem.events.TaskStreamSubscriber.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Подписчик потока событий задач")
+class TaskStreamSubscriberTest {
+
+    private static final long SEND_TIMEOUT = Duration.ofSeconds(10).toNanos();
+
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSend = new CountDownLatch(1);
+    private SseEmitter emitter;
+    private TaskStreamSubscriber subscriber;
+    private ExecutorService sender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Клиент не читает поток: отправка блокируется, пока тест ее не отпустит
+        emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sendStarted.countDown();
+            releaseSend.await();
+            return null;
+        }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        subscriber = new TaskStreamSubscriber(1L, emitter, 4);
+        sender = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSend.countDown();
+        sender.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Закрытие во время отправки не ждет клиента, соединение завершает поток отправки")
+    void shouldNotWaitForBlockedSendOnClose() throws Exception {
+        Future<Boolean> drain = startBlockedDrain();
+
+        assertTrue(subscriber.close());
+        assertTrue(subscriber.isClosed());
+        verify(emitter, never()).complete();
+
+        releaseSend.countDown();
+        assertFalse(drain.get(5, TimeUnit.SECONDS));
+        verify(emitter).complete();
+        // Второе сообщение очереди после закрытия не отправляется
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Отправка дольше допустимого помечается зависшей, подписчик закрывается")
+    void shouldAbandonStalledSend() throws Exception {
+        Future<Boolean> drain = startBlockedDrain();
+
+        assertFalse(subscriber.abandonStalledSend(System.nanoTime(), SEND_TIMEOUT));
+        assertTrue(subscriber.abandonStalledSend(System.nanoTime() + SEND_TIMEOUT, SEND_TIMEOUT));
+        assertFalse(subscriber.abandonStalledSend(System.nanoTime() + SEND_TIMEOUT, SEND_TIMEOUT));
+        assertTrue(subscriber.isClosed());
+        assertFalse(subscriber.close());
+        verify(emitter, never()).complete();
+
+        releaseSend.countDown();
+        assertTrue(drain.get(5, TimeUnit.SECONDS));
+        verify(emitter).complete();
+    }
+
+    @Test
+    @DisplayName("Без текущей отправки подписчик не считается зависшим и закрывается сразу")
+    void shouldCloseIdleSubscriberImmediately() {
+        assertFalse(subscriber.abandonStalledSend(System.nanoTime() + SEND_TIMEOUT, SEND_TIMEOUT));
+
+        assertTrue(subscriber.close());
+        verify(emitter).complete();
+    }
+
+    private Future<Boolean> startBlockedDrain() throws InterruptedException {
+        subscriber.offer(Message.comment("heartbeat"));
+        subscriber.offer(Message.comment("heartbeat"));
+        assertTrue(subscriber.startDraining());
+        Future<Boolean> drain = sender.submit(subscriber::drain);
+        assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+        return drain;
+    }
+}
@@ -0,0 +1,81 @@
+package io.chekarev.taskManagementSystem.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.exceptions.InvalidImportRecordException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImportRecordReaderTest {
+
+    @Test
+    void csvReaderParsesQuotedValuesWithSeparatorsAndLineBreaks() throws IOException {
+        ImportRecordReader reader = reader(ImportFormat.CSV, "\uFEFFtitle,description\r\n"
+                + "Plain,\r\n"
+                + "\r\n"
+                + "\"Title, with comma\",\"Says \"\"hi\"\"\nand more\"\n");
+
+        ImportRecord first = reader.next();
+        ImportRecord second = reader.next();
+
+        assertEquals(1, first.getNumber());
+        assertEquals("Plain", first.required("title", 255));
+        assertNull(first.optional("description", 255));
+        assertEquals(2, second.getNumber());
+        assertEquals("Title, with comma", second.required("title", 255));
+        assertEquals("Says \"hi\"\nand more", second.required("description", 255));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void csvReaderRejectsMalformedRecordAndContinuesWithNext() throws IOException {
+        ImportRecordReader reader = reader(ImportFormat.CSV, "title,status\n"
+                + "\"Broken\"x,PENDING\n"
+                + "Only one field\n"
+                + "Valid,PENDING\n");
+
+        InvalidImportRecordException malformed = assertThrows(InvalidImportRecordException.class, reader::next);
+        InvalidImportRecordException wrongCount = assertThrows(InvalidImportRecordException.class, reader::next);
+        ImportRecord valid = reader.next();
+
+        assertEquals(1, malformed.getRecordNumber());
+        assertEquals(2, wrongCount.getRecordNumber());
+        assertEquals("Expected 2 fields but found 1", wrongCount.getMessage());
+        assertEquals(3, valid.getNumber());
+        assertEquals("Valid", valid.required("title", 255));
+    }
+
+    @Test
+    void ndjsonReaderNumbersRecordsByLineAndRejectsMalformedLines() throws IOException {
+        ImportRecordReader reader = reader(ImportFormat.NDJSON, "{\"title\":\"First\",\"taskId\":7,\"text\":null}\n"
+                + "\n"
+                + "not json\n"
+                + "{\"title\":{\"nested\":true}}\n"
+                + "{\"title\":\"Last\"}\n");
+
+        ImportRecord first = reader.next();
+        InvalidImportRecordException malformed = assertThrows(InvalidImportRecordException.class, reader::next);
+        InvalidImportRecordException nested = assertThrows(InvalidImportRecordException.class, reader::next);
+        ImportRecord last = reader.next();
+
+        assertEquals(1, first.getNumber());
+        assertEquals(7L, first.optionalId("taskId"));
+        assertNull(first.optional("text", 255));
+        assertEquals(3, malformed.getRecordNumber());
+        assertEquals(4, nested.getRecordNumber());
+        assertEquals("title must be a string, number or boolean", nested.getMessage());
+        assertEquals(5, last.getNumber());
+        assertNull(reader.next());
+    }
+
+    private static ImportRecordReader reader(ImportFormat format, String input) {
+        return ImportRecordReader.of(format, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                new ObjectMapper());
+    }
+}
@@ -0,0 +1,118 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import io.chekarev.taskManagementSystem.repositories.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Ретранслятор событий outbox")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxPublisher publisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ScheduledExecutorService executor;
+
+    private OutboxRelayProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxRelayProperties();
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepository, publisher, new TransactionTemplate(transactionManager),
+                properties, executor, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("События захваченных секций доставляются и удаляются из outbox")
+    void shouldPublishAndCompleteBatch() {
+        List<OutboxEvent> events = List.of(event(1L, 10L), event(2L, 11L));
+        when(outboxRepository.claimPartitions(4)).thenReturn(List.of(10, 11), List.of());
+        when(outboxRepository.findBatch(List.of(10, 11), 2)).thenReturn(events);
+        when(outboxRepository.findOldestEventAgeMillis()).thenReturn(Optional.empty());
+
+        relay.poll();
+
+        verify(publisher).publish(events);
+        verify(outboxRepository).complete(List.of(1L, 2L), List.of(10, 11));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(2.0, meterRegistry.get("outbox.relay.events").counter().count());
+        assertEquals(1, meterRegistry.get("outbox.relay.batch").timer().count());
+    }
+
+    @Test
+    @DisplayName("При ошибке доставки транзакция откатывается и события остаются в outbox")
+    void shouldKeepEventsWhenPublishFails() {
+        List<OutboxEvent> events = List.of(event(1L, 10L));
+        when(outboxRepository.claimPartitions(4)).thenReturn(List.of(10));
+        when(outboxRepository.findBatch(List.of(10), 2)).thenReturn(events);
+        doThrow(new IllegalStateException("broker unavailable")).when(publisher).publish(events);
+
+        relay.poll();
+
+        verify(outboxRepository, never()).complete(anyList(), anyList());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.get("outbox.relay.failures").counter().count());
+        assertEquals(0.0, meterRegistry.get("outbox.relay.events").counter().count());
+    }
+
+    @Test
+    @DisplayName("Задержка доставки равна возрасту самого старого события outbox")
+    void shouldReportLag() {
+        when(outboxRepository.claimPartitions(4)).thenReturn(List.of());
+        when(outboxRepository.findOldestEventAgeMillis()).thenReturn(Optional.of(1500L));
+
+        relay.poll();
+
+        verify(outboxRepository, never()).findBatch(anyList(), anyInt());
+        assertEquals(1.5, meterRegistry.get("outbox.relay.lag").timeGauge().value(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Выключенный ретранслятор не опрашивает outbox")
+    void shouldNotPollWhenDisabled() {
+        properties.setEnabled(false);
+
+        relay.start();
+
+        verify(executor, never()).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    private static OutboxEvent event(Long id, Long aggregateId) {
+        return new OutboxEvent(id, OutboxEvent.AggregateType.TASK, aggregateId, "UPDATED", "{}", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,95 @@
+package io.chekarev.taskManagementSystem.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.events.CommentChangeEvent;
+import io.chekarev.taskManagementSystem.events.TaskChangeEvent;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.repositories.OutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Запись событий в outbox")
+class OutboxWriterTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Captor
+    private ArgumentCaptor<List<OutboxEvent>> eventsCaptor;
+
+    private OutboxWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new OutboxWriter(outboxRepository, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("События транзакции вставляются одним пакетом перед фиксацией")
+    void shouldAppendTransactionEventsBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.onTaskChange(TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, task(10L)));
+        writer.onCommentChange(CommentChangeEvent.deleted(7L, 10L, 1L));
+        verify(outboxRepository, never()).append(anyList());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(outboxRepository).append(eventsCaptor.capture());
+        List<OutboxEvent> events = eventsCaptor.getValue();
+        assertEquals(2, events.size());
+        assertEquals(OutboxEvent.AggregateType.TASK, events.get(0).getAggregateType());
+        assertEquals(10L, events.get(0).getAggregateId());
+        assertEquals("UPDATED", events.get(0).getEventType());
+        assertTrue(events.get(0).getPayload().contains("\"title\":\"Task 10\""));
+        assertEquals(OutboxEvent.AggregateType.COMMENT, events.get(1).getAggregateType());
+        assertEquals(7L, events.get(1).getAggregateId());
+        assertEquals("DELETED", events.get(1).getEventType());
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Без транзакции событие вставляется сразу")
+    void shouldAppendImmediatelyWithoutTransaction() {
+
+        writer.onTaskChange(TaskChangeEvent.deleted(10L, 1L, null));
+
+        verify(outboxRepository).append(eventsCaptor.capture());
+        assertEquals(1, eventsCaptor.getValue().size());
+        assertEquals("DELETED", eventsCaptor.getValue().get(0).getEventType());
+    }
+
+    private static TaskDTO task(Long id) {
+        return new TaskDTO(id, "Task " + id, null, TaskStatus.PENDING, TaskPriority.HIGH, 1L, null, 2L);
+    }
+}
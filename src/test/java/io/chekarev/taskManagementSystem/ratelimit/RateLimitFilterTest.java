@@ -0,0 +1,143 @@
+package io.chekarev.taskManagementSystem.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Ограничение частоты запросов")
+class RateLimitFilterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setMaxBuckets(2);
+        properties.setAdmin(new RateLimitProperties.Limit(2, 1));
+        properties.setUser(new RateLimitProperties.Limit(3, 1));
+        properties.setAuth(new RateLimitProperties.Limit(1, 0.5));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new RateLimiter(properties, nanoTime::get, meterRegistry),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Запрос сверх емкости корзины отклоняется с кодом 429 и заголовком Retry-After")
+    void shouldThrottleRequestOverCapacity() throws Exception {
+        authenticate("admin@example.com");
+
+        assertEquals(200, filter("/tasks/admin").getStatus());
+        assertEquals(200, filter("/tasks/admin").getStatus());
+        MockHttpServletResponse throttled = filter("/tasks/admin");
+
+        assertEquals(429, throttled.getStatus());
+        assertEquals("1", throttled.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("rate.limit.throttled").tag("group", "admin").counter().count());
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Корзина пополняется со временем")
+    void shouldRefillBucket() throws Exception {
+        authenticate("admin@example.com");
+        filter("/tasks/admin");
+        filter("/tasks/admin");
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(429, filter("/tasks/admin").getStatus());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(200, filter("/tasks/admin").getStatus());
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Корзины ведутся отдельно для каждого пользователя и группы маршрутов")
+    void shouldKeepSeparateBucketsPerUserAndGroup() throws Exception {
+        authenticate("admin@example.com");
+        filter("/tasks/admin");
+        filter("/tasks/admin");
+
+        assertEquals(200, filter("/tasks").getStatus());
+        authenticate("user1@example.com");
+        assertEquals(200, filter("/tasks/admin").getStatus());
+    }
+
+    @Test
+    @DisplayName("[doFilterInternal] Анонимные запросы аутентификации ограничиваются по IP-адресу")
+    void shouldLimitAnonymousRequestsByAddress() throws Exception {
+        assertEquals(200, filter("/auth/login").getStatus());
+        MockHttpServletResponse throttled = filter("/auth/login");
+
+        assertEquals(429, throttled.getStatus());
+        assertEquals("2", throttled.getHeader("Retry-After"));
+        MockHttpServletRequest otherAddress = new MockHttpServletRequest("POST", "/auth/login");
+        otherAddress.setRemoteAddr("10.0.0.2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(otherAddress, response, (req, res) -> { });
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("[tryAcquire] При превышении max-buckets удаляются только полные корзины")
+    void shouldEvictOnlyFullBucketsOverMaxBuckets() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            authenticate("user" + i + "@example.com");
+            filter("/tasks");
+        }
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        authenticate("user0@example.com");
+        filter("/tasks");
+        filter("/tasks");
+        filter("/tasks");
+
+        authenticate("user3@example.com");
+        filter("/tasks");
+
+        assertEquals(2.0, meterRegistry.get("rate.limit.buckets").tag("group", "user").gauge().value());
+        authenticate("user0@example.com");
+        assertEquals(429, filter("/tasks").getStatus());
+    }
+
+    @Test
+    @DisplayName("[of] Группа маршрутов определяется по первым сегментам пути")
+    void shouldResolveRouteGroup() {
+        assertEquals(List.of(RouteGroup.ADMIN, RouteGroup.ADMIN, RouteGroup.ADMIN, RouteGroup.AUTH, RouteGroup.AUTH,
+                        RouteGroup.USER, RouteGroup.USER, RouteGroup.USER),
+                List.of(RouteGroup.of("/tasks/admin", 0), RouteGroup.of("/auth/admin/users", 0),
+                        RouteGroup.of("/api/tasks/admin/stats", 4), RouteGroup.of("/auth/login", 0),
+                        RouteGroup.of("/auth", 0), RouteGroup.of("/tasks/my", 0),
+                        RouteGroup.of("/tasks/administrators", 0), RouteGroup.of("/", 0)));
+    }
+
+    private MockHttpServletResponse filter(String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> assertNull(((MockHttpServletResponse) res).getHeader("Retry-After"));
+        filter.doFilter(new MockHttpServletRequest("GET", uri), response, chain);
+        return response;
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,384 @@
+package io.chekarev.taskManagementSystem.repositories;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+import io.chekarev.taskManagementSystem.domain.mappers.CommentMapperImpl;
+import io.chekarev.taskManagementSystem.domain.mappers.TaskMapperImpl;
+import io.chekarev.taskManagementSystem.pagination.CountMode;
+import io.chekarev.taskManagementSystem.services.impl.CommentServiceImpl;
+import io.chekarev.taskManagementSystem.services.impl.TaskServiceImpl;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Регрессионные тесты планов запросов для фильтров задач и комментариев.
+ * <p>
+ * Тест подключается к локальному PostgreSQL (по умолчанию к контейнеру из docker-compose.yml),
+ * применяет миграции Flyway в отдельной схеме и заполняет ее большим набором данных. Затем на этой схеме
+ * вызываются методы TaskServiceImpl и CommentServiceImpl: все комбинации фильтров списка задач, задачи текущего
+ * пользователя, страницы по курсорам, комментарии задачи и полнотекстовый поиск. Источник данных обернут
+ * прокси, который записывает каждый выполненный SELECT вместе с параметрами, и для каждого записанного
+ * запроса через EXPLAIN проверяется, что он не выполняется последовательным сканированием таблицы.
+ * Поэтому изменение спецификации, проекции, сортировки или SQL репозитория проверяется тем запросом,
+ * который действительно формирует Hibernate. Если база данных недоступна, тесты пропускаются.
+ * <p>
+ * Кэш второго уровня в этом контексте выключен: менеджер кэша JCache с фиксированным URI один на JVM и уже
+ * занят контекстом {@code SecondLevelCacheTest}, а кроме того, попадание в кэш скрыло бы запрос от EXPLAIN.
+ * <p>
+ * Параметры подключения переопределяются системными свойствами query-plan.jdbc-url,
+ * query-plan.username и query-plan.password.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TaskServiceImpl.class, CommentServiceImpl.class, TaskMapperImpl.class, CommentMapperImpl.class,
+        QueryPlanRegressionTest.StatementRecorder.class})
+@DisplayName("Планы запросов по фильтрам задач и комментариев")
+class QueryPlanRegressionTest {
+
+    private static final String SCHEMA = "query_plan_regression";
+    private static final int USERS = 2_000;
+    private static final int TASKS = 300_000;
+    private static final int COMMENTS = 600_000;
+    private static final int PAGE_SIZE = 20;
+    // ID задач задаются явно после ID из миграций: последовательность tasks_id_seq выдает значения блоками
+    private static final int TASK_ID_OFFSET = 1_000;
+    private static final String USER_ID = "42";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static Connection connection;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private CommentServiceImpl commentService;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        String url = jdbcUrl();
+        try {
+            connection = DriverManager.getConnection(url, username(), password());
+        } catch (SQLException e) {
+            assumeTrue(false, "PostgreSQL is not available at " + url + ": " + e.getMessage());
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+        Flyway.configure()
+                .dataSource(url, username(), password())
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+            seed(statement);
+            statement.execute("VACUUM ANALYZE users");
+            statement.execute("VACUUM ANALYZE tasks");
+            statement.execute("VACUUM ANALYZE comments");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+            connection.close();
+        }
+    }
+
+    @DynamicPropertySource
+    static void dataSourceProperties(DynamicPropertyRegistry registry) {
+        String url = jdbcUrl();
+        registry.add("spring.datasource.url", () -> url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", QueryPlanRegressionTest::username);
+        registry.add("spring.datasource.password", QueryPlanRegressionTest::password);
+    }
+
+    private static String jdbcUrl() {
+        return System.getProperty("query-plan.jdbc-url", "jdbc:postgresql://localhost:5431/task_management_db");
+    }
+
+    private static String username() {
+        return System.getProperty("query-plan.username", "habit_app");
+    }
+
+    private static String password() {
+        return System.getProperty("query-plan.password", "1234");
+    }
+
+    /**
+     * Заполняет схему данными с реалистичным распределением: большая часть задач завершена,
+     * около трети задач без исполнителя, у каждой задачи в среднем два комментария.
+     */
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute("INSERT INTO users (email, password, name, role) "
+                + "SELECT 'load' || g || '@example.com', 'password', 'Load User ' || g, 'USER' "
+                + "FROM generate_series(1, " + USERS + ") g");
+        statement.execute("INSERT INTO tasks (id, title, description, status, priority, author_id, assignee_id, created_at, updated_at) "
+                + "SELECT " + TASK_ID_OFFSET + " + g, 'Task ' || g, 'Description for task ' || g, "
+                + "CASE WHEN g % 10 < 7 THEN 'COMPLETED' WHEN g % 10 < 9 THEN 'IN_PROGRESS' ELSE 'PENDING' END, "
+                + "(ARRAY['HIGH', 'MEDIUM', 'LOW'])[1 + g % 3], "
+                + "1 + (g::bigint * 7919) % " + USERS + ", "
+                + "CASE WHEN g % 3 = 0 THEN NULL ELSE 1 + (g::bigint * 104729) % " + USERS + " END, "
+                + "now() - (g || ' seconds')::interval, now() - (g || ' seconds')::interval "
+                + "FROM generate_series(1, " + TASKS + ") g");
+        statement.execute("INSERT INTO comments (task_id, user_id, text, created_at) "
+                + "SELECT " + TASK_ID_OFFSET + " + 1 + (g * 31) % " + TASKS + ", 1 + g % " + USERS + ", 'Comment ' || g, "
+                + "now() - (g || ' seconds')::interval "
+                + "FROM generate_series(1, " + COMMENTS + ") g");
+    }
+
+    /**
+     * Вызовы сервисов, запросы которых проверяются: все комбинации фильтров TaskSpecification.withFilters
+     * (страница с сортировкой по id и подсчет для фильтров по автору или исполнителю), задачи текущего
+     * пользователя, первая и следующая страницы по курсорам, комментарии задачи в обоих направлениях
+     * и полнотекстовый поиск. Следующие страницы запрашиваются по курсору из ответа на первую.
+     * <p>
+     * COUNT по одному статусу или приоритету не проверяется: такой фильтр выбирает значительную часть
+     * таблицы, и последовательное сканирование для него является правильным выбором планировщика.
+     * Поэтому для таких фильтров страница запрашивается без подсчета.
+     */
+    private Map<String, Runnable> scenarios() {
+        Map<String, Runnable> scenarios = new LinkedHashMap<>();
+        String[] filterNames = {"status", "priority", "author", "assignee"};
+        String[] filterValues = {"PENDING", "HIGH", USER_ID, USER_ID};
+
+        for (int mask = 0; mask < 1 << filterNames.length; mask++) {
+            String[] filters = new String[filterNames.length];
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < filterNames.length; i++) {
+                if ((mask & 1 << i) != 0) {
+                    filters[i] = filterValues[i];
+                    names.add(filterNames[i]);
+                }
+            }
+            CountMode countMode = (mask & 0b1100) != 0 ? CountMode.EXACT : CountMode.NONE;
+            scenarios.put("страница задач: " + (names.isEmpty() ? "без фильтров" : String.join(", ", names)),
+                    () -> taskService.getAllTasks(PageRequest.of(0, PAGE_SIZE, Sort.by("id")), countMode,
+                            filters[0], filters[1], filters[2], filters[3]));
+        }
+
+        scenarios.put("задачи текущего пользователя",
+                () -> taskService.getTasksForCurrentUser(Long.valueOf(USER_ID), PageRequest.of(0, PAGE_SIZE)));
+
+        scenarios.put("курсор по createdAt",
+                () -> taskCursorPages("createdAt", Sort.Direction.DESC, null, null));
+        scenarios.put("курсор по updatedAt со статусом",
+                () -> taskCursorPages("updatedAt", Sort.Direction.ASC, "PENDING", null));
+        scenarios.put("курсор по id с исполнителем",
+                () -> taskCursorPages("id", Sort.Direction.ASC, null, USER_ID));
+
+        // У задачи два комментария: страница из одного комментария всегда возвращает курсор
+        scenarios.put("комментарии задачи, сначала новые",
+                () -> commentPages(Sort.Direction.DESC));
+        scenarios.put("комментарии задачи, сначала старые",
+                () -> commentPages(Sort.Direction.ASC));
+
+        scenarios.put("полнотекстовый поиск задач",
+                () -> searchPages(null));
+        scenarios.put("полнотекстовый поиск задач со статусом",
+                () -> searchPages("COMPLETED"));
+        return scenarios;
+    }
+
+    private void taskCursorPages(String sort, Sort.Direction direction, String status, String assignee) {
+        CursorPage<TaskDTO> first = taskService.getAllTasksByCursor(null, PAGE_SIZE, sort, direction, status, null, null, assignee);
+        assertTrue(first.isHasNext(), "Expected a second page for sort " + sort);
+        taskService.getAllTasksByCursor(first.getNextCursor(), PAGE_SIZE, sort, direction, status, null, null, assignee);
+    }
+
+    private void commentPages(Sort.Direction direction) {
+        long taskId = TASK_ID_OFFSET + 42L;
+        CursorPage<CommentDTO> first = commentService.getCommentsByTaskId(taskId, null, 1, direction);
+        assertTrue(first.isHasNext(), "Expected a second page of comments");
+        commentService.getCommentsByTaskId(taskId, first.getNextCursor(), 1, direction);
+    }
+
+    private void searchPages(String status) {
+        // Задача 42 находится по заголовку, описанию и комментарию, поэтому результатов больше одного
+        CursorPage<TaskSearchResultDTO> first = taskService.searchTasks("42", null, 1, status, null, null, null);
+        if (first.isHasNext()) {
+            taskService.searchTasks("42", first.getNextCursor(), 1, status, null, null, null);
+        }
+    }
+
+    @TestFactory
+    @DisplayName("Запрос не должен выполняться последовательным сканированием")
+    Stream<DynamicTest> shouldNotUseSequentialScan() {
+        List<DynamicTest> tests = new ArrayList<>();
+        scenarios().forEach((name, scenario) -> {
+            List<RecordedStatement> statements = StatementRecorder.record(scenario);
+            assertFalse(statements.isEmpty(), "No statements recorded for " + name);
+            for (int i = 0; i < statements.size(); i++) {
+                RecordedStatement statement = statements.get(i);
+                tests.add(DynamicTest.dynamicTest(name + " #" + (i + 1), () -> assertNoSequentialScan(statement)));
+            }
+        });
+        return tests.stream();
+    }
+
+    private void assertNoSequentialScan(RecordedStatement statement) throws Exception {
+        JsonNode plan = explain(statement);
+        List<String> sequentialScans = new ArrayList<>();
+        collectSequentialScans(plan, sequentialScans);
+
+        assertTrue(sequentialScans.isEmpty(),
+                "Sequential scan on " + sequentialScans + " for query: " + statement.sql() + "\nPlan: " + plan.toPrettyString());
+    }
+
+    private JsonNode explain(RecordedStatement recorded) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + recorded.sql())) {
+            for (Binding binding : recorded.bindings()) {
+                binding.method().invoke(statement, binding.arguments());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> sequentialScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            sequentialScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, sequentialScans);
+        }
+    }
+
+    /**
+     * Вызов метода установки параметра PreparedStatement: повторяется на запросе EXPLAIN с теми же аргументами.
+     */
+    record Binding(Method method, Object[] arguments) {
+    }
+
+    record RecordedStatement(String sql, List<Binding> bindings) {
+    }
+
+    /**
+     * Обертка источника данных приложения, записывающая выполненные запросы SELECT и их параметры.
+     */
+    static class StatementRecorder implements BeanPostProcessor {
+
+        private static final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+        private static volatile boolean recording;
+
+        static List<RecordedStatement> record(Runnable scenario) {
+            statements.clear();
+            recording = true;
+            try {
+                scenario.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? proxy(Connection.class, connectionHandler(connection)) : result;
+            });
+        }
+
+        private static InvocationHandler connectionHandler(Connection connection) {
+            return (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return proxy(PreparedStatement.class, statementHandler(statement, (String) args[0]));
+                }
+                return result;
+            };
+        }
+
+        private static InvocationHandler statementHandler(PreparedStatement statement, String sql) {
+            Map<Integer, Binding> bindings = new TreeMap<>();
+            return (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    bindings.put(index, new Binding(method, args.clone()));
+                } else if (name.equals("clearParameters")) {
+                    bindings.clear();
+                } else if ((name.equals("executeQuery") || name.equals("execute")) && args == null && recording
+                        && isQuery(sql)) {
+                    statements.add(new RecordedStatement(sql, List.copyOf(bindings.values())));
+                }
+                return invoke(statement, method, args);
+            };
+        }
+
+        private static boolean isQuery(String sql) {
+            String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+            return normalized.startsWith("select") || normalized.startsWith("with");
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package io.chekarev.taskManagementSystem.services.impl;
 
 import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
 import io.chekarev.taskManagementSystem.domain.entities.Comment;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
 import io.chekarev.taskManagementSystem.domain.entities.User;
 import io.chekarev.taskManagementSystem.domain.mappers.CommentMapper;
+import io.chekarev.taskManagementSystem.events.CommentChangeEvent;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
+import io.chekarev.taskManagementSystem.pagination.KeysetCursor;
 import io.chekarev.taskManagementSystem.repositories.CommentRepository;
+import io.chekarev.taskManagementSystem.repositories.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,10 +18,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,13 +37,20 @@ class CommentServiceImplTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
     @Mock
     private CommentMapper commentMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
     private User user;
+    private Task task;
     private Comment comment;
     private CommentDTO commentDTO;
 
@@ -40,20 +60,26 @@ class CommentServiceImplTest {
         user.setEmail("test@example.com");
         user.setId(1L);
 
+        task = new Task();
+        task.setId(5L);
+
         comment = new Comment();
         comment.setId(1L);
         comment.setText("Test comment");
         comment.setUser(user);
+        comment.setTask(task);
 
         commentDTO = new CommentDTO();
         commentDTO.setId(1L);
         commentDTO.setText("Test comment DTO");
         commentDTO.setUserId(user.getId());
+        commentDTO.setTaskId(task.getId());
     }
 
     @Test
     void testAddComment() {
         when(commentMapper.toEntity(commentDTO)).thenReturn(comment);
+        when(taskRepository.getReferenceById(5L)).thenReturn(task);
         when(commentRepository.save(comment)).thenReturn(comment);
         when(commentMapper.toDto(comment)).thenReturn(commentDTO);
 
@@ -61,6 +87,96 @@ class CommentServiceImplTest {
 
         assertNotNull(result);
         assertEquals(commentDTO.getText(), result.getText());
+        verify(eventPublisher).publishEvent(CommentChangeEvent.created(commentDTO));
+    }
+
+    @Test
+    void testGetCommentsByTaskIdNewestFirst() {
+        Comment older = new Comment();
+        older.setId(2L);
+        older.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        comment.setCreatedAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        Sort order = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        when(commentRepository.findByTaskId(5L, order, Limit.of(2))).thenReturn(List.of(comment, older));
+        when(commentMapper.toDto(comment)).thenReturn(commentDTO);
+
+        CursorPage<CommentDTO> result = commentService.getCommentsByTaskId(5L, null, 1, Sort.Direction.DESC);
+
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(Sort.Direction.DESC, next.getDirection());
+        assertEquals("2024-01-02T10:00", next.getValue());
+        assertEquals(1L, next.getId());
+        assertNull(result.getPrevCursor());
+    }
+
+    @Test
+    void testGetCommentsByTaskIdLoadOlder() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 10, 0);
+        comment.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, createdAt.toString(), 7L).encode();
+        when(commentRepository.findByTaskIdBefore(eq(5L), eq(createdAt), eq(7L), any(Sort.class), eq(Limit.of(21))))
+                .thenReturn(List.of(comment));
+        when(commentMapper.toDto(comment)).thenReturn(commentDTO);
+
+        CursorPage<CommentDTO> result = commentService.getCommentsByTaskId(5L, cursor, 20, Sort.Direction.ASC);
+
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        KeysetCursor prev = KeysetCursor.decode(result.getPrevCursor());
+        assertTrue(prev.isBackward());
+        assertEquals(Sort.Direction.DESC, prev.getDirection());
+        assertEquals("2024-01-01T10:00", prev.getValue());
+        assertEquals(1L, prev.getId());
+        verify(commentRepository, never()).findByTaskIdAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetCommentsByTaskIdLoadNewerByPrevCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 10, 0);
+        Comment first = commentAt(8L, createdAt.plusHours(1));
+        Comment second = commentAt(9L, createdAt.plusHours(2));
+        Comment third = commentAt(10L, createdAt.plusHours(3));
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, createdAt.toString(), 7L, true).encode();
+        Sort ascending = Sort.by(Sort.Direction.ASC, "createdAt").and(Sort.by(Sort.Direction.ASC, "id"));
+        when(commentRepository.findByTaskIdAfter(5L, createdAt, 7L, ascending, Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+        when(commentMapper.toDto(any(Comment.class))).thenAnswer(invocation -> {
+            CommentDTO dto = new CommentDTO();
+            dto.setId(invocation.<Comment>getArgument(0).getId());
+            return dto;
+        });
+
+        CursorPage<CommentDTO> result = commentService.getCommentsByTaskId(5L, cursor, 2, Sort.Direction.ASC);
+
+        // Страница выбрана по возрастанию от курсора и возвращается в порядке сортировки страницы - по убыванию
+        assertEquals(List.of(9L, 8L), result.getContent().stream().map(CommentDTO::getId).toList());
+        assertTrue(result.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertFalse(next.isBackward());
+        assertEquals(Sort.Direction.DESC, next.getDirection());
+        assertEquals(8L, next.getId());
+        KeysetCursor prev = KeysetCursor.decode(result.getPrevCursor());
+        assertTrue(prev.isBackward());
+        assertEquals(Sort.Direction.DESC, prev.getDirection());
+        assertEquals(9L, prev.getId());
+    }
+
+    private static Comment commentAt(Long id, LocalDateTime createdAt) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setCreatedAt(createdAt);
+        return comment;
+    }
+
+    @Test
+    void testGetCommentsByTaskIdForeignCursor() {
+        String cursor = new KeysetCursor("updatedAt", Sort.Direction.ASC, "2024-01-02T10:00", 7L).encode();
+
+        assertThrows(InvalidCursorException.class,
+                () -> commentService.getCommentsByTaskId(5L, cursor, 20, Sort.Direction.ASC));
     }
 
     @Test
@@ -70,14 +186,17 @@ class CommentServiceImplTest {
         commentService.deleteComment(1L);
 
         verify(commentRepository, Mockito.times(1)).delete(comment);
+        verify(commentRepository).flush();
+        verify(eventPublisher).publishEvent(CommentChangeEvent.deleted(1L, 5L, 1L));
     }
 
     @Test
     void testDeleteCommentForCurrentUser() {
-        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(commentRepository.findWithUserById(1L)).thenReturn(Optional.of(comment));
 
         commentService.deleteCommentForCurrentUser(1L, user);
 
         verify(commentRepository, Mockito.times(1)).delete(comment);
+        verify(eventPublisher).publishEvent(CommentChangeEvent.deleted(1L, 5L, 1L));
     }
 }
@@ -0,0 +1,123 @@
+package io.chekarev.taskManagementSystem.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.ImportJobDTO;
+import io.chekarev.taskManagementSystem.imports.ImportEntity;
+import io.chekarev.taskManagementSystem.imports.ImportFormat;
+import io.chekarev.taskManagementSystem.imports.ImportJob;
+import io.chekarev.taskManagementSystem.imports.ImportJobRegistry;
+import io.chekarev.taskManagementSystem.imports.ImportProperties;
+import io.chekarev.taskManagementSystem.imports.ImportRejectHandler;
+import io.chekarev.taskManagementSystem.imports.ImportStagingWriter;
+import io.chekarev.taskManagementSystem.repositories.ImportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceImplTest {
+
+    @Mock
+    private ImportRepository importRepository;
+
+    @Mock
+    private ImportStagingWriter stagingWriter;
+
+    @TempDir
+    private Path rejectDirectory;
+
+    private ImportJobRegistry importJobRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private ImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        ImportProperties properties = new ImportProperties();
+        properties.setRejectDirectory(rejectDirectory);
+        importJobRegistry = new ImportJobRegistry(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        importService = new ImportServiceImpl(importRepository, importJobRegistry,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void importRecordsStagesValidRecordsAndWritesRejects() throws IOException {
+        List<String[]> staged = new ArrayList<>();
+        when(importRepository.openStaging(ImportEntity.TASKS)).thenReturn(stagingWriter);
+        doAnswer(invocation -> staged.add(invocation.getArgument(1)))
+                .when(stagingWriter).write(anyLong(), any());
+        when(importRepository.mergeTasks(any())).thenAnswer(invocation -> {
+            invocation.<ImportRejectHandler>getArgument(0).reject(3, "Unknown author email: ghost@example.com");
+            return 1L;
+        });
+
+        ImportJobDTO result = importService.importRecords(ImportEntity.TASKS, ImportFormat.CSV, input(
+                "key,title,status,priority,authorEmail\n"
+                        + "EXT-1,First,PENDING,HIGH,user1@example.com\n"
+                        + ",Second,UNKNOWN,HIGH,user1@example.com\n"
+                        + "EXT-3,Third,COMPLETED,LOW,ghost@example.com\n"));
+
+        assertEquals(ImportJob.Phase.COMPLETED, result.getPhase());
+        assertEquals(3, result.getRecordsRead());
+        assertEquals(2, result.getRecordsRejected());
+        assertEquals(1, result.getRecordsImported());
+        assertEquals(2, staged.size());
+        assertArrayEquals(new String[]{"EXT-1", "First", null, "PENDING", "HIGH", "user1@example.com", null},
+                staged.get(0));
+        verify(stagingWriter).finish();
+        verify(stagingWriter).close();
+        assertEquals("{\"record\":2,\"reason\":\"Invalid status: UNKNOWN\"}\n"
+                        + "{\"record\":3,\"reason\":\"Unknown author email: ghost@example.com\"}\n",
+                Files.readString(importService.getRejectFile(result.getId()).orElseThrow()));
+        assertEquals(1, meterRegistry.get("imports.records").tag("outcome", "imported").counter().count());
+        assertEquals(2, meterRegistry.get("imports.records").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void importRecordsMarksJobFailedAndCancelsCopyWhenStagingFails() {
+        when(importRepository.openStaging(ImportEntity.COMMENTS)).thenReturn(stagingWriter);
+        doThrow(new IllegalStateException("Connection lost"))
+                .when(stagingWriter).write(anyLong(), any());
+
+        assertThrows(IllegalStateException.class, () -> importService.importRecords(ImportEntity.COMMENTS,
+                ImportFormat.NDJSON, input("{\"taskId\":1,\"authorEmail\":\"user1@example.com\",\"text\":\"Hi\"}\n")));
+
+        ImportJobDTO job = importService.getImports().get(0);
+        assertEquals(ImportJob.Phase.FAILED, job.getPhase());
+        assertEquals("Connection lost", job.getError());
+        verify(stagingWriter).close();
+        verify(stagingWriter, never()).finish();
+        verify(importRepository, never()).mergeComments(any());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
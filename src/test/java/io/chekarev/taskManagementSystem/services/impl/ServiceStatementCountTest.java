@@ -0,0 +1,216 @@
+package io.chekarev.taskManagementSystem.services.impl;
+
+import io.chekarev.taskManagementSystem.config.SecondLevelCacheConfig;
+import io.chekarev.taskManagementSystem.domain.dto.CommentDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.entities.Comment;
+import io.chekarev.taskManagementSystem.domain.entities.Task;
+import io.chekarev.taskManagementSystem.domain.entities.User;
+import io.chekarev.taskManagementSystem.domain.mappers.CommentMapperImpl;
+import io.chekarev.taskManagementSystem.domain.mappers.TaskMapperImpl;
+import io.chekarev.taskManagementSystem.models.Role;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.pagination.CountMode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Проверка количества SQL-запросов, которые выполняют методы сервисов задач и комментариев.
+ * <p>
+ * Тест работает на встроенной базе H2 со схемой, созданной по сущностям, и считает подготовленные
+ * JDBC-запросы через статистику Hibernate. Каждая задача и каждый комментарий в данных ссылаются
+ * на разных пользователей, поэтому загрузка связей по одной (N+1) сразу увеличивает количество запросов.
+ * Кэш второго уровня включен с регионами из application.yml, но сущности, созданные в незавершенной
+ * транзакции теста, в него не попадают, поэтому на количество запросов он не влияет.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({TaskServiceImpl.class, CommentServiceImpl.class, TaskMapperImpl.class, CommentMapperImpl.class,
+        SecondLevelCacheConfig.class})
+@DisplayName("Количество SQL-запросов методов сервисов")
+class ServiceStatementCountTest {
+
+    private static final int USERS = 20;
+    private static final int TASKS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private CommentServiceImpl commentService;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Comment> comments = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("password");
+            user.setName("User " + i);
+            user.setRole(Role.USER);
+            users.add(entityManager.persist(user));
+        }
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.HIGH);
+            task.setAuthor(users.get(i));
+            task.setAssignee(users.get((i + 1) % USERS));
+            tasks.add(entityManager.persist(task));
+        }
+        for (int i = 0; i < USERS; i++) {
+            Comment comment = new Comment();
+            comment.setTask(tasks.get(0));
+            comment.setUser(users.get(i));
+            comment.setText("Comment " + i);
+            comments.add(entityManager.persist(comment));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("[getAllTasks] Страница задач выбирается одним запросом без загрузки пользователей")
+    void getAllTasks() {
+        taskService.getAllTasks(PageRequest.of(0, 50), CountMode.EXACT, null, null, null, null);
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("[getAllTasks] Для неполной выборки выполняется запрос страницы и подсчет")
+    void getAllTasksWithCount() {
+        taskService.getAllTasks(PageRequest.of(0, 5), CountMode.EXACT, "PENDING", null, null, null);
+
+        assertStatements(2);
+    }
+
+    @Test
+    @DisplayName("[getAllTasks] Без подсчета количества страница выбирается одним запросом")
+    void getAllTasksWithoutCount() {
+        taskService.getAllTasks(PageRequest.of(0, 5), CountMode.NONE, "PENDING", null, null, null);
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("[getAllTasksByCursor] Страница задач по курсору выбирается одним запросом")
+    void getAllTasksByCursor() {
+        taskService.getAllTasksByCursor(null, 10, "id", Sort.Direction.ASC, null, null, null, null);
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("[getTaskById] Задача выбирается одним запросом")
+    void getTaskById() {
+        taskService.getTaskById(tasks.get(3).getId());
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("[getTasksForCurrentUser] Задачи пользователя выбираются одним запросом")
+    void getTasksForCurrentUser() {
+        taskService.getTasksForCurrentUser(users.get(1).getId(), PageRequest.of(0, 20));
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("[updateTask] Обновление задачи выполняет выборку задачи и UPDATE")
+    void updateTask() {
+        Task task = tasks.get(5);
+        TaskDTO taskDTO = new TaskDTO(task.getId(), "Updated", "Updated description",
+                TaskStatus.COMPLETED, TaskPriority.LOW, null, null, null);
+
+        taskService.updateTask(task.getId(), taskDTO);
+        entityManager.flush();
+
+        assertStatements(2);
+    }
+
+    @Test
+    @DisplayName("[deleteTask] Удаление задачи выполняет выборку задачи и DELETE")
+    void deleteTask() {
+        taskService.deleteTask(tasks.get(7).getId());
+        entityManager.flush();
+
+        assertStatements(2);
+    }
+
+    @Test
+    @DisplayName("[addComment] Комментарий к задаче с версией сохраняется без загрузки задачи")
+    void addComment() {
+        Task task = tasks.get(2);
+        CommentDTO commentDTO = new CommentDTO();
+        commentDTO.setText("New comment");
+        commentDTO.setTaskId(task.getId());
+        commentDTO.setUserId(users.get(3).getId());
+
+        CommentDTO added = commentService.addComment(commentDTO);
+        entityManager.flush();
+
+        assertStatements(1);
+        entityManager.clear();
+        assertEquals(task.getId(), entityManager.find(Comment.class, added.getId()).getTask().getId());
+    }
+
+    @Test
+    @DisplayName("[getCommentsByTaskId] Страница комментариев выбирается одним запросом")
+    void getCommentsByTaskId() {
+        commentService.getCommentsByTaskId(tasks.get(0).getId(), null, 50, Sort.Direction.DESC);
+
+        assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("[deleteCommentForCurrentUser] Комментарий загружается вместе с автором одним запросом")
+    void deleteCommentForCurrentUser() {
+        Comment comment = comments.get(4);
+
+        commentService.deleteCommentForCurrentUser(comment.getId(), users.get(4));
+        entityManager.flush();
+
+        assertStatements(2);
+    }
+
+    private void assertStatements(long expected) {
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Unexpected number of SQL statements, queries: " + List.of(statistics.getQueries()));
+    }
+}
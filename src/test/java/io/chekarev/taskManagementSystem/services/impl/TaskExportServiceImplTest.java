@@ -0,0 +1,107 @@
+package io.chekarev.taskManagementSystem.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.export.TaskExportFormat;
+import io.chekarev.taskManagementSystem.export.TaskExportProperties;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskExportServiceImpl taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        TaskExportProperties properties = new TaskExportProperties();
+        properties.setFetchSize(100);
+        properties.setBufferSize(16);
+        taskExportService = new TaskExportServiceImpl(taskRepository, properties, new ObjectMapper());
+    }
+
+    @Test
+    void exportTasksWritesOneJsonObjectPerLine() {
+        when(taskRepository.streamAllDto(any(), eq(Sort.by("id")), eq(100)))
+                .thenReturn(Stream.of(task(1L, "First", null), task(2L, "Second", "Text")));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long count = taskExportService.exportTasks(TaskExportFormat.NDJSON, outputStream, "PENDING", null, null, null);
+
+        assertEquals(2, count);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"title\":\"First\""));
+        assertTrue(lines[1].startsWith("{\"id\":2,\"title\":\"Second\""));
+    }
+
+    @Test
+    void exportTasksQuotesCsvValuesWithSeparators() {
+        when(taskRepository.streamAllDto(any(), eq(Sort.by("id")), eq(100)))
+                .thenReturn(Stream.of(task(1L, "Plain", null), task(2L, "Title, with comma", "Says \"hi\"\nand more")));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        taskExportService.exportTasks(TaskExportFormat.CSV, outputStream, null, null, null, null);
+
+        assertEquals("id,title,description,status,priority,authorId,assigneeId,version\r\n"
+                        + "1,Plain,,PENDING,HIGH,1,,0\r\n"
+                        + "2,\"Title, with comma\",\"Says \"\"hi\"\"\nand more\",PENDING,HIGH,1,,0\r\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportTasksStopsReadingAndClosesCursorWhenClientDisconnects() {
+        AtomicInteger read = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<TaskDTO> tasks = Stream.iterate(1L, id -> id + 1)
+                .map(id -> {
+                    read.incrementAndGet();
+                    return task(id, "Task " + id, null);
+                })
+                .onClose(() -> closed.set(true));
+        when(taskRepository.streamAllDto(any(), any(), eq(100))).thenReturn(tasks);
+
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(UncheckedIOException.class, () ->
+                taskExportService.exportTasks(TaskExportFormat.NDJSON, disconnected, null, null, null, null));
+        assertTrue(closed.get());
+        // Бесконечный поток прерван: прочитаны только строки, поместившиеся в буфер записи до первой ошибки
+        assertTrue(read.get() < 1000, "Rows read after disconnect: " + read.get());
+    }
+
+    private static TaskDTO task(Long id, String title, String description) {
+        return new TaskDTO(id, title, description, TaskStatus.PENDING, TaskPriority.HIGH, 1L, null, 0L);
+    }
+}
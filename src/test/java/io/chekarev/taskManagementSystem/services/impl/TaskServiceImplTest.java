@@ -1,11 +1,28 @@
 package io.chekarev.taskManagementSystem.services.impl;
 
+import io.chekarev.taskManagementSystem.domain.dto.CursorPage;
+import io.chekarev.taskManagementSystem.domain.dto.TaskBulkResultDTO;
 import io.chekarev.taskManagementSystem.domain.dto.TaskDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskPatchDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskSearchResultDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskVersionDTO;
 import io.chekarev.taskManagementSystem.domain.entities.Task;
+import io.chekarev.taskManagementSystem.domain.entities.User;
 import io.chekarev.taskManagementSystem.domain.mappers.TaskMapper;
+import io.chekarev.taskManagementSystem.events.TaskChangeEvent;
+import io.chekarev.taskManagementSystem.exceptions.InvalidCursorException;
 import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
+import io.chekarev.taskManagementSystem.exceptions.TaskVersionConflictException;
+import io.chekarev.taskManagementSystem.pagination.CountMode;
+import io.chekarev.taskManagementSystem.pagination.EstimatedPage;
+import io.chekarev.taskManagementSystem.pagination.KeysetCursor;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
 import io.chekarev.taskManagementSystem.repositories.TaskRepository;
+import io.chekarev.taskManagementSystem.repositories.UserRepository;
 import io.chekarev.taskManagementSystem.specifications.TaskSpecification;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,8 +30,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,9 +58,21 @@ class TaskServiceImplTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -53,6 +100,7 @@ class TaskServiceImplTest {
 
         assertNotNull(result);
         assertEquals(taskDTO.getTitle(), result.getTitle());
+        verify(eventPublisher).publishEvent(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, taskDTO));
     }
 
     @Test
@@ -73,10 +121,64 @@ class TaskServiceImplTest {
         assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(1L));
     }
 
+    @Test
+    void testGetTaskVersion() {
+        TaskVersionDTO version = new TaskVersionDTO(2L, LocalDateTime.now());
+        when(taskRepository.findVersionById(1L)).thenReturn(java.util.Optional.of(version));
+
+        assertEquals(version, taskService.getTaskVersion(1L));
+        verify(taskRepository, never()).findById(1L);
+    }
+
+    @Test
+    void testGetTaskVersionNotFound() {
+        when(taskRepository.findVersionById(1L)).thenReturn(java.util.Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskVersion(1L));
+    }
+
+    @Test
+    void testPatchTask() {
+        TaskPatchDTO patch = new TaskPatchDTO(null, null, TaskStatus.COMPLETED, null);
+        when(taskRepository.patch(eq(1L), eq(3L), eq(patch), any())).thenReturn(java.util.Optional.of(taskDTO));
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+
+        TaskDTO result = taskService.patchTask(1L, 3L, patch);
+
+        assertEquals(taskDTO, result);
+        verify(cache).evict(Task.class, 1L);
+        verify(eventPublisher).publishEvent(TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, taskDTO));
+        verify(taskRepository, never()).findById(1L);
+    }
+
+    @Test
+    void testPatchTaskVersionConflict() {
+        TaskPatchDTO patch = new TaskPatchDTO(null, null, TaskStatus.COMPLETED, null);
+        when(taskRepository.patch(eq(1L), eq(3L), eq(patch), any())).thenReturn(java.util.Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(java.util.Optional.of(new TaskVersionDTO(4L, LocalDateTime.now())));
+
+        assertThrows(TaskVersionConflictException.class, () -> taskService.patchTask(1L, 3L, patch));
+        verify(entityManagerFactory, never()).getCache();
+    }
+
+    @Test
+    void testPatchTaskNotFound() {
+        TaskPatchDTO patch = new TaskPatchDTO("New title", null, null, null);
+        when(taskRepository.patch(eq(1L), eq(3L), eq(patch), any())).thenReturn(java.util.Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(java.util.Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.patchTask(1L, 3L, patch));
+    }
+
+    @Test
+    void testPatchTaskEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L, 3L, new TaskPatchDTO()));
+    }
+
     @Test
     void testUpdateTask() {
         when(taskRepository.findById(1L)).thenReturn(java.util.Optional.of(task));
-        when(taskRepository.save(task)).thenReturn(task);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
         when(taskMapper.toDto(task)).thenReturn(taskDTO);
 
         TaskDTO result = taskService.updateTask(1L, taskDTO);
@@ -87,10 +189,258 @@ class TaskServiceImplTest {
 
     @Test
     void testDeleteTask() {
+        User author = new User();
+        author.setId(5L);
+        task.setAuthor(author);
         when(taskRepository.findById(1L)).thenReturn(java.util.Optional.of(task));
 
         taskService.deleteTask(1L);
 
         Mockito.verify(taskRepository, Mockito.times(1)).delete(task);
+        verify(taskRepository).flush();
+        verify(eventPublisher).publishEvent(TaskChangeEvent.deleted(1L, 5L, null));
+    }
+
+    @Test
+    void testGetTasksForCurrentUser() {
+        Pageable expectedPageable = PageRequest.of(1, 10, Sort.by("id"));
+        when(taskRepository.findByParticipantId(2L, expectedPageable))
+                .thenReturn(new PageImpl<>(List.of(taskDTO), expectedPageable, 11));
+
+        Page<TaskDTO> result = taskService.getTasksForCurrentUser(2L, PageRequest.of(1, 10));
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(11, result.getTotalElements());
+        assertEquals(taskDTO.getTitle(), result.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void testGetTasksForCurrentUserKeepsRequestedSort() {
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(taskRepository.findByParticipantId(2L, pageable)).thenReturn(Page.empty(pageable));
+
+        Page<TaskDTO> result = taskService.getTasksForCurrentUser(2L, pageable);
+
+        assertTrue(result.isEmpty());
+        Mockito.verify(taskRepository).findByParticipantId(2L, pageable);
+    }
+
+    @Test
+    void testGetAllTasks() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(taskRepository.findAllDto(any(Specification.class), Mockito.eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(taskDTO), pageable, 1));
+
+        Page<TaskDTO> result = (Page<TaskDTO>) taskService.getAllTasks(pageable, CountMode.EXACT, "PENDING", null, "1", null);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(taskDTO.getTitle(), result.getContent().get(0).getTitle());
+        Mockito.verifyNoInteractions(taskMapper);
+    }
+
+    @Test
+    void testGetAllTasksWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<TaskDTO> slice = new SliceImpl<>(List.of(taskDTO), pageable, true);
+        when(taskRepository.findSliceDto(any(Specification.class), Mockito.eq(pageable))).thenReturn(slice);
+
+        Slice<TaskDTO> result = taskService.getAllTasks(pageable, CountMode.NONE, null, null, null, null);
+
+        assertSame(slice, result);
+        verify(taskRepository, never()).count(any(Specification.class));
+        verify(taskRepository, never()).estimateCount(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetAllTasksWithApproximateCount() {
+        Pageable pageable = PageRequest.of(2, 1);
+        when(taskRepository.findSliceDto(any(Specification.class), Mockito.eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(taskDTO), pageable, true));
+        when(taskRepository.estimateCount("PENDING", null, null, null)).thenReturn(250_000L);
+
+        Slice<TaskDTO> result = taskService.getAllTasks(pageable, CountMode.APPROXIMATE, "PENDING", null, null, null);
+
+        assertTrue(result instanceof EstimatedPage);
+        assertEquals(250_000, ((Page<TaskDTO>) result).getTotalElements());
+        verify(taskRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void testGetAllTasksWithApproximateCountFallsBackToExactForSmallEstimate() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(taskRepository.findSliceDto(any(Specification.class), Mockito.eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(taskDTO), pageable, true));
+        when(taskRepository.estimateCount(null, null, null, null)).thenReturn(120L);
+        when(taskRepository.count(any(Specification.class))).thenReturn(117L);
+
+        Slice<TaskDTO> result = taskService.getAllTasks(pageable, CountMode.APPROXIMATE, null, null, null, null);
+
+        assertFalse(result instanceof EstimatedPage);
+        assertEquals(117, ((Page<TaskDTO>) result).getTotalElements());
+    }
+
+    @Test
+    void testGetAllTasksWithApproximateCountOnLastPageSkipsEstimate() {
+        Pageable pageable = PageRequest.of(3, 10);
+        when(taskRepository.findSliceDto(any(Specification.class), Mockito.eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(taskDTO), pageable, false));
+
+        Slice<TaskDTO> result = taskService.getAllTasks(pageable, CountMode.APPROXIMATE, null, null, null, null);
+
+        assertEquals(31, ((Page<TaskDTO>) result).getTotalElements());
+        verify(taskRepository, never()).estimateCount(any(), any(), any(), any());
+    }
+
+    @Test
+    void testSearchTasksReturnsNextCursor() {
+        TaskSearchResultDTO first = new TaskSearchResultDTO(taskDTO, 0.6f, "<mark>Test</mark> Task");
+        TaskDTO secondTask = new TaskDTO(7L, "Test Task 2", null, TaskStatus.PENDING, TaskPriority.HIGH, 1L, null, null);
+        TaskSearchResultDTO second = new TaskSearchResultDTO(secondTask, 0.3f, "<mark>Test</mark> Task 2");
+        when(taskRepository.search("test", null, null, 2, "PENDING", null, null, null))
+                .thenReturn(List.of(first, second));
+
+        CursorPage<TaskSearchResultDTO> page = taskService.searchTasks("test", null, 1, "PENDING", null, null, null);
+
+        assertEquals(1, page.getSize());
+        assertTrue(page.isHasNext());
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor());
+        assertEquals("rank", cursor.getSort());
+        assertEquals("0.6", cursor.getValue());
+        assertEquals(taskDTO.getId(), cursor.getId());
+
+        when(taskRepository.search("test", 0.6f, taskDTO.getId(), 2, null, null, null, null))
+                .thenReturn(List.of(second));
+
+        CursorPage<TaskSearchResultDTO> nextPage = taskService.searchTasks("test", page.getNextCursor(), 1, null, null, null, null);
+
+        assertFalse(nextPage.isHasNext());
+        assertNull(nextPage.getNextCursor());
+        assertEquals(7L, nextPage.getContent().get(0).getTask().getId());
+    }
+
+    @Test
+    void testSearchTasksRejectsBlankQueryAndForeignCursor() {
+        String foreignCursor = new KeysetCursor("id", Sort.Direction.ASC, "5", 5L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks(" ", null, 20, null, null, null, null));
+        assertThrows(InvalidCursorException.class, () -> taskService.searchTasks("test", foreignCursor, 20, null, null, null, null));
+        Mockito.verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testSearchTasksRejectsCursorWithoutRank() {
+        String cursor = new KeysetCursor("rank", Sort.Direction.DESC, null, 5L).encode();
+
+        assertThrows(InvalidCursorException.class, () -> taskService.searchTasks("test", cursor, 20, null, null, null, null));
+        Mockito.verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetAllTasksByCursorReturnsNextCursor() {
+        Task second = new Task();
+        second.setId(2L);
+        Task third = new Task();
+        third.setId(3L);
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(List.of(task, second, third));
+        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDTO);
+
+        CursorPage<TaskDTO> result = taskService.getAllTasksByCursor(null, 2, "id", Sort.Direction.ASC,
+                null, null, null, null);
+
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor());
+        assertEquals("id", next.getSort());
+        assertEquals(Sort.Direction.ASC, next.getDirection());
+        assertEquals(2L, next.getId());
+    }
+
+    @Test
+    void testGetAllTasksByCursorLastPage() {
+        String cursor = new KeysetCursor("id", Sort.Direction.DESC, "5", 5L).encode();
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(List.of(task));
+        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+
+        CursorPage<TaskDTO> result = taskService.getAllTasksByCursor(cursor, 20, "id", Sort.Direction.ASC,
+                null, null, null, null);
+
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetAllTasksByCursorInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> taskService.getAllTasksByCursor("not-a-cursor", 20, "id",
+                Sort.Direction.ASC, null, null, null, null));
+        String backwardCursor = new KeysetCursor("id", Sort.Direction.ASC, "5", 5L, true).encode();
+        assertThrows(InvalidCursorException.class, () -> taskService.getAllTasksByCursor(backwardCursor, 20, "id",
+                Sort.Direction.ASC, null, null, null, null));
+    }
+
+    @Test
+    void testGetAllTasksByCursorRejectsCursorWithoutSortValue() {
+        String cursor = new KeysetCursor("createdAt", Sort.Direction.ASC, null, 5L).encode();
+
+        assertNull(KeysetCursor.decode(cursor).getValue());
+        assertThrows(InvalidCursorException.class, () -> taskService.getAllTasksByCursor(cursor, 20, "id",
+                Sort.Direction.ASC, null, null, null, null));
+        Mockito.verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testSaveTasksInBulk() {
+        TaskDTO newTask = bulkTask(null, "New Task", 1L, null);
+        TaskDTO update = bulkTask(1L, "Updated Task", null, null);
+        TaskDTO missing = bulkTask(99L, "Missing Task", null, null);
+        TaskDTO unknownAuthor = bulkTask(null, "Orphan Task", 7L, null);
+        TaskDTO invalid = bulkTask(null, " ", 1L, null);
+
+        Task created = new Task();
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task));
+        when(userRepository.findExistingIds(any())).thenReturn(List.of(1L));
+        when(taskMapper.toEntity(newTask)).thenReturn(created);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            created.setId(51L);
+            return List.of(created);
+        });
+        TaskDTO createdDTO = bulkTask(51L, "New Task", 1L, null);
+        when(taskMapper.toDto(created)).thenReturn(createdDTO);
+        when(taskMapper.toDto(task)).thenReturn(taskDTO);
+
+        List<TaskBulkResultDTO> results = taskService.saveTasksInBulk(List.of(newTask, update, missing, unknownAuthor, invalid));
+
+        assertEquals(5, results.size());
+        assertEquals(TaskBulkResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(51L, results.get(0).getId());
+        assertNull(created.getAssignee());
+        assertEquals(TaskBulkResultDTO.Status.UPDATED, results.get(1).getStatus());
+        assertEquals("Updated Task", task.getTitle());
+        assertEquals(TaskBulkResultDTO.Status.NOT_FOUND, results.get(2).getStatus());
+        assertEquals(TaskBulkResultDTO.Status.INVALID, results.get(3).getStatus());
+        assertEquals("User not found with id: 7", results.get(3).getError());
+        assertEquals(TaskBulkResultDTO.Status.INVALID, results.get(4).getStatus());
+        assertEquals(4, results.get(4).getIndex());
+        verify(eventPublisher).publishEvent(TaskChangeEvent.of(TaskChangeEvent.Type.CREATED, createdDTO));
+        verify(eventPublisher).publishEvent(TaskChangeEvent.of(TaskChangeEvent.Type.UPDATED, taskDTO));
+    }
+
+    @Test
+    void testSaveTasksInBulkTooLarge() {
+        List<TaskDTO> tasks = Collections.nCopies(1001, taskDTO);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.saveTasksInBulk(tasks));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    private TaskDTO bulkTask(Long id, String title, Long authorId, Long assigneeId) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(id);
+        dto.setTitle(title);
+        dto.setStatus(TaskStatus.PENDING);
+        dto.setPriority(TaskPriority.HIGH);
+        dto.setAuthorId(authorId);
+        dto.setAssigneeId(assigneeId);
+        return dto;
     }
 }
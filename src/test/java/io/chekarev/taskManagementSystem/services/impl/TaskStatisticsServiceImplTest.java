@@ -0,0 +1,63 @@
+package io.chekarev.taskManagementSystem.services.impl;
+
+import io.chekarev.taskManagementSystem.domain.dto.TaskAssigneeCountDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskGroupCountDTO;
+import io.chekarev.taskManagementSystem.domain.dto.TaskStatisticsDTO;
+import io.chekarev.taskManagementSystem.models.TaskPriority;
+import io.chekarev.taskManagementSystem.models.TaskStatus;
+import io.chekarev.taskManagementSystem.repositories.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskStatisticsServiceImpl taskStatisticsService;
+
+    @Test
+    void getStatisticsSumsGroupsByEachDimension() {
+        when(taskRepository.countByGroup()).thenReturn(List.of(
+                new TaskGroupCountDTO(TaskStatus.PENDING, TaskPriority.HIGH, 1L, 3),
+                new TaskGroupCountDTO(TaskStatus.PENDING, TaskPriority.LOW, 2L, 5),
+                new TaskGroupCountDTO(TaskStatus.COMPLETED, TaskPriority.HIGH, null, 2),
+                new TaskGroupCountDTO(TaskStatus.COMPLETED, TaskPriority.HIGH, 2L, 1)));
+
+        TaskStatisticsDTO statistics = taskStatisticsService.getStatistics();
+
+        assertEquals(11, statistics.getTotal());
+        assertEquals(8L, statistics.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(0L, statistics.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(3L, statistics.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(6L, statistics.getByPriority().get(TaskPriority.HIGH));
+        assertEquals(0L, statistics.getByPriority().get(TaskPriority.MEDIUM));
+        assertEquals(5L, statistics.getByPriority().get(TaskPriority.LOW));
+        assertEquals(List.of(
+                new TaskAssigneeCountDTO(2L, 6),
+                new TaskAssigneeCountDTO(1L, 3),
+                new TaskAssigneeCountDTO(null, 2)), statistics.getByAssignee());
+    }
+
+    @Test
+    void getStatisticsReturnsZerosWithoutTasks() {
+        when(taskRepository.countByGroup()).thenReturn(List.of());
+
+        TaskStatisticsDTO statistics = taskStatisticsService.getStatistics();
+
+        assertEquals(0, statistics.getTotal());
+        assertEquals(3, statistics.getByStatus().size());
+        assertEquals(0L, statistics.getByPriority().get(TaskPriority.HIGH));
+        assertEquals(List.of(), statistics.getByAssignee());
+    }
+}
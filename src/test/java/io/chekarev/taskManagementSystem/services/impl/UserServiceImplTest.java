@@ -1,5 +1,6 @@
 package io.chekarev.taskManagementSystem.services.impl;
 
+import io.chekarev.taskManagementSystem.auth.UserPrincipalCache;
 import io.chekarev.taskManagementSystem.domain.entities.User;
 import io.chekarev.taskManagementSystem.exceptions.ResourceNotFoundException;
 import io.chekarev.taskManagementSystem.repositories.UserRepository;
@@ -19,6 +20,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -61,6 +65,8 @@ class UserServiceImplTest {
 
         assertNotNull(result);
         assertEquals(updatedUser.getEmail(), result.getEmail());
+        Mockito.verify(principalCache).evict("test@example.com");
+        Mockito.verify(principalCache).evict("updated@example.com");
     }
 
     @Test
@@ -70,5 +76,6 @@ class UserServiceImplTest {
         userService.deleteUser(1L);
 
         Mockito.verify(userRepository, Mockito.times(1)).delete(user);
+        Mockito.verify(principalCache).evict("test@example.com");
     }
 }